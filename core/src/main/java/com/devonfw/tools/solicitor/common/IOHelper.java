@@ -4,6 +4,7 @@
 package com.devonfw.tools.solicitor.common;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -46,6 +47,28 @@ public class IOHelper {
     }
   }
 
+  /**
+   * Reads the complete content of the given {@link java.io.InputStream} into a byte array.
+   *
+   * @param inp the InputStream to read from
+   * @return the read bytes
+   * @throws java.io.IOException if any IOExcption occurs
+   */
+  public static byte[] readBytesFromInputStream(InputStream inp) throws IOException {
+
+    if (inp != null) {
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      int len;
+      while ((len = inp.read(buffer)) >= 0) {
+        result.write(buffer, 0, len);
+      }
+      return result.toByteArray();
+    } else {
+      throw new NullPointerException("Given InputStream must not be null");
+    }
+  }
+
   /**
    * Assure that the directory in which the given file should be located exists. Try to create the directory if it does
    * not yet exist.
@@ -32,21 +32,42 @@ public final class LicenseTextHelper {
    */
   public static String replaceLongHtmlContent(String rawContent) {
 
-    if (rawContent == null || rawContent.isEmpty()) {
-      return rawContent;
-    }
-    if (rawContent.length() > LARGE_HTML_CONTENT_SIZE_LIMIT && rawContent.toLowerCase().contains("</html>")) {
-      if (!replacingHtmlWarningLogged) {
-        replacingHtmlWarningLogged = true;
-        LOG.warn(LogMessages.REPLACING_EXCESSIVE_HTML_CONTENT.msg(), LARGE_HTML_CONTENT_PLACEHOLDER);
-      }
-      return LARGE_HTML_CONTENT_PLACEHOLDER;
+    if (isLongHtmlContent(rawContent)) {
+      return longHtmlContentPlaceholder();
     } else {
       return rawContent;
     }
 
   }
 
+  /**
+   * Checks if the given content is long raw html content which should be replaced by a short note.
+   *
+   * @param rawContent the content
+   * @return <code>true</code> if the content is a large html content, <code>false</code> otherwise
+   * @see #replaceLongHtmlContent(String)
+   */
+  public static boolean isLongHtmlContent(String rawContent) {
+
+    return rawContent != null && rawContent.length() > LARGE_HTML_CONTENT_SIZE_LIMIT
+        && rawContent.toLowerCase().contains("</html>");
+  }
+
+  /**
+   * Gets the short note which replaces long raw html content. A warning is logged when this is called the first time.
+   *
+   * @return the note
+   * @see #replaceLongHtmlContent(String)
+   */
+  public static String longHtmlContentPlaceholder() {
+
+    if (!replacingHtmlWarningLogged) {
+      replacingHtmlWarningLogged = true;
+      LOG.warn(LogMessages.REPLACING_EXCESSIVE_HTML_CONTENT.msg(), LARGE_HTML_CONTENT_PLACEHOLDER);
+    }
+    return LARGE_HTML_CONTENT_PLACEHOLDER;
+  }
+
   /**
    * Checks if the lines of the given text exceed the max allowed width. If yes the wrap the text to the given width. If
    * not then return the original text.
@@ -120,7 +120,17 @@ public enum LogMessages {
           + "template source '{}' will be skipped for this reporting group"), //
   REPORTING_GROUP_FILTER_EXPRESSION_SET_TO_NONDEFAULT(79,
       "The filter expression for reporting groups to be processed is set to a non default value: '{}'"), //
-  REPORTING_GROUPS_DETECTED(80, "The following reporting groups are defined in this project: {} ");
+  REPORTING_GROUPS_DETECTED(80, "The following reporting groups are defined in this project: {} "), //
+  COMPONENT_INFO_PARALLEL(81, "Fetching ComponentInfo data for ApplicationComponents using {} threads"), //
+  SCANCODE_CACHE_FAILED(82,
+      "Could not access the cached filtered Scancode data in file '{}' ({}). Scancode data will be processed without cache."), //
+  DRL_CACHE_FAILED(83, "Could not write the generated rules to the cache file '{}' ({}). The rules will be regenerated next time."), //
+  RULE_GROUPS_COMPILING_PARALLEL(84, "Compiling {} rule groups using {} threads"), //
+  RULES_EXECUTING_PARTITIONED(85, "Executing rules partitioned by Application using {} threads"), //
+  RULE_GROUP_PROFILE(86, "Profile of rule group '{}' (top {} rules by consequence time):\n{}"), //
+  PREFETCHING_LICENSE_TEXTS(87, "Prefetching license texts: {} license URLs guessed, prefetching {} license texts using {} threads"), //
+  PREFETCHING_LICENSE_TEXTS_FINISHED(88, "Prefetching of license texts finished in {} ms"), //
+  RULE_PROFILE_WRITE_FAILED(89, "Could not write rule profiling information to file '{}'");
 
   private final String message;
 
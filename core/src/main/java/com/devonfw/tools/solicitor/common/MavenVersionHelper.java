@@ -3,6 +3,9 @@
  */
 package com.devonfw.tools.solicitor.common;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
 import org.apache.maven.artifact.versioning.VersionRange;
@@ -12,6 +15,18 @@ import org.apache.maven.artifact.versioning.VersionRange;
  */
 public class MavenVersionHelper {
 
+  /**
+   * Maximum number of parsed version ranges held in {@link #VERSION_RANGE_CACHE}.
+   */
+  static final int MAX_VERSION_RANGE_CACHE_SIZE = 10000;
+
+  /**
+   * Cache of parsed version ranges. The same range specs are typically checked many times (e.g. from decision tables),
+   * possibly from multiple threads concurrently, so reading from the cache does not lock. The cache is bounded; if it
+   * is full it is cleared.
+   */
+  static final Map<String, VersionRange> VERSION_RANGE_CACHE = new ConcurrentHashMap<>();
+
   /**
    * Private constructor. Only provides static methods.
    */
@@ -30,13 +45,30 @@ public class MavenVersionHelper {
   public static boolean checkVersionRange(final String version, final String expectedVersionRange) {
 
     DefaultArtifactVersion solicitorVersion = new DefaultArtifactVersion(version);
-    VersionRange allowedRange;
-    try {
-      allowedRange = VersionRange.createFromVersionSpec(expectedVersionRange);
-    } catch (InvalidVersionSpecificationException e) {
-      throw new SolicitorRuntimeException(e);
+    return versionRange(expectedVersionRange).containsVersion(solicitorVersion);
+  }
+
+  /**
+   * Gets the parsed {@link VersionRange} for the given spec. Parsed ranges are cached.
+   *
+   * @param versionRangeSpec a version range spec in maven format
+   * @return the parsed version range
+   */
+  private static VersionRange versionRange(String versionRangeSpec) {
+
+    VersionRange versionRange = VERSION_RANGE_CACHE.get(versionRangeSpec);
+    if (versionRange == null) {
+      try {
+        versionRange = VersionRange.createFromVersionSpec(versionRangeSpec);
+      } catch (InvalidVersionSpecificationException e) {
+        throw new SolicitorRuntimeException(e);
+      }
+      if (VERSION_RANGE_CACHE.size() >= MAX_VERSION_RANGE_CACHE_SIZE) {
+        VERSION_RANGE_CACHE.clear();
+      }
+      VERSION_RANGE_CACHE.put(versionRangeSpec, versionRange);
     }
-    return allowedRange.containsVersion(solicitorVersion);
+    return versionRange;
   }
 
 }
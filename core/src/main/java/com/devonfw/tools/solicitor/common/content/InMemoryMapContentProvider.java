@@ -4,16 +4,36 @@
 package com.devonfw.tools.solicitor.common.content;
 
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 
 /**
  * A {@link ContentProvider} which tries to lookup {@link Content} in a local in memory cache.
+ * <p>
+ * This class is thread safe. Concurrent requests for the same URL result in only a single call to the next
+ * {@link ContentProvider}; all requesting threads get the same result. Optionally the total size of the cached content
+ * might be limited; if exceeded, the oldest entries are evicted.
  */
 public class InMemoryMapContentProvider<C extends Content> extends AbstractContentProvider<C> {
 
-  private ContentProvider<C> nextContentProvider;;
+  private ContentProvider<C> nextContentProvider;
 
-  Map<String, C> contentMap = new TreeMap<>();
+  private final Map<String, FutureTask<C>> contentMap = new ConcurrentHashMap<>();
+
+  /**
+   * Keys of the cached entries in the order of caching; used for eviction.
+   */
+  private final Queue<String> cachingOrder = new ConcurrentLinkedQueue<>();
+
+  private final AtomicLong cachedSize = new AtomicLong();
+
+  private long maxCachedSize = 0;
 
   /**
    * Constructor.
@@ -28,6 +48,17 @@ public class InMemoryMapContentProvider<C extends Content> extends AbstractConte
     this.nextContentProvider = nextContentProvider;
   }
 
+  /**
+   * Sets the maximum total size of the cached content. The size of an entry is given by the length of its
+   * {@link Content#asString()} representation.
+   *
+   * @param maxCachedSize the maximum size; 0 (or less) means no limit
+   */
+  public void setMaxCachedSize(long maxCachedSize) {
+
+    this.maxCachedSize = maxCachedSize;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -41,14 +72,73 @@ public class InMemoryMapContentProvider<C extends Content> extends AbstractConte
       return createEmptyContent();
     }
 
-    C result;
-    if (this.contentMap.containsKey(url)) {
-      result = this.contentMap.get(url);
-    } else {
-      result = this.nextContentProvider.getContentForUri(url);
-      this.contentMap.put(url, result);
+    FutureTask<C> task = this.contentMap.get(url);
+    if (task == null) {
+      FutureTask<C> newTask = new FutureTask<>(() -> this.nextContentProvider.getContentForUri(url));
+      task = this.contentMap.putIfAbsent(url, newTask);
+      if (task == null) {
+        // this thread is responsible for loading the content
+        task = newTask;
+        task.run();
+        long size = sizeOf(task);
+        if (size >= 0) {
+          this.cachingOrder.add(url);
+          this.cachedSize.addAndGet(size);
+          possiblyEvict();
+        }
+      }
+    }
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SolicitorRuntimeException("Interrupted when waiting for content of '" + url + "'", e);
+    } catch (ExecutionException e) {
+      // do not cache failures
+      this.contentMap.remove(url, task);
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new SolicitorRuntimeException("Exception when getting content of '" + url + "'", e.getCause());
+    }
+  }
+
+  /**
+   * Evicts the oldest entries until the size of the cached content does not exceed the limit.
+   */
+  private void possiblyEvict() {
+
+    while (this.maxCachedSize > 0 && this.cachedSize.get() > this.maxCachedSize) {
+      String oldest = this.cachingOrder.poll();
+      if (oldest == null) {
+        return;
+      }
+      FutureTask<C> cached = this.contentMap.get(oldest);
+      // entries which are currently (re)loaded are not evicted; they will be queued again when loaded
+      if (cached != null && cached.isDone() && this.contentMap.remove(oldest, cached)) {
+        this.cachedSize.addAndGet(-Math.max(sizeOf(cached), 0));
+      }
+    }
+  }
+
+  /**
+   * Determines the size of the content of the given (completed) task.
+   *
+   * @param task the task
+   * @return the size of the content or <code>-1</code> if the task failed
+   */
+  private long sizeOf(FutureTask<C> task) {
+
+    try {
+      C content = task.get();
+      String string = content != null ? content.asString() : null;
+      return string != null ? string.length() : 0;
+    } catch (InterruptedException | ExecutionException e) {
+      return -1;
     }
-    return result;
   }
 
 }
@@ -4,10 +4,8 @@
 package com.devonfw.tools.solicitor.common.content.web;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.Scanner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,6 +24,8 @@ public class DirectUrlWebContentProvider implements ContentProvider<WebContent>
 
   private boolean skipdownload;
 
+  private final HttpContentFetcher httpContentFetcher;
+
   private static final Pattern SUPPORTED_URL_PATTERNS = Pattern.compile("^http:.*|^https:.*|^jar:http:.*|^jar:https:.*",
       Pattern.CASE_INSENSITIVE);
 
@@ -36,8 +36,19 @@ public class DirectUrlWebContentProvider implements ContentProvider<WebContent>
    */
   public DirectUrlWebContentProvider(boolean skipdownload) {
 
-    this.skipdownload = skipdownload;
+    this(skipdownload, new UrlConnectionHttpContentFetcher());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param skipdownload if set to true, then no download will be performed
+   * @param httpContentFetcher the {@link HttpContentFetcher} used for accessing the URLs
+   */
+  public DirectUrlWebContentProvider(boolean skipdownload, HttpContentFetcher httpContentFetcher) {
 
+    this.skipdownload = skipdownload;
+    this.httpContentFetcher = httpContentFetcher;
   }
 
   /**
@@ -78,10 +89,8 @@ public class DirectUrlWebContentProvider implements ContentProvider<WebContent>
       return new WebContent(null);
     }
 
-    try (InputStream is = webContentUrl.openConnection().getInputStream(); Scanner s = new Scanner(is)) {
-      s.useDelimiter("\\A");
-      String result = s.hasNext() ? s.next() : "";
-
+    try {
+      String result = this.httpContentFetcher.fetch(webContentUrl);
       return new WebContent(possiblyExtractLines(result, lineInfo));
     } catch (IOException e) {
       if (LOG.isDebugEnabled()) {
@@ -0,0 +1,24 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.common.content.web;
+
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * Fetches the content of a given URL via the net. Used by {@link DirectUrlWebContentProvider}; implementations might
+ * be replaced e.g. for testing.
+ */
+public interface HttpContentFetcher {
+
+  /**
+   * Fetches the content of the given URL.
+   *
+   * @param url the URL
+   * @return the content as string
+   * @throws IOException if the content could not be fetched
+   */
+  String fetch(URL url) throws IOException;
+
+}
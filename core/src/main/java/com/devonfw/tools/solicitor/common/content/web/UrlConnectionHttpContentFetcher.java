@@ -0,0 +1,261 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.common.content.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.devonfw.tools.solicitor.common.IOHelper;
+
+/**
+ * A {@link HttpContentFetcher} based on {@link URLConnection}.
+ * <p>
+ * Connect and read timeouts are configurable. Compressed (gzip) responses are requested and decoded. Requests failing
+ * due to a timeout, a connection reset or an HTTP status of 429 or 5xx are retried with exponential backoff. Other
+ * failures (e.g. unknown hosts, refused connections or TLS errors) will not go away by retrying and are reported
+ * immediately. Response bodies are always read completely and closed so that the JDK is able to reuse (keep alive) the
+ * underlying connections.
+ */
+public class UrlConnectionHttpContentFetcher implements HttpContentFetcher {
+
+  private static final Logger LOG = LoggerFactory.getLogger(UrlConnectionHttpContentFetcher.class);
+
+  private static final Pattern CHARSET_PATTERN = Pattern.compile("charset=\"?([^\";\\s]+)", Pattern.CASE_INSENSITIVE);
+
+  private int connectTimeout = 30000;
+
+  private int readTimeout = 60000;
+
+  private int maxRetries = 2;
+
+  private long retryBackoff = 1000;
+
+  /**
+   * Sets the connect timeout.
+   *
+   * @param connectTimeout the timeout in milliseconds; 0 means no timeout
+   */
+  public void setConnectTimeout(int connectTimeout) {
+
+    this.connectTimeout = connectTimeout;
+  }
+
+  /**
+   * Sets the read timeout.
+   *
+   * @param readTimeout the timeout in milliseconds; 0 means no timeout
+   */
+  public void setReadTimeout(int readTimeout) {
+
+    this.readTimeout = readTimeout;
+  }
+
+  /**
+   * Sets the maximum number of retries of a failed request.
+   *
+   * @param maxRetries the maximum number of retries; 0 disables retrying
+   */
+  public void setMaxRetries(int maxRetries) {
+
+    this.maxRetries = maxRetries;
+  }
+
+  /**
+   * Sets the time to wait before the first retry. The time is doubled for each further retry.
+   *
+   * @param retryBackoff the time in milliseconds
+   */
+  public void setRetryBackoff(long retryBackoff) {
+
+    this.retryBackoff = retryBackoff;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String fetch(URL url) throws IOException {
+
+    int attempt = 0;
+    while (true) {
+      try {
+        return fetchOnce(url, attempt < this.maxRetries);
+      } catch (RetryableException e) {
+        LOG.debug("Retrieving content for url '{}' failed with HTTP status {}, retrying", url, e.status);
+      } catch (ClientErrorException e) {
+        // retrying will not help
+        throw e.getCause();
+      } catch (IOException e) {
+        if (attempt >= this.maxRetries || !isRetryable(e)) {
+          throw e;
+        }
+        LOG.debug("Retrieving content for url '{}' failed with {}, retrying", url, e.getClass().getSimpleName());
+      }
+      waitBeforeRetry(url, attempt);
+      attempt++;
+    }
+  }
+
+  /**
+   * Checks if a request which failed with the given exception might succeed when retrying. This is only the case for
+   * timeouts and connection resets. Other failures like {@link java.net.UnknownHostException},
+   * {@link java.net.ConnectException} or {@link javax.net.ssl.SSLException} are not retried.
+   *
+   * @param e the exception
+   * @return <code>true</code> if the request should be retried, <code>false</code> otherwise
+   */
+  static boolean isRetryable(IOException e) {
+
+    if (e instanceof SocketTimeoutException) {
+      return !Thread.currentThread().isInterrupted();
+    }
+    if (e.getClass() == SocketException.class) {
+      String message = e.getMessage();
+      return message != null && message.startsWith("Connection reset");
+    }
+    return false;
+  }
+
+  /**
+   * Performs a single request.
+   *
+   * @param url the URL
+   * @param retryPossible if <code>true</code> a {@link RetryableException} is thrown for responses which might
+   *        succeed when retrying
+   * @return the content
+   * @throws IOException if the content could not be fetched
+   */
+  private String fetchOnce(URL url, boolean retryPossible) throws IOException {
+
+    URLConnection connection = url.openConnection();
+    connection.setConnectTimeout(this.connectTimeout);
+    connection.setReadTimeout(this.readTimeout);
+    boolean gzipped = false;
+    if (connection instanceof HttpURLConnection) {
+      HttpURLConnection httpConnection = (HttpURLConnection) connection;
+      // only HTTP supports a content encoding; for other protocols (e.g. "jar:http:") the request property would be
+      // passed to the nested HTTP connection and decoding would be wrongly applied to the content of the jar entry
+      httpConnection.setRequestProperty("Accept-Encoding", "gzip");
+      int status = httpConnection.getResponseCode();
+      if (status >= 400) {
+        discard(httpConnection.getErrorStream());
+        boolean temporary = status == 429 || status >= 500;
+        if (temporary && retryPossible) {
+          throw new RetryableException(status);
+        }
+        if (!temporary) {
+          try {
+            // throws the appropriate exception for the status code
+            httpConnection.getInputStream().close();
+          } catch (IOException e) {
+            throw new ClientErrorException(e);
+          }
+        }
+      }
+      gzipped = "gzip".equalsIgnoreCase(httpConnection.getContentEncoding());
+    }
+    // for failure status codes this throws the appropriate exception
+    try (InputStream is = connection.getInputStream(); InputStream decoded = gzipped ? new GZIPInputStream(is) : is) {
+      return new String(IOHelper.readBytesFromInputStream(decoded), charsetOf(connection.getContentType()));
+    }
+  }
+
+  /**
+   * Reads and closes the given stream to allow reuse of the connection.
+   *
+   * @param stream the stream, might be <code>null</code>
+   */
+  private void discard(InputStream stream) {
+
+    if (stream == null) {
+      return;
+    }
+    try (InputStream is = stream) {
+      IOHelper.readBytesFromInputStream(is);
+    } catch (IOException e) {
+      // connection will not be reused
+    }
+  }
+
+  private void waitBeforeRetry(URL url, int attempt) throws IOException {
+
+    try {
+      Thread.sleep(this.retryBackoff << Math.min(attempt, 16));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted when waiting to retry url '" + url + "'");
+    }
+  }
+
+  /**
+   * Determines the charset from the given content type. Defaults to UTF-8.
+   *
+   * @param contentType the content type, might be <code>null</code>
+   * @return the charset
+   */
+  static Charset charsetOf(String contentType) {
+
+    if (contentType != null) {
+      Matcher matcher = CHARSET_PATTERN.matcher(contentType);
+      if (matcher.find()) {
+        try {
+          return Charset.forName(matcher.group(1));
+        } catch (IllegalArgumentException e) {
+          // unknown or illegal charset: use default
+        }
+      }
+    }
+    return StandardCharsets.UTF_8;
+  }
+
+  /**
+   * Indicates a response status which might succeed when retrying.
+   */
+  private static class RetryableException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    RetryableException(int status) {
+
+      super("HTTP status " + status);
+      this.status = status;
+    }
+  }
+
+  /**
+   * Wraps the exception caused by a client error (HTTP status 4xx), which will not be retried.
+   */
+  private static class ClientErrorException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    ClientErrorException(IOException cause) {
+
+      super(cause);
+    }
+
+    @Override
+    public synchronized IOException getCause() {
+
+      return (IOException) super.getCause();
+    }
+  }
+
+}
@@ -1,6 +1,16 @@
 package com.devonfw.tools.solicitor.componentinfo;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,6 +82,8 @@ public class ComponentInfoInventoryProcessor implements InventoryProcessor {
 
   private String curationDataSelector;
 
+  private int threads = 1;
+
   /**
    * Set the curationDataSelector.
    *
@@ -90,6 +102,17 @@ public class ComponentInfoInventoryProcessor implements InventoryProcessor {
     }
   }
 
+  /**
+   * Sets the number of threads used for fetching the {@link ComponentInfo}.
+   *
+   * @param threads the number of threads. A value of 1 (or less) results in sequential processing.
+   */
+  @Value("${solicitor.componentinfo.threads:1}")
+  public void setThreads(int threads) {
+
+    this.threads = threads;
+  }
+
   /**
    * The constructor.
    */
@@ -100,55 +123,184 @@ public class ComponentInfoInventoryProcessor implements InventoryProcessor {
   @Override
   public void processInventory(ModelRoot modelRoot) {
 
-    Statistics overall = new Statistics();
+    List<ApplicationComponent> applicationComponents = new ArrayList<>();
     for (Application application : modelRoot.getEngagement().getApplications()) {
-      for (ApplicationComponent ac : application.getApplicationComponents()) {
-        Statistics single = processApplicationComponent(ac);
+      applicationComponents.addAll(application.getApplicationComponents());
+    }
+
+    Statistics overall = processApplicationComponents(applicationComponents);
+    LOG.info(LogMessages.COMPONENT_INFO_READ.msg(), overall.componentsWithComponentInfo, overall.componentsTotal);
+  }
+
+  /**
+   * Fetches the {@link ComponentInfo} for all given {@link ApplicationComponent}s and applies it to the model. The
+   * {@link ComponentInfo} is fetched only once per distinct PackageURL and shared by all {@link ApplicationComponent}s
+   * referencing the same package. If {@link #threads} is greater than 1 the fetching is done concurrently using a pool
+   * of worker threads; at most about twice the number of threads are submitted ahead of the package currently applied
+   * to the model. In any case the results are applied to the model strictly in the order of the given list on the
+   * calling thread so that the resulting model is identical to the one of sequential processing.
+   *
+   * @param applicationComponents the {@link ApplicationComponent}s to process
+   * @return the accumulated {@link Statistics}
+   * @throws SolicitorRuntimeException if there is an exception when reading the component info data source.
+   */
+  private Statistics processApplicationComponents(List<ApplicationComponent> applicationComponents) {
+
+    // memoize the results per run; the number of pending usages allows to release entries as early as possible
+    Map<String, FutureTask<ComponentInfo>> results = new LinkedHashMap<>();
+    Map<String, Integer> pendingUsages = new HashMap<>();
+    // position of the task in order of first usage, which is also the order of submitting it
+    Map<String, Integer> taskPositions = new HashMap<>();
+    List<FutureTask<ComponentInfo>> tasksToSubmit = new ArrayList<>();
+    for (ApplicationComponent ac : applicationComponents) {
+      String packageUrl = ac.getPackageUrl();
+      if (packageUrl != null) {
+        String key = cacheKey(packageUrl);
+        if (!results.containsKey(key)) {
+          FutureTask<ComponentInfo> task = new FutureTask<>(() -> fetchComponentInfo(packageUrl));
+          results.put(key, task);
+          taskPositions.put(key, tasksToSubmit.size());
+          tasksToSubmit.add(task);
+        }
+        pendingUsages.merge(key, 1, Integer::sum);
+      }
+    }
+    LOG.debug("Fetching ComponentInfo for {} distinct packages referenced by {} ApplicationComponents",
+        results.size(), applicationComponents.size());
+
+    Statistics overall = new Statistics();
+    ExecutorService executor = null;
+    // limit the number of tasks submitted ahead of the consumer so that results of fast tasks do not pile up when
+    // waiting for a slow one
+    int window = 2 * this.threads;
+    int submitted = 0;
+    if (this.threads > 1) {
+      LOG.info(LogMessages.COMPONENT_INFO_PARALLEL.msg(), this.threads);
+      executor = Executors.newFixedThreadPool(this.threads);
+    }
+    try {
+      for (ApplicationComponent ac : applicationComponents) {
+        ComponentInfo componentInfo = null;
+        if (ac.getPackageUrl() != null) {
+          String key = cacheKey(ac.getPackageUrl());
+          FutureTask<ComponentInfo> task = results.get(key);
+          if (executor != null) {
+            int position = taskPositions.get(key);
+            while (submitted < tasksToSubmit.size() && submitted <= position + window) {
+              executor.execute(tasksToSubmit.get(submitted));
+              // the list must not keep the task (and its result) alive
+              tasksToSubmit.set(submitted, null);
+              submitted++;
+            }
+          }
+          // in sequential mode the task is executed here; if it was already executed this is a no-op
+          task.run();
+          componentInfo = awaitComponentInfo(task);
+          if (pendingUsages.merge(key, -1, Integer::sum) == 0) {
+            results.remove(key);
+            taskPositions.remove(key);
+          }
+        }
+        Statistics single = processApplicationComponent(ac, componentInfo);
         overall.add(single);
       }
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
     }
-    LOG.info(LogMessages.COMPONENT_INFO_READ.msg(), overall.componentsWithComponentInfo, overall.componentsTotal);
+    return overall;
   }
 
   /**
-   * Processes a single {@link ApplicationComponent} by looking up license information from an external data source,
-   * such as a scancode file store. If license information is found, it updates the relevant properties of the
-   * {@link ApplicationComponent} with the data obtained from this source. The method also handles cases when no license
-   * information is found or when there is an error reading the component info data source.
+   * Determines the key for memoizing the {@link ComponentInfo} of a package.
+   *
+   * @param packageUrl the PackageURL of the package
+   * @return the key which combines the PackageURL and the curationDataSelector
+   */
+  private String cacheKey(String packageUrl) {
+
+    return this.curationDataSelector + "|" + packageUrl;
+  }
+
+  /**
+   * Waits for the given {@link Future} to complete and returns its result.
+   *
+   * @param future the future to wait for
+   * @return the {@link ComponentInfo} delivered by the future
+   * @throws SolicitorRuntimeException if the computation failed or the thread was interrupted
+   */
+  private ComponentInfo awaitComponentInfo(Future<ComponentInfo> future) {
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SolicitorRuntimeException("Interrupted when reading component info data source", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new SolicitorRuntimeException("Exception when reading component info data source", e.getCause());
+    }
+  }
+
+  /**
+   * Fetches the {@link ComponentInfo} for the given package from the available {@link ComponentInfoAdapter}s. This
+   * method does not alter the model and might be called concurrently.
+   *
+   * @param packageUrl The PackageURL of the package for which the data should be fetched.
+   * @return the {@link ComponentInfo} of the first adapter which delivered data. If no adapter delivered data then the
+   *         (non <code>null</code>) result of the last queried adapter will be returned. <code>null</code> if all
+   *         adapters are disabled.
+   * @throws SolicitorRuntimeException If there is an exception when reading the component info data source.
+   */
+  private ComponentInfo fetchComponentInfo(String packageUrl) {
+
+    // Try to get component information from the available ComponentInfoAdapters
+    ComponentInfo componentInfoCandidate = null;
+    ComponentInfo componentInfo = null;
+    try {
+      for (ComponentInfoProvider cia : this.componentInfoAdapters) {
+        componentInfoCandidate = cia.getComponentInfo(packageUrl,
+            new SelectorCurationDataHandle(this.curationDataSelector));
+        if (componentInfoCandidate != null) {
+          componentInfo = componentInfoCandidate;
+          // stop querying further adapters if some info was returned
+          if (componentInfo.getComponentInfoData() != null) {
+            break;
+          }
+        }
+      }
+    } catch (ComponentInfoAdapterException e) {
+      throw new SolicitorRuntimeException("Exception when reading component info data source", e);
+    } catch (CurationInvalidException e) {
+      throw new SolicitorRuntimeException("Curation data invalid when reading component info data source", e);
+    }
+    return componentInfo;
+  }
+
+  /**
+   * Processes a single {@link ApplicationComponent} by applying the license information looked up from an external
+   * data source, such as a scancode file store. If license information is found, it updates the relevant properties of
+   * the {@link ApplicationComponent} with the data obtained from this source. The method also handles cases when no
+   * license information is found.
    *
    * @param ac The {@link ApplicationComponent} to be processed.
+   * @param componentInfo the {@link ComponentInfo} as returned by {@link #fetchComponentInfo(String)}
    * @return A {@link Statistics} object representing the processing statistics.
-   * @throws SolicitorRuntimeException If there is an exception when reading the component info data source.
    */
   // TODO: ohecker: refactor this method
-  private Statistics processApplicationComponent(ApplicationComponent ac) {
+  private Statistics processApplicationComponent(ApplicationComponent ac, ComponentInfo componentInfo) {
 
     Statistics statistics = new Statistics();
     statistics.componentsTotal = 1;
 
     if (ac.getPackageUrl() != null) {
-      // Try to get component information from the available ComponentInfoAdapters
-      ComponentInfo componentInfoCandidate = null;
-      ComponentInfo componentInfo = null;
-      ComponentInfoData componentInfoData = null;
-      try {
-        for (ComponentInfoProvider cia : this.componentInfoAdapters) {
-          componentInfoCandidate = cia.getComponentInfo(ac.getPackageUrl(),
-              new SelectorCurationDataHandle(this.curationDataSelector));
-          if (componentInfoCandidate != null) {
-            componentInfo = componentInfoCandidate;
-            // stop querying further adapters if some info was returned
-            componentInfoData = componentInfo.getComponentInfoData();
-            if (componentInfoData != null) {
-              break;
-            }
-          }
-        }
-      } catch (ComponentInfoAdapterException e) {
-        throw new SolicitorRuntimeException("Exception when reading component info data source", e);
-      } catch (CurationInvalidException e) {
-        throw new SolicitorRuntimeException("Curation data invalid when reading component info data source", e);
-      }
+      ComponentInfoData componentInfoData = componentInfo != null ? componentInfo.getComponentInfoData() : null;
       if (componentInfo == null) {
         // all adapters disabled
         ac.setDataStatus(ND_STATUS_PREFIX + DataStatusValue.DISABLED);
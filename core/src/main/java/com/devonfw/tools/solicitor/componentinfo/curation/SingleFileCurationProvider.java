@@ -4,6 +4,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,7 +23,8 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
 /**
  * Implementation of the {@link CurationProvider} interface which reads curation data for all packages from a single
- * file.
+ * file. The file is parsed only once and the curations are indexed by their name. The file will be reread if its
+ * modification time or size changes.
  *
  */
 @Component
@@ -39,6 +42,12 @@ public class SingleFileCurationProvider extends AbstractHierarchicalCurationProv
 
   private boolean curationsExistenceLogged;
 
+  private Map<String, ComponentInfoCuration> curationIndex;
+
+  private long indexedFileLastModified;
+
+  private long indexedFileLength;
+
   /**
    * The constructor.
    *
@@ -56,16 +65,29 @@ public class SingleFileCurationProvider extends AbstractHierarchicalCurationProv
    * @param curationsFileName new value of curationsFileName.
    */
   @Value("${solicitor.scancode.curations-filename}")
-  public void setCurationsFileName(String curationsFileName) {
+  public synchronized void setCurationsFileName(String curationsFileName) {
 
     this.curationsFileName = curationsFileName;
+    this.curationIndex = null;
   }
 
   @Override
   protected ComponentInfoCuration fetchCurationFromRepository(String effectiveCurationDataSelector,
       String pathFragmentWithinRepo) throws ComponentInfoAdapterException, CurationInvalidException {
 
-    ComponentInfoCuration foundCuration = null;
+    Map<String, ComponentInfoCuration> index = getCurationIndex();
+    return index != null ? index.get(pathFragmentWithinRepo) : null;
+  }
+
+  /**
+   * Gets the index of all curations contained in the curations file. The file is only (re)read if it was not read
+   * before or if its modification time or size changed since it was last read.
+   *
+   * @return the map of curations with the name of the curation as key. <code>null</code> if the curations file does
+   *         not exist.
+   * @throws ComponentInfoAdapterException if the curations file could not be read
+   */
+  private synchronized Map<String, ComponentInfoCuration> getCurationIndex() throws ComponentInfoAdapterException {
 
     File curationsFile = new File(this.curationsFileName);
     if (!curationsFile.exists()) {
@@ -74,29 +96,41 @@ public class SingleFileCurationProvider extends AbstractHierarchicalCurationProv
         this.curationsExistenceLogged = true;
         LOG.info(LogMessages.CURATIONS_NOT_EXISTING.msg(), this.curationsFileName);
       }
-    } else {
-      if (!this.curationsExistenceLogged) {
-        // log only once
-        this.curationsExistenceLogged = true;
-        LOG.info(LogMessages.CURATIONS_PROCESSING.msg(), this.curationsFileName);
-      }
-      try (InputStream isc = new FileInputStream(this.curationsFileName)) {
+      this.curationIndex = null;
+      return null;
+    }
+    if (!this.curationsExistenceLogged) {
+      // log only once
+      this.curationsExistenceLogged = true;
+      LOG.info(LogMessages.CURATIONS_PROCESSING.msg(), this.curationsFileName);
+    }
+    long lastModified = curationsFile.lastModified();
+    long length = curationsFile.length();
+    if (this.curationIndex != null && lastModified == this.indexedFileLastModified
+        && length == this.indexedFileLength) {
+      return this.curationIndex;
+    }
+    try (InputStream isc = new FileInputStream(curationsFile)) {
 
-        CurationList curationList = yamlMapper.readValue(isc, CurationList.class);
+      CurationList curationList = yamlMapper.readValue(isc, CurationList.class);
 
-        for (ComponentInfoCuration curation : curationList.getArtifacts()) {
-          String component = curation.getName();
-          if (component.equals(pathFragmentWithinRepo)) {
-            foundCuration = curation;
-            break;
-          }
+      Map<String, ComponentInfoCuration> index = new HashMap<>();
+      for (ComponentInfoCuration curation : curationList.getArtifacts()) {
+        String component = curation.getName();
+        if (component != null) {
+          // in case of duplicates the first one wins
+          index.putIfAbsent(component, curation);
         }
-
-      } catch (IOException e) {
-        throw new ComponentInfoAdapterException("Could not read Curations YAML", e);
       }
+      LOG.debug("Read {} curations from curations file '{}'", index.size(), this.curationsFileName);
+      this.curationIndex = index;
+      this.indexedFileLastModified = lastModified;
+      this.indexedFileLength = length;
+
+    } catch (IOException e) {
+      throw new ComponentInfoAdapterException("Could not read Curations YAML", e);
     }
-    return foundCuration;
+    return this.curationIndex;
   }
 
   @Override
@@ -4,7 +4,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Scanner;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +43,11 @@ public class FileScancodeRawComponentInfoProvider implements ScancodeRawComponen
 
   private long maxContentFileSize = 1000000L; // set this to the default even if spring is not used
 
+  private boolean streamScancodeJson = true; // set this to the default even if spring is not used
+
+  // set this to the default even if spring is not used
+  private final IndexedContentCache contentCache = new IndexedContentCache(10000000L);
+
   private AllKindsPackageURLHandler packageURLHandler;
 
   /**
@@ -78,6 +84,30 @@ public class FileScancodeRawComponentInfoProvider implements ScancodeRawComponen
     this.maxContentFileSize = maxContentFileSize;
   }
 
+  /**
+   * Sets the maximum size of the cache for the contents of files within the package sources. Caching avoids reading
+   * and splitting the same file multiple times if different line ranges are extracted from it.
+   *
+   * @param contentCacheSize maximum total size (in characters) of all cached file contents. 0 disables the cache.
+   */
+  @Value("${solicitor.scancode.content-cache-size:10000000}")
+  public void setContentCacheSize(long contentCacheSize) {
+
+    this.contentCache.setMaxSize(contentCacheSize);
+  }
+
+  /**
+   * Sets if the scancode json file should be streamed instead of being read into memory completely.
+   *
+   * @param streamScancodeJson if <code>true</code> then {@link ScancodeRawComponentInfo#rawScancodeResultFile} will be
+   *        set instead of {@link ScancodeRawComponentInfo#rawScancodeResult}.
+   */
+  @Value("${solicitor.scancode.stream-scancode-json:true}")
+  public void setStreamScancodeJson(boolean streamScancodeJson) {
+
+    this.streamScancodeJson = streamScancodeJson;
+  }
+
   /**
    * Sets the name of the scancode json file.
    *
@@ -93,7 +123,9 @@ public class FileScancodeRawComponentInfoProvider implements ScancodeRawComponen
    * Retrieve the {@link ScancodeRawComponentInfo} for the package given by its PackageURL.
    *
    * @param packageUrl the identifier for the package
-   * @return the raw data base on scancode and supplemental data. <code>null</code> if no data is available.
+   * @return the raw data base on scancode and supplemental data. <code>null</code> if no data is available. Depending on
+   *         {@link #setStreamScancodeJson(boolean)} the scancode JSON is either contained as string or referenced as
+   *         file.
    * @throws ComponentInfoAdapterException is something unexpected happens
    * @throws ScancodeProcessingFailedException if no data can be provided due to previous issues when
    *         downloading/scanning the package data.
@@ -111,16 +143,18 @@ public class FileScancodeRawComponentInfoProvider implements ScancodeRawComponen
       throwExceptionForDownloadOrScanningFailures(packagePathPart);
       return null;
     }
-    String scancodeString;
     LOG.debug("Found Scancode info for PackageURL '{}'", packageUrl);
-    try (InputStream is = new FileInputStream(scanCodeFile)) {
-      scancodeString = IOHelper.readStringFromInputStream(is);
-    } catch (IOException e) {
-      throw new ComponentInfoAdapterException("Could not read Scancode JSON", e);
-    }
-
     ScancodeRawComponentInfo result = new ScancodeRawComponentInfo();
-    result.rawScancodeResult = scancodeString;
+    if (this.streamScancodeJson) {
+      // the data will be streamed from the file when processing it
+      result.rawScancodeResultFile = scanCodeFile;
+    } else {
+      try (InputStream is = new FileInputStream(scanCodeFile)) {
+        result.rawScancodeResult = IOHelper.readStringFromInputStream(is);
+      } catch (IOException e) {
+        throw new ComponentInfoAdapterException("Could not read Scancode JSON", e);
+      }
+    }
     addOriginData(packageUrl, result);
     return result;
   }
@@ -222,18 +256,21 @@ public class FileScancodeRawComponentInfoProvider implements ScancodeRawComponen
       LOG.info(LogMessages.CONTENT_FILE_TOO_LARGE.msg(), fullFilePathAndName, fileSize, this.maxContentFileSize);
       return null;
     }
-    try (InputStream is = new FileInputStream(file); Scanner s = new Scanner(is)) {
-      s.useDelimiter("\\A");
-      String result = s.hasNext() ? s.next() : "";
-
-      return MultilineHelper.possiblyExtractLines(result, lineInfo);
-    } catch (IOException e) {
-      if (LOG.isDebugEnabled()) {
-        LOG.debug("Could not retrieve content from file '" + fullFilePathAndName + "'", e);
+    IndexedContent content = this.contentCache.get(file);
+    if (content == null) {
+      try {
+        long lastModified = file.lastModified();
+        content = new IndexedContent(new String(Files.readAllBytes(file.toPath()), Charset.defaultCharset()));
+        this.contentCache.put(file, lastModified, fileSize, content);
+      } catch (IOException e) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Could not retrieve content from file '" + fullFilePathAndName + "'", e);
+        }
+        LOG.info(LogMessages.FAILED_READING_FILE.msg(), fullFilePathAndName, e.getClass().getSimpleName());
+        return null;
       }
-      LOG.info(LogMessages.FAILED_READING_FILE.msg(), fullFilePathAndName, e.getClass().getSimpleName());
     }
-    return null;
+    return content.possiblyExtractLines(lineInfo);
   }
 
   @Override
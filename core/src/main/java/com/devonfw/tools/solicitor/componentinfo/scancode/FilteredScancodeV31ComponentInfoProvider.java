@@ -93,17 +93,19 @@ public class FilteredScancodeV31ComponentInfoProvider implements FilteredScancod
    * @param packageUrl the package URL of the package
    * @param curationDataHandle identifies the source for the curation data
    * @param rawScancodeData the raw Scancode data
-   * @param scancodeJson the parsed Scancode JSON data
+   * @param scancodeJson the parsed Scancode JSON data; the <code>files</code> property might be missing
+   * @param scancodeJsonFiles gives access to the entries of the <code>files</code> array of the Scancode JSON data
    * @return the component information based on the Scancode data
    * @throws ComponentInfoAdapterException if an error occurs while reading the data
    * @throws CurationInvalidException if the curation data is invalid
    */
   @Override
   public ComponentInfo getComponentInfo(String packageUrl, CurationDataHandle curationDataHandle,
-      ScancodeRawComponentInfo rawScancodeData, JsonNode scancodeJson)
+      ScancodeRawComponentInfo rawScancodeData, JsonNode scancodeJson, ScancodeJsonFiles scancodeJsonFiles)
       throws ComponentInfoAdapterException, CurationInvalidException {
 
-    ScancodeComponentInfo componentScancodeInfos = mapScancodeJson(packageUrl, scancodeJson, curationDataHandle);
+    ScancodeComponentInfo componentScancodeInfos = mapScancodeJson(packageUrl, scancodeJson, scancodeJsonFiles,
+        curationDataHandle);
     addSupplementedData(rawScancodeData, componentScancodeInfos);
     LOG.debug("Scancode info for package {}: {} license, {} copyrights, {} NOTICE files", packageUrl,
         componentScancodeInfos.getComponentInfoData().getLicenses().size(),
@@ -130,7 +132,8 @@ public class FilteredScancodeV31ComponentInfoProvider implements FilteredScancod
    * Maps scancode JSON to create ScancodeComponentInfo.
    *
    * @param packageUrl the URL of the package for which Scancode data is being processed
-   * @param scancodeJson the parsed JSON data from Scancode results
+   * @param scancodeJson the parsed JSON data from Scancode results; the <code>files</code> property might be missing
+   * @param scancodeJsonFiles gives access to the entries of the <code>files</code> array of the Scancode results
    * @param curationDataHandle identifies which source should be used for the curation data
    * @return the {@link ScancodeComponentInfo} containing the processed data
    * @throws ComponentInfoAdapterException if there is an issue with parsing the Scancode JSON or if a suitable provider
@@ -138,7 +141,8 @@ public class FilteredScancodeV31ComponentInfoProvider implements FilteredScancod
    * @throws CurationInvalidException if the curation data is not valid or if there is an error applying curation data
    */
   private ScancodeComponentInfo mapScancodeJson(String packageUrl, JsonNode scancodeJson,
-      CurationDataHandle curationDataHandle) throws ComponentInfoAdapterException, CurationInvalidException {
+      ScancodeJsonFiles scancodeJsonFiles, CurationDataHandle curationDataHandle)
+      throws ComponentInfoAdapterException, CurationInvalidException {
 
     String toolVersion = scancodeJson.get("headers").get(0).get("tool_version").asText();
     if (!accept(toolVersion)) {
@@ -159,25 +163,24 @@ public class FilteredScancodeV31ComponentInfoProvider implements FilteredScancod
     ComponentInfoCuration componentInfoCuration = this.curationProvider.findCurations(packageUrl, curationDataHandle);
 
     // Get all excludedPaths in this curation
-    List<String> excludedPaths = null;
-    List<LicenseCuration> licenseCurations = null;
-    List<CopyrightCuration> copyrightCurations = null;
-    if (componentInfoCuration != null) {
-      excludedPaths = componentInfoCuration.getExcludedPaths();
-      licenseCurations = componentInfoCuration.getLicenseCurations();
-      copyrightCurations = componentInfoCuration.getCopyrightCurations();
-    }
+    List<String> excludedPaths = componentInfoCuration != null ? componentInfoCuration.getExcludedPaths() : null;
+    List<LicenseCuration> licenseCurations = componentInfoCuration != null
+        ? componentInfoCuration.getLicenseCurations()
+        : null;
+    List<CopyrightCuration> copyrightCurations = componentInfoCuration != null
+        ? componentInfoCuration.getCopyrightCurations()
+        : null;
 
     // Skip all files, whose path have a prefix which is in the excluded path list
-    for (JsonNode file : scancodeJson.get("files")) {
+    scancodeJsonFiles.forEach(file -> {
       String path = file.get("path").asText();
       if (isExcluded(path, excludedPaths)) {
         // this is a curation operation, so set the status
         componentScancodeInfos.setDataStatus(DataStatusValue.CURATED);
-        continue;
+        return;
       }
       if ("directory".equals(file.get("type").asText())) {
-        continue;
+        return;
       }
       if (path.contains("/NOTICE")) {
         scancodeComponentInfoData
@@ -302,7 +305,7 @@ public class FilteredScancodeV31ComponentInfoProvider implements FilteredScancod
       addCopyrightsByCuration(path, copyrightCurations, componentScancodeInfos);
       addLicensesByCuration(packageUrl, path, licenseCurations, componentScancodeInfos);
 
-    }
+    });
     // add copyrights / licenses due to curations on package level
     addCopyrightsByCuration(null, copyrightCurations, componentScancodeInfos);
     addLicensesByCuration(packageUrl, null, licenseCurations, componentScancodeInfos);
@@ -23,7 +23,8 @@ public interface FilteredScancodeVersionComponentInfoProvider {
   boolean accept(String toolVersion);
 
   /**
-   * Retrieves the component information for a package identified by the given package URL.
+   * Retrieves the component information for a package identified by the given package URL. The data is taken from the
+   * completely parsed scancode JSON.
    *
    * @param packageUrl the identifier of the package for which information is requested
    * @param curationDataHandle identifies which source should be used for the curation data
@@ -33,7 +34,29 @@ public interface FilteredScancodeVersionComponentInfoProvider {
    * @throws ComponentInfoAdapterException if there was an exception when reading the data
    * @throws CurationInvalidException if the curation data is not valid
    */
-  ComponentInfo getComponentInfo(String packageUrl, CurationDataHandle curationDataHandle,
+  default ComponentInfo getComponentInfo(String packageUrl, CurationDataHandle curationDataHandle,
       ScancodeRawComponentInfo rawScancodeData, JsonNode scancodeJson)
+      throws ComponentInfoAdapterException, CurationInvalidException {
+
+    return getComponentInfo(packageUrl, curationDataHandle, rawScancodeData, scancodeJson,
+        ScancodeJsonFiles.of(scancodeJson));
+  }
+
+  /**
+   * Retrieves the component information for a package identified by the given package URL. The entries of the
+   * <code>files</code> array of the scancode JSON are accessed via the given {@link ScancodeJsonFiles} which allows to
+   * stream them instead of holding the complete parsed data in memory.
+   *
+   * @param packageUrl the identifier of the package for which information is requested
+   * @param curationDataHandle identifies which source should be used for the curation data
+   * @param rawScancodeData the raw scancode data
+   * @param scancodeJson the parsed scancode JSON; the <code>files</code> property might be missing
+   * @param scancodeJsonFiles gives access to the entries of the <code>files</code> array
+   * @return the data for the component
+   * @throws ComponentInfoAdapterException if there was an exception when reading the data
+   * @throws CurationInvalidException if the curation data is not valid
+   */
+  ComponentInfo getComponentInfo(String packageUrl, CurationDataHandle curationDataHandle,
+      ScancodeRawComponentInfo rawScancodeData, JsonNode scancodeJson, ScancodeJsonFiles scancodeJsonFiles)
       throws ComponentInfoAdapterException, CurationInvalidException;
-}
\ No newline at end of file
+}
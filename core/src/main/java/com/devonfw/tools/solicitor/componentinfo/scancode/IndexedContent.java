@@ -0,0 +1,108 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A (multiline) text together with an index of its line breaks. This allows extracting ranges of lines as simple
+ * substrings without splitting the whole text each time.
+ */
+public class IndexedContent {
+
+  private static final Pattern LINE_INFO_PATTERN = Pattern.compile("#L(\\d+)(-L(\\d+))?");
+
+  private final String content;
+
+  /**
+   * Positions of all line breaks (<code>\n</code>) within {@link #content}.
+   */
+  private final int[] lineBreaks;
+
+  /**
+   * Number of lines, not counting trailing empty lines (same as the length of the result of
+   * <code>content.split("\\n")</code>).
+   */
+  private final int numberOfLines;
+
+  /**
+   * The constructor.
+   *
+   * @param content the text
+   */
+  public IndexedContent(String content) {
+
+    this.content = content;
+    int count = 0;
+    for (int i = 0; i < content.length(); i++) {
+      if (content.charAt(i) == '\n') {
+        count++;
+      }
+    }
+    this.lineBreaks = new int[count];
+    count = 0;
+    for (int i = 0; i < content.length(); i++) {
+      if (content.charAt(i) == '\n') {
+        this.lineBreaks[count++] = i;
+      }
+    }
+    int lines = this.lineBreaks.length + 1;
+    if (this.lineBreaks.length > 0) {
+      // trailing empty lines are not counted
+      while (lines > 0 && lineStart(lines - 1) == lineEnd(lines - 1)) {
+        lines--;
+      }
+    }
+    this.numberOfLines = lines;
+  }
+
+  /**
+   * @return the text
+   */
+  public String getContent() {
+
+    return this.content;
+  }
+
+  /**
+   * Extracts a range of lines from the text. Each extracted line is terminated by a <code>\n</code>.
+   *
+   * @param lineInfo lines to extract, given as <code>#L17-L20</code>. <code>null</code> indicates that the whole text
+   *        should be returned.
+   * @return the extracted lines.
+   */
+  public String possiblyExtractLines(String lineInfo) {
+
+    if (lineInfo == null) {
+      return this.content;
+    }
+    Matcher matcher = LINE_INFO_PATTERN.matcher(lineInfo);
+    if (matcher.find()) {
+      int startLine = Integer.parseInt(matcher.group(1));
+      int endLine = Integer.parseInt(matcher.group(3) != null ? matcher.group(3) : matcher.group(1));
+      // zero based indexes of the first and last line to extract
+      int first = Math.max(startLine, 1) - 1;
+      int last = Math.min(endLine, this.numberOfLines) - 1;
+      if (first > last) {
+        return "";
+      }
+      // consecutive lines are separated by exactly one line break, so the range is a single substring
+      return this.content.substring(lineStart(first), lineEnd(last)) + "\n";
+    } else {
+      throw new IllegalStateException("Regex did not find line info - this seems to be a bug.");
+    }
+  }
+
+  private int lineStart(int line) {
+
+    return line == 0 ? 0 : this.lineBreaks[line - 1] + 1;
+  }
+
+  private int lineEnd(int line) {
+
+    return line < this.lineBreaks.length ? this.lineBreaks[line] : this.content.length();
+  }
+
+}
@@ -0,0 +1,113 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A size bounded cache of {@link IndexedContent}s of files. Least recently used entries are evicted if the total length
+ * of all cached contents exceeds the limit. Entries are only returned as long as size and modification time of the
+ * file did not change.
+ */
+public class IndexedContentCache {
+
+  private static class Entry {
+
+    private final IndexedContent content;
+
+    private final long lastModified;
+
+    private final long fileSize;
+
+    private Entry(IndexedContent content, long lastModified, long fileSize) {
+
+      this.content = content;
+      this.lastModified = lastModified;
+      this.fileSize = fileSize;
+    }
+  }
+
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long maxSize;
+
+  private long currentSize;
+
+  /**
+   * The constructor.
+   *
+   * @param maxSize the maximum total length (in characters) of all cached contents. If 0 (or less) nothing is cached.
+   */
+  public IndexedContentCache(long maxSize) {
+
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Sets the maximum total length of all cached contents. Clears the cache.
+   *
+   * @param maxSize the maximum total length (in characters) of all cached contents. If 0 (or less) nothing is cached.
+   */
+  public synchronized void setMaxSize(long maxSize) {
+
+    this.maxSize = maxSize;
+    this.entries.clear();
+    this.currentSize = 0;
+  }
+
+  /**
+   * Gets the cached content of the given file.
+   *
+   * @param file the file
+   * @return the content or <code>null</code> if it is not cached or the file changed since caching
+   */
+  public synchronized IndexedContent get(File file) {
+
+    Entry entry = this.entries.get(file.getPath());
+    if (entry == null) {
+      return null;
+    }
+    if (entry.lastModified != file.lastModified() || entry.fileSize != file.length()) {
+      remove(file.getPath());
+      return null;
+    }
+    return entry.content;
+  }
+
+  /**
+   * Stores the content of the given file in the cache. Contents which are larger than the maximum size are not cached.
+   *
+   * @param file the file
+   * @param lastModified the modification time of the file when reading the content
+   * @param fileSize the size of the file when reading the content
+   * @param content the content
+   */
+  public synchronized void put(File file, long lastModified, long fileSize, IndexedContent content) {
+
+    int size = content.getContent().length();
+    if (size > this.maxSize) {
+      return;
+    }
+    remove(file.getPath());
+    this.entries.put(file.getPath(), new Entry(content, lastModified, fileSize));
+    this.currentSize += size;
+    Iterator<Entry> it = this.entries.values().iterator();
+    while (this.currentSize > this.maxSize && it.hasNext()) {
+      this.currentSize -= it.next().content.getContent().length();
+      it.remove();
+    }
+  }
+
+  private void remove(String path) {
+
+    Entry removed = this.entries.remove(path);
+    if (removed != null) {
+      this.currentSize -= removed.content.getContent().length();
+    }
+  }
+
+}
@@ -29,20 +29,24 @@ public class MultiversionFilteredScancodeComponentInfoProvider implements Filter
 
   private ScancodeRawComponentInfoProvider rawComponentInfoProvider;
 
+  private ScancodeComponentInfoCache componentInfoCache;
+
   /**
    * Constructs a {@link MultiversionFilteredScancodeComponentInfoProvider} with the given providers.
    *
    * @param filteredScancodeVersionComponentInfoProviders the array of
    *        {@link FilteredScancodeVersionComponentInfoProvider} implementations to use based on Scancode tool versions.
    * @param rawComponentInfoProvider the {@link ScancodeRawComponentInfoProvider} for reading raw Scancode data.
+   * @param componentInfoCache the {@link ScancodeComponentInfoCache} for persistently caching the filtered data.
    */
   @Autowired
   public MultiversionFilteredScancodeComponentInfoProvider(
       FilteredScancodeVersionComponentInfoProvider[] filteredScancodeVersionComponentInfoProviders,
-      ScancodeRawComponentInfoProvider rawComponentInfoProvider) {
+      ScancodeRawComponentInfoProvider rawComponentInfoProvider, ScancodeComponentInfoCache componentInfoCache) {
 
     this.filteredScancodeVersionComponentInfoProviders = filteredScancodeVersionComponentInfoProviders;
     this.rawComponentInfoProvider = rawComponentInfoProvider;
+    this.componentInfoCache = componentInfoCache;
   }
 
   @Override
@@ -50,7 +54,6 @@ public class MultiversionFilteredScancodeComponentInfoProvider implements Filter
       throws ComponentInfoAdapterException, CurationInvalidException {
 
     ScancodeRawComponentInfo rawScancodeData;
-    JsonNode scancodeJson;
 
     try {
       rawScancodeData = this.rawComponentInfoProvider.readScancodeData(packageUrl);
@@ -61,11 +64,51 @@ public class MultiversionFilteredScancodeComponentInfoProvider implements Filter
       return new DefaultComponentInfoImpl(packageUrl, DataStatusValue.NOT_AVAILABLE);
     }
 
-    scancodeJson = parseScancodeJson(rawScancodeData);
+    String cacheKey = this.componentInfoCache.cacheKey(packageUrl, curationDataHandle, rawScancodeData);
+    if (cacheKey != null) {
+      ComponentInfo cachedComponentInfo = this.componentInfoCache.load(rawScancodeData, cacheKey);
+      if (cachedComponentInfo != null) {
+        return cachedComponentInfo;
+      }
+    }
+    ComponentInfo componentInfo = filterScancodeData(packageUrl, curationDataHandle, rawScancodeData);
+    if (cacheKey != null) {
+      this.componentInfoCache.store(rawScancodeData, cacheKey, componentInfo);
+    }
+    return componentInfo;
+  }
+
+  /**
+   * Creates the filtered {@link ComponentInfo} from the raw Scancode data using the
+   * {@link FilteredScancodeVersionComponentInfoProvider} which matches the Scancode tool version.
+   *
+   * @param packageUrl the PackageURL of the package
+   * @param curationDataHandle identifies the source for the curation data
+   * @param rawScancodeData the raw Scancode data
+   * @return the filtered {@link ComponentInfo}
+   * @throws ComponentInfoAdapterException if the data could not be processed
+   * @throws CurationInvalidException if the curation data is invalid
+   */
+  private ComponentInfo filterScancodeData(String packageUrl, CurationDataHandle curationDataHandle,
+      ScancodeRawComponentInfo rawScancodeData) throws ComponentInfoAdapterException, CurationInvalidException {
+
+    JsonNode scancodeJson;
+    ScancodeJsonFileReader scancodeJsonFileReader = null;
+    if (rawScancodeData.rawScancodeResult == null && rawScancodeData.rawScancodeResultFile != null) {
+      // stream the data from the file; only the small top level properties are parsed as tree
+      scancodeJsonFileReader = new ScancodeJsonFileReader(rawScancodeData.rawScancodeResultFile);
+      scancodeJson = scancodeJsonFileReader.readTopLevelData();
+    } else {
+      scancodeJson = parseScancodeJson(rawScancodeData);
+    }
     String toolVersion = extractToolVersion(scancodeJson);
 
     for (FilteredScancodeVersionComponentInfoProvider candidate : this.filteredScancodeVersionComponentInfoProviders) {
       if (candidate.accept(toolVersion)) {
+        if (scancodeJsonFileReader != null) {
+          return candidate.getComponentInfo(packageUrl, curationDataHandle, rawScancodeData, scancodeJson,
+              scancodeJsonFileReader);
+        }
         return candidate.getComponentInfo(packageUrl, curationDataHandle, rawScancodeData, scancodeJson);
       }
     }
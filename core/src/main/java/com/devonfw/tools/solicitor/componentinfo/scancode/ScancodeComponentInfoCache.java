@@ -0,0 +1,351 @@
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.devonfw.tools.solicitor.common.LogMessages;
+import com.devonfw.tools.solicitor.componentinfo.ComponentContentProvider;
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfo;
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfoAdapterException;
+import com.devonfw.tools.solicitor.componentinfo.CurationDataHandle;
+import com.devonfw.tools.solicitor.componentinfo.DefaultComponentInfoDataImpl;
+import com.devonfw.tools.solicitor.componentinfo.DefaultComponentInfoImpl;
+import com.devonfw.tools.solicitor.componentinfo.DefaultLicenseInfoImpl;
+import com.devonfw.tools.solicitor.componentinfo.LicenseInfo;
+import com.devonfw.tools.solicitor.componentinfo.curation.CurationInvalidException;
+import com.devonfw.tools.solicitor.componentinfo.curation.CurationProvider;
+import com.devonfw.tools.solicitor.componentinfo.curation.model.ComponentInfoCuration;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Persistent cache for the filtered {@link ComponentInfo} which is derived from the scancode results of a package. The
+ * cached data is stored in a file next to the scancode JSON file. It is only valid as long as the digest of the
+ * scancode JSON file, the relevant settings and the curations for the package do not change. The origin data
+ * (download URLs) is not cached as it might change independently. The same holds for the license texts and the notice
+ * file content which are read from the package sources: only their URLs are cached and the contents are read again via
+ * {@link ComponentContentProvider#retrieveContent(String, String)} when loading the cached data.
+ *
+ * <p>
+ * Caching is only possible if the scancode JSON is given as file (see
+ * {@link ScancodeRawComponentInfo#rawScancodeResultFile}).
+ * </p>
+ */
+@Component
+public class ScancodeComponentInfoCache {
+
+  /**
+   * Version of the cache file format. Needs to be incremented whenever the format or the semantics of the cached data
+   * change, so that any existing cache files get invalid.
+   */
+  private static final String CACHE_FORMAT_VERSION = "2";
+
+  private static final Logger LOG = LoggerFactory.getLogger(ScancodeComponentInfoCache.class);
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private static final String KEY_SEPARATOR = "-";
+
+  /**
+   * Number of characters of the variant part of the cache key which are used in the name of the cache file.
+   */
+  private static final int VARIANT_LENGTH_IN_FILENAME = 16;
+
+  private boolean enabled = false; // set this to the default even if spring is not used
+
+  private String cacheFileName = "scancode-filtered-cache.json";
+
+  private double minLicenseScore;
+
+  private int minLicensefileNumberOfLines;
+
+  private long maxContentFileSize = 1000000L; // set this to the default even if spring is not used
+
+  private ScancodeRawComponentInfoProvider contentProvider;
+
+  private CurationProvider curationProvider;
+
+  /**
+   * The constructor.
+   *
+   * @param contentProvider the provider for reading the license texts and notice file contents from the package
+   *        sources
+   * @param curationProvider the provider of the curations which need to be reflected in the cache key
+   */
+  @Autowired
+  public ScancodeComponentInfoCache(ScancodeRawComponentInfoProvider contentProvider,
+      CurationProvider curationProvider) {
+
+    this.contentProvider = contentProvider;
+    this.curationProvider = curationProvider;
+  }
+
+  /**
+   * Sets if the cache is enabled.
+   *
+   * @param enabled new value of {@link #enabled}.
+   */
+  @Value("${solicitor.scancode.cache-filtered-results:false}")
+  public void setEnabled(boolean enabled) {
+
+    this.enabled = enabled;
+  }
+
+  /**
+   * Sets the name of the cache file which is stored in the same directory as the scancode JSON file.
+   *
+   * @param cacheFileName new value of {@link #cacheFileName}.
+   */
+  @Value("${solicitor.scancode.cache-file-name:scancode-filtered-cache.json}")
+  public void setCacheFileName(String cacheFileName) {
+
+    this.cacheFileName = cacheFileName;
+  }
+
+  /**
+   * Sets minLicenseScore. This is part of the cache key.
+   *
+   * @param minLicenseScore new value of minLicenseScore.
+   */
+  @Value("${solicitor.scancode.min-license-score}")
+  public void setMinLicenseScore(double minLicenseScore) {
+
+    this.minLicenseScore = minLicenseScore;
+  }
+
+  /**
+   * Sets minLicensefileNumberOfLines. This is part of the cache key.
+   *
+   * @param minLicensefileNumberOfLines new value of minLicensefileNumberOfLines.
+   */
+  @Value("${solicitor.scancode.min-licensefile-number-of-lines}")
+  public void setMinLicensefileNumberOfLines(int minLicensefileNumberOfLines) {
+
+    this.minLicensefileNumberOfLines = minLicensefileNumberOfLines;
+  }
+
+  /**
+   * Sets maxContentFileSize. This is part of the cache key as it determines which license texts are available when
+   * filtering.
+   *
+   * @param maxContentFileSize new value of maxContentFileSize.
+   */
+  @Value("${solicitor.scancode.max-content-file-size:1000000}")
+  public void setMaxContentFileSize(long maxContentFileSize) {
+
+    this.maxContentFileSize = maxContentFileSize;
+  }
+
+  /**
+   * Determines the key which identifies the filtered data for the given package. The key consists of two parts: The
+   * first part identifies the variant of the filtering (settings and curations) and also determines the cache file, so
+   * that data filtered differently (e.g. with a different curation data selector) is cached in different files. The
+   * second part is the digest of the scancode JSON file.
+   *
+   * @param packageUrl the PackageURL of the package
+   * @param curationDataHandle identifies the source for the curation data
+   * @param rawScancodeData the raw scancode data
+   * @return the cache key; <code>null</code> if the cache is disabled or can not be used for the given data
+   * @throws ComponentInfoAdapterException if the scancode file could not be read or the curations could not be obtained
+   * @throws CurationInvalidException if the curation data is invalid
+   */
+  public String cacheKey(String packageUrl, CurationDataHandle curationDataHandle,
+      ScancodeRawComponentInfo rawScancodeData) throws ComponentInfoAdapterException, CurationInvalidException {
+
+    if (!this.enabled || rawScancodeData.rawScancodeResultFile == null) {
+      return null;
+    }
+    ComponentInfoCuration componentInfoCuration = this.curationProvider.findCurations(packageUrl,
+        curationDataHandle);
+    String curations;
+    try {
+      curations = componentInfoCuration != null ? mapper.writeValueAsString(componentInfoCuration) : "";
+    } catch (IOException e) {
+      throw new ComponentInfoAdapterException("Could not serialize curations for computing cache key", e);
+    }
+    String variant = DigestUtils.sha256Hex(String.join("\0", CACHE_FORMAT_VERSION, packageUrl,
+        Double.toString(this.minLicenseScore), Integer.toString(this.minLicensefileNumberOfLines),
+        Long.toString(this.maxContentFileSize), curations));
+    try (InputStream is = new FileInputStream(rawScancodeData.rawScancodeResultFile)) {
+      return variant + KEY_SEPARATOR + DigestUtils.sha256Hex(is);
+    } catch (IOException e) {
+      throw new ComponentInfoAdapterException("Could not read Scancode JSON", e);
+    }
+  }
+
+  /**
+   * Loads the cached data.
+   *
+   * @param rawScancodeData the raw scancode data; the origin data contained here will be added to the result
+   * @param cacheKey the cache key as determined by {@link #cacheKey(String, CurationDataHandle, ScancodeRawComponentInfo)}
+   * @return the cached {@link ComponentInfo}; <code>null</code> if there is no valid cache entry
+   */
+  public ComponentInfo load(ScancodeRawComponentInfo rawScancodeData, String cacheKey) {
+
+    File cacheFile = cacheFile(rawScancodeData, cacheKey);
+    if (!cacheFile.exists()) {
+      return null;
+    }
+    try {
+      JsonNode cached = mapper.readTree(cacheFile);
+      if (!cacheKey.equals(cached.path("key").asText())) {
+        LOG.debug("Cached filtered Scancode data in '{}' is outdated", cacheFile);
+        return null;
+      }
+      LOG.debug("Using cached filtered Scancode data from '{}'", cacheFile);
+      return fromJson(cached.get("componentInfo"), rawScancodeData);
+    } catch (IOException | RuntimeException e) {
+      LOG.info(LogMessages.SCANCODE_CACHE_FAILED.msg(), cacheFile, e.getClass().getSimpleName());
+      return null;
+    }
+  }
+
+  /**
+   * Stores the data in the cache. Any failures will be logged but not propagated.
+   *
+   * @param rawScancodeData the raw scancode data
+   * @param cacheKey the cache key as determined by {@link #cacheKey(String, CurationDataHandle, ScancodeRawComponentInfo)}
+   * @param componentInfo the filtered {@link ComponentInfo} to store
+   */
+  public void store(ScancodeRawComponentInfo rawScancodeData, String cacheKey, ComponentInfo componentInfo) {
+
+    File cacheFile = cacheFile(rawScancodeData, cacheKey);
+    ObjectNode cached = mapper.createObjectNode();
+    cached.put("key", cacheKey);
+    cached.set("componentInfo", toJson(componentInfo));
+    File tempFile = null;
+    try {
+      // write to a temporary file first so that concurrent readers never see incomplete data
+      tempFile = File.createTempFile(this.cacheFileName, ".tmp", cacheFile.getParentFile());
+      mapper.writeValue(tempFile, cached);
+      try {
+        Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      LOG.info(LogMessages.SCANCODE_CACHE_FAILED.msg(), cacheFile, e.getClass().getSimpleName());
+      if (tempFile != null) {
+        tempFile.delete();
+      }
+    }
+  }
+
+  /**
+   * Determines the cache file.
+   *
+   * @param rawScancodeData the raw scancode data
+   * @param cacheKey the cache key as determined by {@link #cacheKey(String, CurationDataHandle, ScancodeRawComponentInfo)}
+   * @return the cache file which is located in the same directory as the scancode JSON file; its name is derived from
+   *         {@link #cacheFileName} and the variant part of the cache key
+   */
+  private File cacheFile(ScancodeRawComponentInfo rawScancodeData, String cacheKey) {
+
+    String variant = cacheKey.substring(0, VARIANT_LENGTH_IN_FILENAME);
+    int extensionStart = this.cacheFileName.lastIndexOf('.');
+    String fileName = extensionStart > 0
+        ? this.cacheFileName.substring(0, extensionStart) + "-" + variant + this.cacheFileName.substring(extensionStart)
+        : this.cacheFileName + "-" + variant;
+    return new File(rawScancodeData.rawScancodeResultFile.getAbsoluteFile().getParentFile(), fileName);
+  }
+
+  /**
+   * Converts the {@link ComponentInfo} to JSON. The origin data and the contents read from the package sources are
+   * omitted; for the license texts only the information whether a text was given is stored.
+   *
+   * @param componentInfo the data to convert
+   * @return the JSON representation
+   */
+  private ObjectNode toJson(ComponentInfo componentInfo) {
+
+    ObjectNode result = mapper.createObjectNode();
+    result.put("packageUrl", componentInfo.getPackageUrl());
+    result.put("dataStatus", componentInfo.getDataStatus());
+    ArrayNode traceabilityNotes = result.putArray("traceabilityNotes");
+    componentInfo.getTraceabilityNotes().forEach(traceabilityNotes::add);
+    result.put("noticeFileUrl", componentInfo.getComponentInfoData().getNoticeFileUrl());
+    result.put("homepageUrl", componentInfo.getComponentInfoData().getHomepageUrl());
+    result.put("sourceRepoUrl", componentInfo.getComponentInfoData().getSourceRepoUrl());
+    ArrayNode copyrights = result.putArray("copyrights");
+    componentInfo.getComponentInfoData().getCopyrights().forEach(copyrights::add);
+    ArrayNode licenses = result.putArray("licenses");
+    for (LicenseInfo licenseInfo : componentInfo.getComponentInfoData().getLicenses()) {
+      ObjectNode license = licenses.addObject();
+      license.put("spdxid", licenseInfo.getSpdxid());
+      license.put("licenseUrl", licenseInfo.getLicenseUrl());
+      license.put("hasGivenLicenseText", licenseInfo.getGivenLicenseText() != null);
+    }
+    return result;
+  }
+
+  /**
+   * Reconstructs the {@link ComponentInfo} from its JSON representation. The license texts and the notice file content
+   * are read again from the package sources.
+   *
+   * @param json the JSON representation as created by {@link #toJson(ComponentInfo)}
+   * @param rawScancodeData the raw scancode data which provides the origin data
+   * @return the {@link ComponentInfo}
+   */
+  private ComponentInfo fromJson(JsonNode json, ScancodeRawComponentInfo rawScancodeData) {
+
+    String packageUrl = textOrNull(json, "packageUrl");
+    DefaultComponentInfoImpl result = new DefaultComponentInfoImpl(packageUrl, textOrNull(json, "dataStatus"));
+    for (JsonNode traceabilityNote : json.get("traceabilityNotes")) {
+      result.addTraceabillityNote(traceabilityNote.asText());
+    }
+    DefaultComponentInfoDataImpl data = new DefaultComponentInfoDataImpl();
+    String noticeFileUrl = textOrNull(json, "noticeFileUrl");
+    data.setNoticeFileUrl(noticeFileUrl);
+    if (noticeFileUrl != null) {
+      data.setNoticeFileContent(this.contentProvider.retrieveContent(packageUrl, noticeFileUrl));
+    }
+    data.setHomepageUrl(textOrNull(json, "homepageUrl"));
+    data.setSourceRepoUrl(textOrNull(json, "sourceRepoUrl"));
+    data.setSourceDownloadUrl(rawScancodeData.sourceDownloadUrl);
+    data.setPackageDownloadUrl(rawScancodeData.packageDownloadUrl);
+    for (JsonNode copyright : json.get("copyrights")) {
+      data.addCopyright(copyright.asText());
+    }
+    for (JsonNode license : json.get("licenses")) {
+      DefaultLicenseInfoImpl licenseInfo = new DefaultLicenseInfoImpl();
+      licenseInfo.setSpdxId(textOrNull(license, "spdxid"));
+      String licenseUrl = textOrNull(license, "licenseUrl");
+      licenseInfo.setLicenseUrl(licenseUrl);
+      if (licenseUrl != null && license.path("hasGivenLicenseText").asBoolean()) {
+        licenseInfo.setGivenLicenseText(this.contentProvider.retrieveContent(packageUrl, licenseUrl));
+      }
+      data.addLicense(licenseInfo);
+    }
+    result.setComponentInfoData(data);
+    return result;
+  }
+
+  /**
+   * Gets the text value of a property.
+   *
+   * @param json the object
+   * @param property the name of the property
+   * @return the text value; <code>null</code> if the property does not exist or is <code>null</code>
+   */
+  private static String textOrNull(JsonNode json, String property) {
+
+    JsonNode value = json.get(property);
+    return value == null || value.isNull() ? null : value.asText();
+  }
+
+}
@@ -0,0 +1,123 @@
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfoAdapterException;
+import com.devonfw.tools.solicitor.componentinfo.curation.CurationInvalidException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Reads Scancode JSON data from a file in a streaming manner. Instead of building a tree of the complete (possibly
+ * huge) data only the small top level properties are read as a tree via {@link #readTopLevelData()}. The entries of
+ * the <code>files</code> array are streamed one by one via {@link #forEach(FileEntryHandler)}. So peak memory
+ * consumption scales with the largest single entry and not with the whole data.
+ *
+ */
+public class ScancodeJsonFileReader implements ScancodeJsonFiles {
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private static final String FILES = "files";
+
+  /**
+   * The top level properties which are read by {@link #readTopLevelData()}. Any other properties are skipped.
+   */
+  private static final String[] TOP_LEVEL_PROPERTIES = { "headers", "license_references" };
+
+  private final File scancodeFile;
+
+  /**
+   * The constructor.
+   *
+   * @param scancodeFile the file containing the Scancode JSON data
+   */
+  public ScancodeJsonFileReader(File scancodeFile) {
+
+    this.scancodeFile = scancodeFile;
+  }
+
+  /**
+   * Reads the top level properties <code>headers</code> and <code>license_references</code> of the Scancode JSON data.
+   * All other properties (specifically the <code>files</code> array) are skipped without building a tree.
+   *
+   * @return a JSON object containing the read properties.
+   * @throws ComponentInfoAdapterException if the data could not be read or parsed.
+   */
+  public JsonNode readTopLevelData() throws ComponentInfoAdapterException {
+
+    ObjectNode result = mapper.createObjectNode();
+    try (JsonParser parser = createParser()) {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        parser.nextToken();
+        if (isTopLevelPropertyToRead(name)) {
+          result.set(name, mapper.readTree(parser));
+        } else {
+          parser.skipChildren();
+        }
+      }
+    } catch (IOException e) {
+      throw new ComponentInfoAdapterException("Could not parse Scancode JSON", e);
+    }
+    return result;
+  }
+
+  @Override
+  public void forEach(FileEntryHandler handler) throws ComponentInfoAdapterException, CurationInvalidException {
+
+    try (JsonParser parser = createParser()) {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        JsonToken token = parser.nextToken();
+        if (FILES.equals(name) && token == JsonToken.START_ARRAY) {
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            JsonNode file = mapper.readTree(parser);
+            handler.handle(file);
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    } catch (IOException e) {
+      throw new ComponentInfoAdapterException("Could not parse Scancode JSON", e);
+    }
+  }
+
+  /**
+   * Creates a parser for the file and checks that the data starts with a JSON object.
+   *
+   * @return the parser which is positioned at the start of the top level object
+   * @throws IOException if the file could not be read or does not contain a JSON object
+   */
+  private JsonParser createParser() throws IOException {
+
+    JsonParser parser = mapper.getFactory().createParser(this.scancodeFile);
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      parser.close();
+      throw new IOException("Scancode JSON does not contain an object at top level");
+    }
+    return parser;
+  }
+
+  /**
+   * Checks if the top level property with the given name needs to be read.
+   *
+   * @param name the name of the property
+   * @return <code>true</code> if the property needs to be read, <code>false</code> if it might be skipped
+   */
+  private boolean isTopLevelPropertyToRead(String name) {
+
+    for (String property : TOP_LEVEL_PROPERTIES) {
+      if (property.equals(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
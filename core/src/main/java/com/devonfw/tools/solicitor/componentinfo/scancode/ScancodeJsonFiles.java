@@ -0,0 +1,56 @@
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfoAdapterException;
+import com.devonfw.tools.solicitor.componentinfo.curation.CurationInvalidException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Gives sequential access to the entries of the <code>files</code> array of Scancode JSON data. Implementations might
+ * either iterate over an already parsed JSON tree or stream the entries from the underlying file so that only a single
+ * entry needs to be held in memory.
+ *
+ */
+public interface ScancodeJsonFiles {
+
+  /**
+   * Handler which is called for each entry of the <code>files</code> array.
+   */
+  @FunctionalInterface
+  interface FileEntryHandler {
+
+    /**
+     * Handles a single entry.
+     *
+     * @param file the JSON data of the entry
+     * @throws ComponentInfoAdapterException if an error occurs while processing the entry
+     * @throws CurationInvalidException if the curation data is not valid
+     */
+    void handle(JsonNode file) throws ComponentInfoAdapterException, CurationInvalidException;
+  }
+
+  /**
+   * Calls the given handler for each entry of the <code>files</code> array in the order given in the Scancode JSON
+   * data.
+   *
+   * @param handler the handler to call
+   * @throws ComponentInfoAdapterException if an error occurs while reading the data or is thrown by the handler
+   * @throws CurationInvalidException if thrown by the handler
+   */
+  void forEach(FileEntryHandler handler) throws ComponentInfoAdapterException, CurationInvalidException;
+
+  /**
+   * Creates a {@link ScancodeJsonFiles} which iterates over the <code>files</code> array of the given JSON tree.
+   *
+   * @param scancodeJson the completely parsed Scancode JSON data
+   * @return the created object
+   */
+  static ScancodeJsonFiles of(JsonNode scancodeJson) {
+
+    return handler -> {
+      for (JsonNode file : scancodeJson.get("files")) {
+        handler.handle(file);
+      }
+    };
+  }
+
+}
@@ -1,13 +1,24 @@
 package com.devonfw.tools.solicitor.componentinfo.scancode;
 
+import java.io.File;
+
 /**
  * Contains raw scancode data and any additional data needed to create a ComponentInfo structure.
  *
  */
 public class ScancodeRawComponentInfo {
 
+  /**
+   * The complete scancode JSON data. Might be <code>null</code> if {@link #rawScancodeResultFile} is set.
+   */
   public String rawScancodeResult;
 
+  /**
+   * The file containing the scancode JSON data. If set (and {@link #rawScancodeResult} is <code>null</code>) the data
+   * will be streamed from this file instead of being held in memory completely.
+   */
+  public File rawScancodeResultFile;
+
   public String sourceDownloadUrl;
 
   public String packageDownloadUrl;
@@ -34,6 +34,9 @@ public class RuleConfig {
   @JsonProperty
   private String deprecationDetails;
 
+  @JsonProperty
+  private boolean crossApplication;
+
   /**
    * This method gets the field <code>ruleGroup</code>.
    *
@@ -114,6 +117,18 @@ public class RuleConfig {
     return this.deprecationDetails;
   }
 
+  /**
+   * Gets crossApplication. If <code>true</code> the rules of this group might join facts of different
+   * {@link com.devonfw.tools.solicitor.model.masterdata.Application}s and thus always need to be executed within a
+   * single session.
+   *
+   * @return crossApplication
+   */
+  public boolean isCrossApplication() {
+
+    return this.crossApplication;
+  }
+
   /**
    * This method sets the field <code>ruleGroup</code>.
    *
@@ -192,4 +207,14 @@ public class RuleConfig {
     this.deprecationDetails = deprecationDetails;
   }
 
+  /**
+   * Set crossApplication.
+   *
+   * @param crossApplication new value of {@link #isCrossApplication()}.
+   */
+  public void setCrossApplication(boolean crossApplication) {
+
+    this.crossApplication = crossApplication;
+  }
+
 }
@@ -0,0 +1,241 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.licensetexts;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.devonfw.tools.solicitor.InventoryProcessor;
+import com.devonfw.tools.solicitor.common.LogMessages;
+import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
+import com.devonfw.tools.solicitor.common.content.Content;
+import com.devonfw.tools.solicitor.common.content.ContentProvider;
+import com.devonfw.tools.solicitor.common.content.InMemoryMapContentProvider;
+import com.devonfw.tools.solicitor.common.content.web.WebContent;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
+import com.devonfw.tools.solicitor.model.inventory.NormalizedLicense;
+import com.devonfw.tools.solicitor.model.masterdata.Application;
+
+/**
+ * {@link InventoryProcessor} which prefetches the license texts (and guessed license URLs) of all
+ * {@link NormalizedLicense}s concurrently. The results are kept in the {@link InMemoryMapContentProvider}s so that
+ * {@link ModelRoot#completeData()} afterwards does not need to fetch them one by one.
+ * <p>
+ * The set of fetched URLs corresponds to the URLs accessed by {@link NormalizedLicense#completeData()}. Failures are
+ * ignored here; they will occur again (and be handled) when completing the data. This processor runs after the rule
+ * engine.
+ * <p>
+ * Note that the prefetched texts might be evicted from memory again before they are used when the size of the in memory
+ * cache is limited via property <code>webcontent.inmemory-cache-max-size</code>. They are then read again from the
+ * file system cache (if active) or the net.
+ */
+@Component
+@Order(InventoryProcessor.AFTER_RULE_ENGINE)
+public class LicenseTextPrefetchInventoryProcessor implements InventoryProcessor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LicenseTextPrefetchInventoryProcessor.class);
+
+  @Autowired
+  private InMemoryMapContentProvider<WebContent> licenseContentProvider;
+
+  @Autowired
+  private InMemoryMapContentProvider<GuessedLicenseUrlContent> licenseUrlGuesser;
+
+  private int threads = 1;
+
+  private int threadsPerHost = 2;
+
+  /**
+   * Sets the number of threads used for prefetching.
+   *
+   * @param threads the number of threads; if 1 (or less) no prefetching is done
+   */
+  @Value("${solicitor.licensetexts.prefetch-threads:1}")
+  public void setThreads(int threads) {
+
+    this.threads = threads;
+  }
+
+  /**
+   * Sets the maximum number of concurrent requests per host.
+   *
+   * @param threadsPerHost the maximum number of concurrent requests for URLs of the same host
+   */
+  @Value("${solicitor.licensetexts.prefetch-threads-per-host:2}")
+  public void setThreadsPerHost(int threadsPerHost) {
+
+    this.threadsPerHost = threadsPerHost;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void processInventory(ModelRoot modelRoot) {
+
+    if (this.threads <= 1) {
+      return;
+    }
+    long startTime = System.currentTimeMillis();
+    List<NormalizedLicense> licenses = new ArrayList<>();
+    for (Application application : modelRoot.getEngagement().getApplications()) {
+      for (ApplicationComponent applicationComponent : application.getApplicationComponents()) {
+        licenses.addAll(applicationComponent.getNormalizedLicenses());
+      }
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+    try {
+      // first step: guess the license URLs (this might itself require fetching web content)
+      Set<String> urlsToGuess = new LinkedHashSet<>();
+      for (NormalizedLicense license : licenses) {
+        if (license.getGuessedLicenseUrl() == null) {
+          addIfNotEmpty(urlsToGuess, license.getEffectiveNormalizedLicenseUrl());
+        }
+      }
+      Map<String, GuessedLicenseUrlContent> guessed = fetchAll(executor, this.licenseUrlGuesser, urlsToGuess);
+
+      // second step: fetch the license texts
+      Set<String> urls = new LinkedHashSet<>();
+      for (NormalizedLicense license : licenses) {
+        collectContentUrls(license, guessed, urls);
+      }
+      LOG.info(LogMessages.PREFETCHING_LICENSE_TEXTS.msg(), urlsToGuess.size(), urls.size(), this.threads);
+      fetchAll(executor, this.licenseContentProvider, urls);
+    } finally {
+      executor.shutdownNow();
+    }
+    LOG.info(LogMessages.PREFETCHING_LICENSE_TEXTS_FINISHED.msg(), System.currentTimeMillis() - startTime);
+  }
+
+  /**
+   * Collects the URLs of all license texts which will be fetched by {@link NormalizedLicense#completeData()}.
+   *
+   * @param license the license
+   * @param guessed the results of guessing license URLs
+   * @param urls the set to add the URLs to
+   */
+  private void collectContentUrls(NormalizedLicense license, Map<String, GuessedLicenseUrlContent> guessed,
+      Set<String> urls) {
+
+    if (license.getGuessedLicenseContent() == null) {
+      String guessedUrl = license.getGuessedLicenseUrl();
+      if (guessedUrl == null) {
+        GuessedLicenseUrlContent guessedContent = guessed.get(license.getEffectiveNormalizedLicenseUrl());
+        guessedUrl = guessedContent != null ? guessedContent.getGuessedUrl() : null;
+      }
+      addIfNotEmpty(urls, guessedUrl);
+    }
+    if (license.getDeclaredLicenseContent() == null) {
+      addIfNotEmpty(urls, license.getLicenseUrl());
+    }
+    String normalizedUrl = license.getNormalizedLicenseUrl();
+    if (license.getNormalizedLicenseContent() == null
+        && !(normalizedUrl != null && normalizedUrl.equals(license.getLicenseUrl()))) {
+      addIfNotEmpty(urls, normalizedUrl);
+    }
+    String effectiveUrl = license.getEffectiveNormalizedLicenseUrl();
+    if (license.getEffectiveNormalizedLicenseContent() == null
+        && !(effectiveUrl != null && effectiveUrl.equals(normalizedUrl))) {
+      addIfNotEmpty(urls, effectiveUrl);
+    }
+    if (license.getLicenseRefContent() == null) {
+      addIfNotEmpty(urls, license.getLicenseRefUrl());
+    }
+  }
+
+  private void addIfNotEmpty(Set<String> urls, String url) {
+
+    if (url != null && !url.isEmpty()) {
+      urls.add(url);
+    }
+  }
+
+  /**
+   * Fetches the content for all given URLs concurrently, limiting the number of concurrent requests per host. The URLs
+   * are queued per host and each host gets at most {@link #threadsPerHost} tasks which process its queue one after the
+   * other, so no thread of the pool is blocked waiting for a host.
+   *
+   * @param <C> the type of content
+   * @param executor the {@link ExecutorService} to use
+   * @param contentProvider the {@link ContentProvider} to fetch the content from
+   * @param urls the URLs
+   * @return the successfully fetched content per URL
+   */
+  private <C extends Content> Map<String, C> fetchAll(ExecutorService executor, ContentProvider<C> contentProvider,
+      Collection<String> urls) {
+
+    Map<String, Queue<String>> urlsPerHost = new LinkedHashMap<>();
+    for (String url : urls) {
+      urlsPerHost.computeIfAbsent(hostOf(url), host -> new ConcurrentLinkedQueue<>()).add(url);
+    }
+    Map<String, C> results = Collections.synchronizedMap(new HashMap<>());
+    List<Future<?>> futures = new ArrayList<>();
+    for (Queue<String> hostUrls : urlsPerHost.values()) {
+      int tasks = Math.min(Math.max(this.threadsPerHost, 1), hostUrls.size());
+      for (int i = 0; i < tasks; i++) {
+        futures.add(executor.submit(() -> {
+          String url;
+          while ((url = hostUrls.poll()) != null) {
+            try {
+              results.put(url, contentProvider.getContentForUri(url));
+            } catch (RuntimeException e) {
+              // will be retried (and handled) when completing the data
+              LOG.debug("Prefetching content for '" + url + "' failed", e);
+            }
+          }
+        }));
+      }
+    }
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SolicitorRuntimeException("Interrupted when prefetching license texts", e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        throw new SolicitorRuntimeException("Exception when prefetching license texts", e.getCause());
+      }
+    }
+    return results;
+  }
+
+  private String hostOf(String url) {
+
+    try {
+      String host = new URL(url).getHost();
+      return host != null ? host : "";
+    } catch (MalformedURLException e) {
+      return "";
+    }
+  }
+
+}
@@ -26,6 +26,9 @@ public class LicenseUrlGuesserConfiguration {
   @Value("${solicitor.classpath-guessedlicenseurl-cache-locations}")
   private String[] cachePaths;
 
+  @Value("${solicitor.licenseurlguesser.probe-threads:1}")
+  private int probeThreads;
+
   @Autowired
   private InMemoryMapContentProvider<WebContent> inMemoryMapWebContentProvider;
 
@@ -63,6 +66,9 @@ public class LicenseUrlGuesserConfiguration {
   @Bean
   public StrategyLicenseUrlGuesser strategyLicenseUrlGuesser() {
 
-    return new StrategyLicenseUrlGuesser(this.inMemoryMapWebContentProvider, this.solicitorVersion);
+    StrategyLicenseUrlGuesser guesser = new StrategyLicenseUrlGuesser(this.inMemoryMapWebContentProvider,
+        this.solicitorVersion);
+    guesser.setProbeThreads(this.probeThreads);
+    return guesser;
   }
 }
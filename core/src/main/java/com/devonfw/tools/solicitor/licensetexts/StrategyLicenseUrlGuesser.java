@@ -6,11 +6,22 @@ package com.devonfw.tools.solicitor.licensetexts;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.devonfw.tools.solicitor.SolicitorVersion;
+import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 import com.devonfw.tools.solicitor.common.content.ContentProvider;
 import com.devonfw.tools.solicitor.common.content.web.WebContent;
 
@@ -25,6 +36,17 @@ public class StrategyLicenseUrlGuesser implements LicenseUrlGuesser {
 
   private SolicitorVersion solicitorVersion;
 
+  private int probeThreads = 1;
+
+  private ExecutorService probeExecutor;
+
+  /**
+   * Results of searching license files within a repository (given by the base URL of its raw content); an empty
+   * {@link Optional} if nothing was found. Concurrent searches within the same repository wait for the result of the
+   * first one instead of probing again.
+   */
+  private final Map<String, FutureTask<Optional<String>>> repositoryProbeResults = new ConcurrentHashMap<>();
+
   /**
    * The constructor.
    *
@@ -37,6 +59,27 @@ public class StrategyLicenseUrlGuesser implements LicenseUrlGuesser {
     this.solicitorVersion = solicitorVersion;
   }
 
+  /**
+   * Sets the number of threads used for probing possible license URLs of a repository concurrently.
+   *
+   * @param probeThreads the number of threads; if 1 (or less) the URLs are probed sequentially
+   */
+  public void setProbeThreads(int probeThreads) {
+
+    if (this.probeExecutor != null) {
+      this.probeExecutor.shutdown();
+      this.probeExecutor = null;
+    }
+    this.probeThreads = probeThreads;
+    if (probeThreads > 1) {
+      this.probeExecutor = Executors.newFixedThreadPool(probeThreads, runnable -> {
+        Thread thread = new Thread(runnable, "license-url-probe");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
   // helper method that returns true if the given url is available and false
   // if the given url is a 404 not found page
   private boolean pingURL(String url, StringBuilder traceBuilder) {
@@ -51,6 +94,64 @@ public class StrategyLicenseUrlGuesser implements LicenseUrlGuesser {
     }
   }
 
+  /**
+   * Probes the given URLs and returns the first one (in the given order) for which content is available. If more than
+   * one probe thread is configured, the URLs are probed concurrently in batches of the number of threads.
+   *
+   * @param urls the URLs to probe, in order of priority
+   * @param traceBuilder the builder for the audit trace
+   * @return the first URL with available content or <code>null</code> if there is none
+   */
+  private String probeURLs(List<String> urls, StringBuilder traceBuilder) {
+
+    if (this.probeExecutor == null) {
+      for (String testURL : urls) {
+        setTrace("Searching for license: testing with " + testURL, traceBuilder);
+        if (pingURL(testURL, traceBuilder)) {
+          return testURL;
+        }
+      }
+      return null;
+    }
+    for (int batchStart = 0; batchStart < urls.size(); batchStart += this.probeThreads) {
+      List<String> batch = urls.subList(batchStart, Math.min(batchStart + this.probeThreads, urls.size()));
+      List<Future<Boolean>> results = new ArrayList<>();
+      List<StringBuilder> traces = new ArrayList<>();
+      for (String testURL : batch) {
+        StringBuilder trace = new StringBuilder();
+        setTrace("Searching for license: testing with " + testURL, trace);
+        traces.add(trace);
+        results.add(this.probeExecutor.submit(() -> pingURL(testURL, trace)));
+      }
+      for (int i = 0; i < batch.size(); i++) {
+        boolean available = awaitProbe(results.get(i));
+        traceBuilder.append(traces.get(i));
+        if (available) {
+          return batch.get(i);
+        }
+      }
+    }
+    return null;
+  }
+
+  private boolean awaitProbe(Future<Boolean> result) {
+
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SolicitorRuntimeException("Interrupted when probing license URLs", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new SolicitorRuntimeException("Exception when probing license URLs", e.getCause());
+    }
+  }
+
   private void setTrace(String trace, StringBuilder traceBuilder) {
 
     traceBuilder.append(trace).append('\n');
@@ -101,6 +202,7 @@ public class StrategyLicenseUrlGuesser implements LicenseUrlGuesser {
       if (url.endsWith("/")) {
         url = url.substring(0, url.length() - 1);
       }
+      List<String> candidates = new ArrayList<>();
       for (String name : licensefilenames) {
         String testURL;
         if (url.contains("/master/") || url.contains("/main/")) {
@@ -108,23 +210,16 @@ public class StrategyLicenseUrlGuesser implements LicenseUrlGuesser {
         } else {
           testURL = url.concat("/master/" + name);
         }
-        setTrace("Searching for license: testing with " + testURL, traceBuilder);
-        if (pingURL(testURL, traceBuilder) == true) {
-          setTrace("URL changed from " + oldURL + " to " + testURL, traceBuilder);
-          // return normalizeGitURL(testURL, traceBuilder);
-          return testURL;
-        }
+        candidates.add(testURL);
         if (testURL.contains("master")) {
-          testURL = testURL.replace("master", "main");
-          setTrace("Searching for license: testing with " + testURL, traceBuilder);
-          if (pingURL(testURL, traceBuilder) == true) {
-            setTrace("URL changed from " + oldURL + " to " + testURL, traceBuilder);
-            // return normalizeGitURL(testURL, traceBuilder);
-            return testURL;
-
-          }
+          candidates.add(testURL.replace("master", "main"));
         }
       }
+      Optional<String> found = probeRepository(url, candidates, traceBuilder);
+      if (found.isPresent()) {
+        setTrace("URL changed from " + oldURL + " to " + found.get(), traceBuilder);
+        return found.get();
+      }
     }
     if (url.contains("http:")) {
       String testURL = url.replace("http:", "https:");
@@ -137,6 +232,61 @@ public class StrategyLicenseUrlGuesser implements LicenseUrlGuesser {
     return oldURL;
   }
 
+  /**
+   * Searches for a license file within a repository by probing the given candidate URLs. The search is done only once
+   * per repository; further (also concurrent) calls for the same repository reuse its result.
+   *
+   * @param repositoryUrl the base URL of the raw content of the repository
+   * @param candidates the URLs of possible license files
+   * @param traceBuilder the builder for the trace
+   * @return the URL of the found license file; an empty {@link Optional} if nothing was found
+   */
+  private Optional<String> probeRepository(String repositoryUrl, List<String> candidates,
+      StringBuilder traceBuilder) {
+
+    FutureTask<Optional<String>> task = this.repositoryProbeResults.get(repositoryUrl);
+    if (task == null) {
+      FutureTask<Optional<String>> newTask = new FutureTask<>(
+          () -> Optional.ofNullable(probeURLs(candidates, traceBuilder)));
+      task = this.repositoryProbeResults.putIfAbsent(repositoryUrl, newTask);
+      if (task == null) {
+        // this thread is responsible for probing the repository
+        newTask.run();
+        return getProbeResult(repositoryUrl, newTask);
+      }
+    }
+    setTrace("Searching for license: reusing result of previous search in " + repositoryUrl, traceBuilder);
+    return getProbeResult(repositoryUrl, task);
+  }
+
+  /**
+   * Gets the result of the given search for license files, waiting for its completion if necessary.
+   *
+   * @param repositoryUrl the base URL of the raw content of the repository
+   * @param task the task searching for license files
+   * @return the URL of the found license file; an empty {@link Optional} if nothing was found
+   */
+  private Optional<String> getProbeResult(String repositoryUrl, FutureTask<Optional<String>> task) {
+
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SolicitorRuntimeException("Interrupted when waiting for license search in '" + repositoryUrl + "'", e);
+    } catch (ExecutionException e) {
+      // do not cache failures
+      this.repositoryProbeResults.remove(repositoryUrl, task);
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new SolicitorRuntimeException("Exception when searching for license in '" + repositoryUrl + "'",
+          e.getCause());
+    }
+  }
+
   @Override
   public GuessedLicenseUrlContent getContentForUri(String uri) {
 
@@ -13,6 +13,8 @@ import com.devonfw.tools.solicitor.common.content.ContentProvider;
 import com.devonfw.tools.solicitor.common.content.FilesystemCachingContentProvider;
 import com.devonfw.tools.solicitor.common.content.InMemoryMapContentProvider;
 import com.devonfw.tools.solicitor.common.content.web.DirectUrlWebContentProvider;
+import com.devonfw.tools.solicitor.common.content.web.HttpContentFetcher;
+import com.devonfw.tools.solicitor.common.content.web.UrlConnectionHttpContentFetcher;
 import com.devonfw.tools.solicitor.common.content.web.WebContent;
 import com.devonfw.tools.solicitor.common.content.web.WebContentFactory;
 
@@ -28,6 +30,21 @@ public class WebContentConfiguration {
   @Value("${webcontent.skipdownload}")
   private boolean skipdownload;
 
+  @Value("${webcontent.inmemory-cache-max-size:0}")
+  private long inMemoryCacheMaxSize;
+
+  @Value("${webcontent.connect-timeout-ms:30000}")
+  private int connectTimeout;
+
+  @Value("${webcontent.read-timeout-ms:60000}")
+  private int readTimeout;
+
+  @Value("${webcontent.max-retries:2}")
+  private int maxRetries;
+
+  @Value("${webcontent.retry-backoff-ms:1000}")
+  private long retryBackoff;
+
   @Bean
   public ContentFactory<WebContent> webContentFactory() {
 
@@ -37,7 +54,10 @@ public class WebContentConfiguration {
   @Bean
   public InMemoryMapContentProvider<WebContent> inMemoryMapWebContentProvider() {
 
-    return new InMemoryMapContentProvider<>(webContentFactory(), classpathWebContentProvider());
+    InMemoryMapContentProvider<WebContent> provider = new InMemoryMapContentProvider<>(webContentFactory(),
+        classpathWebContentProvider());
+    provider.setMaxCachedSize(this.inMemoryCacheMaxSize);
+    return provider;
 
   }
 
@@ -56,6 +76,17 @@ public class WebContentConfiguration {
   @Bean
   public DirectUrlWebContentProvider directUrlWebContentProvider() {
 
-    return new DirectUrlWebContentProvider(this.skipdownload);
+    return new DirectUrlWebContentProvider(this.skipdownload, httpContentFetcher());
+  }
+
+  @Bean
+  public HttpContentFetcher httpContentFetcher() {
+
+    UrlConnectionHttpContentFetcher fetcher = new UrlConnectionHttpContentFetcher();
+    fetcher.setConnectTimeout(this.connectTimeout);
+    fetcher.setReadTimeout(this.readTimeout);
+    fetcher.setMaxRetries(this.maxRetries);
+    fetcher.setRetryBackoff(this.retryBackoff);
+    return fetcher;
   }
 }
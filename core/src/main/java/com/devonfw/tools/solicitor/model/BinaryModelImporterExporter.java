@@ -0,0 +1,545 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.devonfw.tools.solicitor.common.ReportingGroupHandler;
+import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
+import com.devonfw.tools.solicitor.model.impl.ModelFactoryImpl;
+import com.devonfw.tools.solicitor.model.impl.ModelRootImpl;
+import com.devonfw.tools.solicitor.model.impl.TextPool;
+import com.devonfw.tools.solicitor.model.impl.inventory.ApplicationComponentImpl;
+import com.devonfw.tools.solicitor.model.impl.inventory.NormalizedLicenseImpl;
+import com.devonfw.tools.solicitor.model.impl.inventory.RawLicenseImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.ApplicationImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.EngagementImpl;
+import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
+import com.devonfw.tools.solicitor.model.inventory.NormalizedLicense;
+import com.devonfw.tools.solicitor.model.inventory.RawLicense;
+import com.devonfw.tools.solicitor.model.masterdata.Application;
+import com.devonfw.tools.solicitor.model.masterdata.Engagement;
+import com.devonfw.tools.solicitor.model.masterdata.EngagementType;
+import com.devonfw.tools.solicitor.model.masterdata.GoToMarketModel;
+import com.devonfw.tools.solicitor.model.masterdata.UsagePattern;
+
+/**
+ * Loads and saves the data model in a compact binary snapshot format. This format is used by
+ * {@link ModelImporterExporter} for files with extension {@value #EXTENSION} (uncompressed) or
+ * {@value #EXTENSION_COMPRESSED} (gzip compressed).
+ * <p>
+ * The texts of the {@link TextPool} are streamed directly to the file, one after another, so that they never need to be
+ * held in memory at the same time. All other strings of the model are stored only once in a string table; the model
+ * objects only reference the strings by their index in the table. The structure of the file is:
+ *
+ * <pre>
+ * magic number, format version, model version
+ * text pool: number of texts, (length of UTF-8 encoding, UTF-8 encoding)*
+ * string table: number of strings, (length of UTF-8 encoding, UTF-8 encoding)*
+ * model root: string references of the fields
+ * engagement: string references and flags of the fields, number of applications, application*
+ * application: string references of the fields, number of application components, application component*
+ * application component: string references and flags of the fields, number of normalized licenses, normalized
+ *                        license*, number of raw licenses, raw license*
+ * </pre>
+ *
+ * String references are the index in the string table; <code>null</code> is represented by -1.
+ * <p>
+ * The layout of the model objects is specific to model version {@value #MODEL_VERSION}. Only models of this version
+ * can be saved and loaded. Any change of the model requires a new {@link #FORMAT_VERSION}.
+ */
+@Component
+public class BinaryModelImporterExporter {
+
+  /**
+   * Extension of files which hold an uncompressed binary snapshot.
+   */
+  public static final String EXTENSION = ".bin";
+
+  /**
+   * Extension of files which hold a compressed binary snapshot.
+   */
+  public static final String EXTENSION_COMPRESSED = ".bin.gz";
+
+  private static final int MAGIC = 0x534f4c4d; // "SOLM"
+
+  private static final int FORMAT_VERSION = 2;
+
+  /**
+   * The model version for which the layout of {@link #FORMAT_VERSION} is defined.
+   */
+  private static final int MODEL_VERSION = 7;
+
+  private static final int NULL_REFERENCE = -1;
+
+  @Autowired
+  private ModelFactoryImpl modelFactory;
+
+  @Autowired
+  private ReportingGroupHandler reportingGroupHandler;
+
+  /**
+   * Checks if the given file is a binary snapshot (as determined by its extension).
+   *
+   * @param filename the name of the file
+   * @return <code>true</code> if the file is a binary snapshot, <code>false</code> otherwise
+   */
+  public static boolean isBinarySnapshot(String filename) {
+
+    String lowerCaseFilename = filename.toLowerCase(Locale.ROOT);
+    return lowerCaseFilename.endsWith(EXTENSION) || lowerCaseFilename.endsWith(EXTENSION_COMPRESSED);
+  }
+
+  /**
+   * Loads the data model from a binary snapshot. Compressed snapshots are detected automatically.
+   *
+   * @param filename the name of the file to load the data model from.
+   * @return the root object of the loaded data model.
+   * @throws SolicitorRuntimeException if there is an issue loading the data model from the file.
+   */
+  public ModelRootImpl loadModel(String filename) {
+
+    try (InputStream is = openForRead(filename); DataInputStream in = new DataInputStream(is)) {
+      if (in.readInt() != MAGIC) {
+        throw new SolicitorRuntimeException("File '" + filename + "' is not a binary Solicitor data model snapshot");
+      }
+      int formatVersion = in.readInt();
+      if (formatVersion != FORMAT_VERSION) {
+        throw new SolicitorRuntimeException("Unsupported format version " + formatVersion
+            + " of binary data model snapshot '" + filename + "'; version must be " + FORMAT_VERSION + ".");
+      }
+      ModelRootImpl modelRoot = this.modelFactory.newModelRoot();
+      int readModelVersion = in.readInt();
+      checkModelVersion(readModelVersion, "binary snapshot '" + filename + "' can not be loaded");
+      TextPool textPool = modelRoot.getTextPool();
+      for (int count = readCount(in); count > 0; count--) {
+        // only store values; keys will be reconstructed based on values
+        textPool.store(readText(in));
+      }
+      String[] strings = readStringTable(in);
+      Reader reader = new Reader(in, strings);
+
+      modelRoot.setExecutionTime(reader.readString());
+      modelRoot.setSolicitorVersion(reader.readString());
+      modelRoot.setSolicitorGitHash(reader.readString());
+      modelRoot.setSolicitorBuilddate(reader.readString());
+      modelRoot.setExtensionArtifactId(reader.readString());
+      modelRoot.setExtensionVersion(reader.readString());
+      modelRoot.setExtensionGitHash(reader.readString());
+      modelRoot.setExtensionBuilddate(reader.readString());
+      readEngagement(reader, modelRoot);
+      return modelRoot;
+    } catch (IOException e) {
+      throw new SolicitorRuntimeException("Could not load internal data model from file '" + filename + "'", e);
+    }
+  }
+
+  /**
+   * Checks if the given model version is the one the layout of the binary snapshot is defined for.
+   *
+   * @param modelVersion the model version to check
+   * @param context describes what fails if the version does not fit
+   * @throws SolicitorRuntimeException if the model version is unsupported.
+   */
+  private void checkModelVersion(int modelVersion, String context) {
+
+    if (modelVersion != MODEL_VERSION) {
+      throw new SolicitorRuntimeException("Unsupported model version " + modelVersion + ": " + context
+          + "; version must be " + MODEL_VERSION + ".");
+    }
+  }
+
+  private InputStream openForRead(String filename) throws IOException {
+
+    BufferedInputStream is = new BufferedInputStream(new FileInputStream(filename), 65536);
+    is.mark(2);
+    boolean gzip = is.read() == (GZIPInputStream.GZIP_MAGIC & 0xff)
+        && is.read() == (GZIPInputStream.GZIP_MAGIC >> 8 & 0xff);
+    is.reset();
+    return gzip ? new BufferedInputStream(new GZIPInputStream(is, 65536), 65536) : is;
+  }
+
+  private static int readCount(DataInputStream in) throws IOException {
+
+    int count = in.readInt();
+    if (count < 0) {
+      throw new IOException("Invalid count " + count);
+    }
+    return count;
+  }
+
+  private static String readText(DataInputStream in) throws IOException {
+
+    byte[] bytes = new byte[readCount(in)];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeText(DataOutputStream out, String text) throws IOException {
+
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private String[] readStringTable(DataInputStream in) throws IOException {
+
+    int count = in.readInt();
+    if (count < 0) {
+      throw new IOException("Corrupt string table");
+    }
+    String[] strings = new String[count];
+    byte[] buffer = new byte[8192];
+    for (int i = 0; i < count; i++) {
+      int length = in.readInt();
+      if (length < 0) {
+        throw new IOException("Corrupt string table");
+      }
+      if (length > buffer.length) {
+        buffer = new byte[Math.max(length, buffer.length * 2)];
+      }
+      in.readFully(buffer, 0, length);
+      strings[i] = new String(buffer, 0, length, StandardCharsets.UTF_8);
+    }
+    return strings;
+  }
+
+  private void readEngagement(Reader reader, ModelRootImpl modelRoot) throws IOException {
+
+    String engagementName = reader.readString();
+    String engagementType = reader.readString();
+    String clientName = reader.readString();
+    String goToMarketModel = reader.readString();
+    EngagementImpl engagement = this.modelFactory.newEngagement(engagementName, EngagementType.valueOf(engagementType),
+        clientName, GoToMarketModel.valueOf(goToMarketModel));
+    engagement.setModelRoot(modelRoot);
+    engagement.setContractAllowsOss(reader.readBoolean());
+    engagement.setOssPolicyFollowed(reader.readBoolean());
+    engagement.setCustomerProvidesOss(reader.readBoolean());
+
+    for (int i = reader.readCount(); i > 0; i--) {
+      String name = reader.readString();
+      String releaseId = reader.readString();
+      String releaseDate = reader.readString();
+      String sourceRepo = reader.readString();
+      String programmingEcosystem = reader.readString();
+      String reportingGroups = reader.readString();
+      if (reportingGroups != null) {
+        this.reportingGroupHandler.validateReportingGroupList(reportingGroups);
+      }
+      ApplicationImpl application = this.modelFactory.newApplication(name, releaseId, releaseDate, sourceRepo,
+          programmingEcosystem, reportingGroups);
+      application.setEngagement(engagement);
+      for (int j = reader.readCount(); j > 0; j--) {
+        readApplicationComponent(reader, application);
+      }
+    }
+  }
+
+  private void readApplicationComponent(Reader reader, ApplicationImpl application) throws IOException {
+
+    ApplicationComponentImpl applicationComponent = this.modelFactory.newApplicationComponent();
+    applicationComponent.setApplication(application);
+    String usagePattern = reader.readString();
+    applicationComponent.setUsagePattern(usagePattern != null ? UsagePattern.valueOf(usagePattern) : null);
+    applicationComponent.setOssModified(reader.readBoolean());
+    applicationComponent.setOssHomepage(reader.readString());
+    applicationComponent.setSourceRepoUrl(reader.readString());
+    applicationComponent.setGroupId(reader.readString());
+    applicationComponent.setArtifactId(reader.readString());
+    applicationComponent.setVersion(reader.readString());
+    String repoType = reader.readString();
+    applicationComponent.setPackageUrl(reader.readString());
+    // set repoType after packageUrl to make sure the effective value is what is given by the file (see
+    // ModelImporterExporter)
+    applicationComponent.setRepoType(repoType);
+    applicationComponent.setCopyrights(reader.readString());
+    applicationComponent.setNoticeFileUrl(reader.readString());
+    applicationComponent.setNoticeFileContentKey(reader.readString());
+    applicationComponent.setDataStatus(reader.readString());
+    applicationComponent.setTraceabilityNotes(reader.readString());
+    applicationComponent.setSourceDownloadUrl(reader.readString());
+    applicationComponent.setPackageDownloadUrl(reader.readString());
+
+    for (int i = reader.readCount(); i > 0; i--) {
+      NormalizedLicenseImpl normalizedLicense = this.modelFactory.newNormalizedLicense();
+      normalizedLicense.setApplicationComponent(applicationComponent);
+      normalizedLicense.setDeclaredLicense(reader.readString());
+      normalizedLicense.setLicenseUrl(reader.readString());
+      normalizedLicense.setNormalizedLicenseType(reader.readString());
+      normalizedLicense.setNormalizedLicense(reader.readString());
+      normalizedLicense.setNormalizedLicenseUrl(reader.readString());
+      normalizedLicense.setEffectiveNormalizedLicenseType(reader.readString());
+      normalizedLicense.setEffectiveNormalizedLicense(reader.readString());
+      normalizedLicense.setEffectiveNormalizedLicenseUrl(reader.readString());
+      normalizedLicense.setLegalPreApproved(reader.readString());
+      normalizedLicense.setCopyLeft(reader.readString());
+      normalizedLicense.setLicenseCompliance(reader.readString());
+      normalizedLicense.setLicenseRefUrl(reader.readString());
+      normalizedLicense.setIncludeLicense(reader.readString());
+      normalizedLicense.setIncludeSource(reader.readString());
+      normalizedLicense.setReviewedForRelease(reader.readString());
+      normalizedLicense.setComments(reader.readString());
+      normalizedLicense.setLegalApproved(reader.readString());
+      normalizedLicense.setLegalComments(reader.readString());
+      normalizedLicense.setTrace(reader.readString());
+      normalizedLicense.setGuessedLicenseUrl(reader.readString());
+      normalizedLicense.setGuessedLicenseUrlAuditInfo(reader.readString());
+      normalizedLicense.setEffectiveNormalizedLicenseContentKey(reader.readString());
+      normalizedLicense.setDeclaredLicenseContentKey(reader.readString());
+      normalizedLicense.setLicenseRefContentKey(reader.readString());
+      normalizedLicense.setNormalizedLicenseContentKey(reader.readString());
+      normalizedLicense.setGuessedLicenseContentKey(reader.readString());
+    }
+    for (int i = reader.readCount(); i > 0; i--) {
+      RawLicenseImpl rawLicense = this.modelFactory.newRawLicense();
+      rawLicense.setApplicationComponent(applicationComponent);
+      rawLicense.setDeclaredLicense(reader.readString());
+      rawLicense.setLicenseUrl(reader.readString());
+      rawLicense.setTrace(reader.readString());
+      rawLicense.setOrigin(reader.readString());
+      rawLicense.setSpecialHandling(reader.readBoolean());
+    }
+  }
+
+  /**
+   * Saves the model as binary snapshot. The snapshot is compressed if the filename ends with
+   * {@value #EXTENSION_COMPRESSED}.
+   *
+   * @param modelRoot the root object of the data model
+   * @param filename the path/name of the file to save to
+   * @throws IOException if the file could not be written
+   * @throws SolicitorRuntimeException if the model version is not supported by the binary snapshot format
+   */
+  public void saveModel(ModelRoot modelRoot, String filename) throws IOException {
+
+    ModelRootImpl modelRootImpl = (ModelRootImpl) modelRoot;
+    checkModelVersion(modelRootImpl.getModelVersion(), "model can not be saved as binary snapshot '" + filename + "'");
+    // the model objects are written first to a buffer while building up the string table
+    Writer writer = new Writer();
+    writer.writeString(modelRootImpl.getExecutionTime());
+    writer.writeString(modelRootImpl.getSolicitorVersion());
+    writer.writeString(modelRootImpl.getSolicitorGitHash());
+    writer.writeString(modelRootImpl.getSolicitorBuilddate());
+    writer.writeString(modelRootImpl.getExtensionArtifactId());
+    writer.writeString(modelRootImpl.getExtensionVersion());
+    writer.writeString(modelRootImpl.getExtensionGitHash());
+    writer.writeString(modelRootImpl.getExtensionBuilddate());
+    writeEngagement(writer, modelRootImpl);
+
+    boolean compressed = filename.toLowerCase(Locale.ROOT).endsWith(EXTENSION_COMPRESSED);
+    try (OutputStream os = openForWrite(filename, compressed); DataOutputStream out = new DataOutputStream(os)) {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(modelRootImpl.getModelVersion());
+      // texts are decompressed one by one when iterating (see CompressedTextPoolImpl#getDataMap())
+      Collection<String> texts = modelRootImpl.getTextPool().getDataMap().values();
+      out.writeInt(texts.size());
+      for (String text : texts) {
+        writeText(out, text);
+      }
+      out.writeInt(writer.strings.size());
+      for (String string : writer.strings) {
+        writeText(out, string);
+      }
+      writer.buffer.writeTo(out);
+    }
+  }
+
+  private OutputStream openForWrite(String filename, boolean compressed) throws IOException {
+
+    OutputStream os = new FileOutputStream(filename);
+    if (compressed) {
+      os = new GZIPOutputStream(os, 65536);
+    }
+    return new BufferedOutputStream(os, 65536);
+  }
+
+  private void writeEngagement(Writer writer, ModelRootImpl modelRoot) throws IOException {
+
+    Engagement engagement = modelRoot.getEngagement();
+    writer.writeString(engagement.getEngagementName());
+    writer.writeString(engagement.getEngagementType().name());
+    writer.writeString(engagement.getClientName());
+    writer.writeString(engagement.getGoToMarketModel().name());
+    writer.writeBoolean(engagement.isContractAllowsOss());
+    writer.writeBoolean(engagement.isOssPolicyFollowed());
+    writer.writeBoolean(engagement.isCustomerProvidesOss());
+
+    writer.writeCount(engagement.getApplications().size());
+    for (Application application : engagement.getApplications()) {
+      writer.writeString(application.getName());
+      writer.writeString(application.getReleaseId());
+      writer.writeString(application.getReleaseDate());
+      writer.writeString(application.getSourceRepo());
+      writer.writeString(application.getProgrammingEcosystem());
+      writer.writeString(application.getReportingGroups());
+      writer.writeCount(application.getApplicationComponents().size());
+      for (ApplicationComponent applicationComponent : application.getApplicationComponents()) {
+        writeApplicationComponent(writer, (ApplicationComponentImpl) applicationComponent);
+      }
+    }
+  }
+
+  private void writeApplicationComponent(Writer writer, ApplicationComponentImpl applicationComponent)
+      throws IOException {
+
+    UsagePattern usagePattern = applicationComponent.getUsagePattern();
+    writer.writeString(usagePattern != null ? usagePattern.name() : null);
+    writer.writeBoolean(applicationComponent.isOssModified());
+    writer.writeString(applicationComponent.getOssHomepage());
+    writer.writeString(applicationComponent.getSourceRepoUrl());
+    writer.writeString(applicationComponent.getGroupId());
+    writer.writeString(applicationComponent.getArtifactId());
+    writer.writeString(applicationComponent.getVersion());
+    writer.writeString(applicationComponent.getRepoType());
+    writer.writeString(applicationComponent.getPackageUrl());
+    writer.writeString(applicationComponent.getCopyrights());
+    writer.writeString(applicationComponent.getNoticeFileUrl());
+    writer.writeString(applicationComponent.getNoticeFileContentKey());
+    writer.writeString(applicationComponent.getDataStatus());
+    writer.writeString(applicationComponent.getTraceabilityNotes());
+    writer.writeString(applicationComponent.getSourceDownloadUrl());
+    writer.writeString(applicationComponent.getPackageDownloadUrl());
+
+    writer.writeCount(applicationComponent.getNormalizedLicenses().size());
+    for (NormalizedLicense license : applicationComponent.getNormalizedLicenses()) {
+      NormalizedLicenseImpl normalizedLicense = (NormalizedLicenseImpl) license;
+      writer.writeString(normalizedLicense.getDeclaredLicense());
+      writer.writeString(normalizedLicense.getLicenseUrl());
+      writer.writeString(normalizedLicense.getNormalizedLicenseType());
+      writer.writeString(normalizedLicense.getNormalizedLicense());
+      writer.writeString(normalizedLicense.getNormalizedLicenseUrl());
+      writer.writeString(normalizedLicense.getEffectiveNormalizedLicenseType());
+      writer.writeString(normalizedLicense.getEffectiveNormalizedLicense());
+      writer.writeString(normalizedLicense.getEffectiveNormalizedLicenseUrl());
+      writer.writeString(normalizedLicense.getLegalPreApproved());
+      writer.writeString(normalizedLicense.getCopyLeft());
+      writer.writeString(normalizedLicense.getLicenseCompliance());
+      writer.writeString(normalizedLicense.getLicenseRefUrl());
+      writer.writeString(normalizedLicense.getIncludeLicense());
+      writer.writeString(normalizedLicense.getIncludeSource());
+      writer.writeString(normalizedLicense.getReviewedForRelease());
+      writer.writeString(normalizedLicense.getComments());
+      writer.writeString(normalizedLicense.getLegalApproved());
+      writer.writeString(normalizedLicense.getLegalComments());
+      writer.writeString(normalizedLicense.getTrace());
+      writer.writeString(normalizedLicense.getGuessedLicenseUrl());
+      writer.writeString(normalizedLicense.getGuessedLicenseUrlAuditInfo());
+      writer.writeString(normalizedLicense.getEffectiveNormalizedLicenseContentKey());
+      writer.writeString(normalizedLicense.getDeclaredLicenseContentKey());
+      writer.writeString(normalizedLicense.getLicenseRefContentKey());
+      writer.writeString(normalizedLicense.getNormalizedLicenseContentKey());
+      writer.writeString(normalizedLicense.getGuessedLicenseContentKey());
+    }
+    writer.writeCount(applicationComponent.getRawLicenses().size());
+    for (RawLicense license : applicationComponent.getRawLicenses()) {
+      RawLicenseImpl rawLicense = (RawLicenseImpl) license;
+      writer.writeString(rawLicense.getDeclaredLicense());
+      writer.writeString(rawLicense.getLicenseUrl());
+      writer.writeString(rawLicense.getTrace());
+      writer.writeString(rawLicense.getOrigin());
+      writer.writeBoolean(rawLicense.isSpecialHandling());
+    }
+  }
+
+  /**
+   * Writes the model data to a buffer and collects the referenced strings in the string table.
+   */
+  private static class Writer {
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    private final DataOutputStream out = new DataOutputStream(this.buffer);
+
+    private final Map<String, Integer> indices = new HashMap<>();
+
+    private final List<String> strings = new ArrayList<>();
+
+    void writeString(String string) throws IOException {
+
+      if (string == null) {
+        this.out.writeInt(NULL_REFERENCE);
+        return;
+      }
+      Integer index = this.indices.get(string);
+      if (index == null) {
+        index = this.strings.size();
+        this.strings.add(string);
+        this.indices.put(string, index);
+      }
+      this.out.writeInt(index);
+    }
+
+    void writeBoolean(boolean value) throws IOException {
+
+      this.out.writeBoolean(value);
+    }
+
+    void writeCount(int count) throws IOException {
+
+      this.out.writeInt(count);
+    }
+  }
+
+  /**
+   * Reads the model data and resolves the string references.
+   */
+  private static class Reader {
+
+    private final DataInputStream in;
+
+    private final String[] strings;
+
+    Reader(DataInputStream in, String[] strings) {
+
+      this.in = in;
+      this.strings = strings;
+    }
+
+    String readString() throws IOException {
+
+      int index = this.in.readInt();
+      if (index == NULL_REFERENCE) {
+        return null;
+      }
+      if (index < 0 || index >= this.strings.length) {
+        throw new IOException("Invalid string reference " + index);
+      }
+      return this.strings[index];
+    }
+
+    boolean readBoolean() throws IOException {
+
+      return this.in.readBoolean();
+    }
+
+    int readCount() throws IOException {
+
+      return BinaryModelImporterExporter.readCount(this.in);
+    }
+  }
+
+}
@@ -5,6 +5,8 @@ package com.devonfw.tools.solicitor.model;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,9 +32,14 @@ import com.devonfw.tools.solicitor.model.masterdata.Engagement;
 import com.devonfw.tools.solicitor.model.masterdata.EngagementType;
 import com.devonfw.tools.solicitor.model.masterdata.GoToMarketModel;
 import com.devonfw.tools.solicitor.model.masterdata.UsagePattern;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * The {@code ModelImporterExporter} class handles the import and export of the data model. It provides methods for
@@ -60,9 +67,20 @@ public class ModelImporterExporter {
   @Autowired
   private ReportingGroupHandler reportingGroupHandler;
 
+  @Autowired
+  private BinaryModelImporterExporter binaryModelImporterExporter;
+
   /**
    * Loads the data model from a JSON file. The loaded data model is represented by a root object of type
    * {@code ModelRootImpl}.
+   * <p>
+   * The file is read in a streaming manner: the model objects are created while parsing and only the JSON data of a
+   * single {@link ApplicationComponent} (including its licenses) is kept as a tree at any time. This keeps the memory
+   * consumption low even for very large model files. (If the engagement precedes the model version within the file,
+   * which is not the case for files written by {@link #saveModel(ModelRoot, String)}, the engagement data needs to be
+   * buffered until the model version is known.)
+   * <p>
+   * Files with the extensions given in {@link BinaryModelImporterExporter} are loaded as binary snapshot.
    *
    * @param filename the name of the file to load the data model from.
    * @return the root object of the loaded data model.
@@ -70,12 +88,50 @@ public class ModelImporterExporter {
    */
   public ModelRootImpl loadModel(String filename) {
 
-    ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
-    try {
-      JsonNode root = objectMapper.readTree(new File(filename));
-      int readModelVersion = root.get("modelVersion").asInt();
+    if (BinaryModelImporterExporter.isBinarySnapshot(filename)) {
+      return this.binaryModelImporterExporter.loadModel(filename);
+    }
+    ObjectMapper objectMapper = new ObjectMapper();
+    try (JsonParser parser = objectMapper.getFactory().createParser(new File(filename))) {
       ModelRootImpl modelRoot = this.modelFactory.newModelRoot();
-      checkModelVersion(readModelVersion, modelRoot);
+      ObjectNode root = JsonNodeFactory.instance.objectNode();
+      int readModelVersion = 0;
+      EngagementImpl engagement = null;
+      JsonNode bufferedEngagementNode = null;
+      expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        parser.nextToken();
+        if ("engagement".equals(fieldName)) {
+          if (root.has("modelVersion")) {
+            engagement = readEngagement(parser, readModelVersion);
+          } else {
+            bufferedEngagementNode = parser.readValueAsTree();
+          }
+        } else if ("textPool".equals(fieldName)) {
+          if (root.has("modelVersion") && readModelVersion < LOWEST_VERSION_WITH_TEXT_POOL) {
+            parser.skipChildren();
+          } else {
+            readTextPool(modelRoot, parser);
+          }
+        } else {
+          JsonNode value = parser.readValueAsTree();
+          root.set(fieldName, value);
+          if ("modelVersion".equals(fieldName)) {
+            readModelVersion = value.asInt();
+            checkModelVersion(readModelVersion, modelRoot);
+          }
+        }
+      }
+      if (!root.has("modelVersion")) {
+        throw new SolicitorRuntimeException("Internal data model in file '" + filename + "' has no model version");
+      }
+      if (bufferedEngagementNode != null) {
+        try (JsonParser engagementParser = bufferedEngagementNode.traverse(objectMapper)) {
+          engagementParser.nextToken();
+          engagement = readEngagement(engagementParser, readModelVersion);
+        }
+      }
       String executionTime = root.get("executionTime").asText();
       String solicitorVersion = root.get("solicitorVersion").asText();
       String solicitorGitHash = root.get("solicitorGitHash").asText();
@@ -84,11 +140,6 @@ public class ModelImporterExporter {
       String extensionVersion = root.get("extensionVersion").asText();
       String extensionGitHash = root.get("extensionGitHash").asText();
       String extensionBuilddate = root.get("extensionBuilddate").asText();
-      JsonNode engagementNode = root.get("engagement");
-      JsonNode textPoolNode = null;
-      if (readModelVersion >= LOWEST_VERSION_WITH_TEXT_POOL) {
-        textPoolNode = root.get("textPool");
-      }
       modelRoot.setExecutionTime(executionTime);
       modelRoot.setSolicitorVersion(solicitorVersion);
       modelRoot.setSolicitorGitHash(solicitorGitHash);
@@ -97,8 +148,10 @@ public class ModelImporterExporter {
       modelRoot.setExtensionVersion(extensionVersion);
       modelRoot.setExtensionGitHash(extensionGitHash);
       modelRoot.setExtensionBuilddate(extensionBuilddate);
-      readEngagement(modelRoot, engagementNode, readModelVersion);
-      readTextPool(modelRoot, textPoolNode, readModelVersion);
+      if (engagement == null) {
+        throw new SolicitorRuntimeException("Internal data model in file '" + filename + "' has no engagement");
+      }
+      engagement.setModelRoot(modelRoot);
       if (readModelVersion < LOWEST_VERSION_WITH_TEXT_POOL) {
         // previous versions do not contain license texts, so complete the data now
         modelRoot.completeData();
@@ -127,123 +180,154 @@ public class ModelImporterExporter {
   }
 
   /**
-   * Reads the {@link ApplicationComponent}s from the JSON data structure and populates the provided {@link Application}
-   * with the corresponding data.
+   * Reads an {@link ApplicationComponent} from the JSON data structure. The {@link ApplicationComponent} is not yet
+   * associated with its {@link Application}.
    *
-   * @param application the {@link Application} to which the {@link ApplicationComponent}s belong to
-   * @param applicationComponentsNode the relevant part of the parse JSON model
+   * @param applicationComponentNode the relevant part of the parsed JSON model
    * @param readModelVersion the model version of the model to be read
-   *
+   * @return the {@link ApplicationComponent}
    */
-  private void readApplicationComponents(ApplicationImpl application, JsonNode applicationComponentsNode,
-      int readModelVersion) {
-
-    for (JsonNode applicationComponentNode : applicationComponentsNode) {
-      String usagePattern = applicationComponentNode.get("usagePattern").asText(null);
-      boolean ossModified = applicationComponentNode.get("ossModified").asBoolean();
-      String ossHomepage = applicationComponentNode.get("ossHomepage").asText(null);
-      String sourceRepoUrl = null;
-      if (readModelVersion >= LOWEST_VERSION_WITH_SOURCE_REPO_URL) {
-        sourceRepoUrl = applicationComponentNode.get("sourceRepoUrl").asText(null);
-      }
-      String groupId = applicationComponentNode.get("groupId").asText(null);
-      String artifactId = applicationComponentNode.get("artifactId").asText(null);
-      String version = applicationComponentNode.get("version").asText(null);
-      String repoType = applicationComponentNode.get("repoType").asText(null);
-      String packageUrl = null;
-      if (readModelVersion >= LOWEST_VERSION_WITH_PACKAGE_URL) {
-        packageUrl = applicationComponentNode.get("packageUrl").asText(null);
-      }
-      JsonNode copyrightNode = applicationComponentNode.get("copyrights");
-      String copyrights = copyrightNode != null ? copyrightNode.asText(null) : null;
-      JsonNode noticeFileUrlNode = applicationComponentNode.get("noticeFileUrl");
-      String noticeFileUrl = noticeFileUrlNode != null ? noticeFileUrlNode.asText(null) : null;
-      JsonNode normalizedLicensesNode = applicationComponentNode.get("normalizedLicenses");
-      JsonNode rawLicensesNode = applicationComponentNode.get("rawLicenses");
-      String dataStatus = applicationComponentNode.has("dataStatus")
-          ? applicationComponentNode.get("dataStatus").asText(null)
-          : null;
-      String traceabilityNotes = applicationComponentNode.has("traceabilityNotes")
-          ? applicationComponentNode.get("traceabilityNotes").asText(null)
-          : null;
-      String sourceDownloadUrl = applicationComponentNode.has("sourceDownloadUrl")
-          ? applicationComponentNode.get("sourceDownloadUrl").asText(null)
-          : null;
-      String packageDownloadUrl = applicationComponentNode.has("packageDownloadUrl")
-          ? applicationComponentNode.get("packageDownloadUrl").asText(null)
-          : null;
-      String noticeFileContentKey = applicationComponentNode.has("noticeFileContentKey")
-          ? applicationComponentNode.get("noticeFileContentKey").asText(null)
-          : null;
-
-      ApplicationComponentImpl applicationComponent = this.modelFactory.newApplicationComponent();
-      applicationComponent.setApplication(application);
-      applicationComponent.setUsagePattern(UsagePattern.valueOf(usagePattern));
-      applicationComponent.setOssModified(ossModified);
-      applicationComponent.setOssHomepage(ossHomepage);
-      applicationComponent.setSourceRepoUrl(sourceRepoUrl);
-      applicationComponent.setGroupId(groupId);
-      applicationComponent.setArtifactId(artifactId);
-      applicationComponent.setVersion(version);
-      applicationComponent.setPackageUrl(packageUrl);
-      // when reading from file we set repoType after packageUrl to make sure the effective value is what is given by
-      // the file. (ApplicationComponent.setPackageUrl() will set repoType as well if it is not already set to something
-      // different from null)
-      applicationComponent.setRepoType(repoType);
-      applicationComponent.setCopyrights(copyrights);
-      applicationComponent.setNoticeFileUrl(noticeFileUrl);
-      applicationComponent.setDataStatus(dataStatus);
-      applicationComponent.setTraceabilityNotes(traceabilityNotes);
-      applicationComponent.setSourceDownloadUrl(sourceDownloadUrl);
-      applicationComponent.setPackageDownloadUrl(packageDownloadUrl);
-      applicationComponent.setNoticeFileContentKey(noticeFileContentKey);
-
-      readNormalizedLicenses(applicationComponent, normalizedLicensesNode, readModelVersion);
-      readRawLicenses(applicationComponent, rawLicensesNode, readModelVersion);
-
+  private ApplicationComponentImpl readApplicationComponent(JsonNode applicationComponentNode, int readModelVersion) {
+
+    String usagePattern = applicationComponentNode.get("usagePattern").asText(null);
+    boolean ossModified = applicationComponentNode.get("ossModified").asBoolean();
+    String ossHomepage = applicationComponentNode.get("ossHomepage").asText(null);
+    String sourceRepoUrl = null;
+    if (readModelVersion >= LOWEST_VERSION_WITH_SOURCE_REPO_URL) {
+      sourceRepoUrl = applicationComponentNode.get("sourceRepoUrl").asText(null);
     }
-
+    String groupId = applicationComponentNode.get("groupId").asText(null);
+    String artifactId = applicationComponentNode.get("artifactId").asText(null);
+    String version = applicationComponentNode.get("version").asText(null);
+    String repoType = applicationComponentNode.get("repoType").asText(null);
+    String packageUrl = null;
+    if (readModelVersion >= LOWEST_VERSION_WITH_PACKAGE_URL) {
+      packageUrl = applicationComponentNode.get("packageUrl").asText(null);
+    }
+    JsonNode copyrightNode = applicationComponentNode.get("copyrights");
+    String copyrights = copyrightNode != null ? copyrightNode.asText(null) : null;
+    JsonNode noticeFileUrlNode = applicationComponentNode.get("noticeFileUrl");
+    String noticeFileUrl = noticeFileUrlNode != null ? noticeFileUrlNode.asText(null) : null;
+    JsonNode normalizedLicensesNode = applicationComponentNode.get("normalizedLicenses");
+    JsonNode rawLicensesNode = applicationComponentNode.get("rawLicenses");
+    String dataStatus = applicationComponentNode.has("dataStatus")
+        ? applicationComponentNode.get("dataStatus").asText(null)
+        : null;
+    String traceabilityNotes = applicationComponentNode.has("traceabilityNotes")
+        ? applicationComponentNode.get("traceabilityNotes").asText(null)
+        : null;
+    String sourceDownloadUrl = applicationComponentNode.has("sourceDownloadUrl")
+        ? applicationComponentNode.get("sourceDownloadUrl").asText(null)
+        : null;
+    String packageDownloadUrl = applicationComponentNode.has("packageDownloadUrl")
+        ? applicationComponentNode.get("packageDownloadUrl").asText(null)
+        : null;
+    String noticeFileContentKey = applicationComponentNode.has("noticeFileContentKey")
+        ? applicationComponentNode.get("noticeFileContentKey").asText(null)
+        : null;
+
+    ApplicationComponentImpl applicationComponent = this.modelFactory.newApplicationComponent();
+    applicationComponent.setUsagePattern(UsagePattern.valueOf(usagePattern));
+    applicationComponent.setOssModified(ossModified);
+    applicationComponent.setOssHomepage(ossHomepage);
+    applicationComponent.setSourceRepoUrl(sourceRepoUrl);
+    applicationComponent.setGroupId(groupId);
+    applicationComponent.setArtifactId(artifactId);
+    applicationComponent.setVersion(version);
+    applicationComponent.setPackageUrl(packageUrl);
+    // when reading from file we set repoType after packageUrl to make sure the effective value is what is given by
+    // the file. (ApplicationComponent.setPackageUrl() will set repoType as well if it is not already set to something
+    // different from null)
+    applicationComponent.setRepoType(repoType);
+    applicationComponent.setCopyrights(copyrights);
+    applicationComponent.setNoticeFileUrl(noticeFileUrl);
+    applicationComponent.setDataStatus(dataStatus);
+    applicationComponent.setTraceabilityNotes(traceabilityNotes);
+    applicationComponent.setSourceDownloadUrl(sourceDownloadUrl);
+    applicationComponent.setPackageDownloadUrl(packageDownloadUrl);
+    applicationComponent.setNoticeFileContentKey(noticeFileContentKey);
+
+    readNormalizedLicenses(applicationComponent, normalizedLicensesNode, readModelVersion);
+    readRawLicenses(applicationComponent, rawLicensesNode, readModelVersion);
+
+    return applicationComponent;
   }
 
   /**
-   * Read the {@link Application}s from the JSON data structure.
+   * Reads an {@link Application} from the JSON data. The parser needs to be positioned at the start of the JSON object
+   * representing the {@link Application}. The {@link ApplicationComponent}s are read one by one from the stream. The
+   * {@link Application} is not yet associated with its {@link Engagement}.
    *
-   * @param engagement the {@link Engagement} to which the {@link Application}s belong to
-   * @param applicationsNode the relevant part of the parsed JSON model
+   * @param parser the parser
    * @param readModelVersion the model version of the model to be read
+   * @return the {@link Application}
+   * @throws IOException if the JSON data could not be read
    */
-  private void readApplications(EngagementImpl engagement, JsonNode applicationsNode, int readModelVersion) {
-
-    for (JsonNode applicationNode : applicationsNode) {
-      String name = applicationNode.get("name").asText(null);
-      String releaseId = applicationNode.get("releaseId").asText(null);
-      String releaseDate = applicationNode.get("releaseDate").asText(null);
-      String sourceRepo = applicationNode.get("sourceRepo").asText(null);
-      String programmingEcosystem = applicationNode.get("programmingEcosystem").asText(null);
-      String reportingGroups = ReportingGroupHandler.DEFAULT_REPORTING_GROUP_LIST;
-      JsonNode reportingGroupsNode = applicationNode.get("reportingGroups");
-      if (reportingGroupsNode != null) {
-        reportingGroups = reportingGroupsNode.asText();
-        this.reportingGroupHandler.validateReportingGroupList(reportingGroups);
+  private ApplicationImpl readApplication(JsonParser parser, int readModelVersion) throws IOException {
+
+    ObjectNode applicationNode = JsonNodeFactory.instance.objectNode();
+    List<ApplicationComponentImpl> applicationComponents = new ArrayList<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      if ("applicationComponents".equals(fieldName)) {
+        if (startArray(parser)) {
+          while (nextArrayElement(parser)) {
+            applicationComponents.add(readApplicationComponent(parser.readValueAsTree(), readModelVersion));
+          }
+        }
+      } else {
+        applicationNode.set(fieldName, parser.readValueAsTree());
       }
-      JsonNode applicationComponentsNode = applicationNode.get("applicationComponents");
-      ApplicationImpl application = this.modelFactory.newApplication(name, releaseId, releaseDate, sourceRepo,
-          programmingEcosystem, reportingGroups);
-      application.setEngagement(engagement);
-      readApplicationComponents(application, applicationComponentsNode, readModelVersion);
-
     }
 
+    String name = applicationNode.get("name").asText(null);
+    String releaseId = applicationNode.get("releaseId").asText(null);
+    String releaseDate = applicationNode.get("releaseDate").asText(null);
+    String sourceRepo = applicationNode.get("sourceRepo").asText(null);
+    String programmingEcosystem = applicationNode.get("programmingEcosystem").asText(null);
+    String reportingGroups = ReportingGroupHandler.DEFAULT_REPORTING_GROUP_LIST;
+    JsonNode reportingGroupsNode = applicationNode.get("reportingGroups");
+    if (reportingGroupsNode != null) {
+      reportingGroups = reportingGroupsNode.asText();
+      this.reportingGroupHandler.validateReportingGroupList(reportingGroups);
+    }
+    ApplicationImpl application = this.modelFactory.newApplication(name, releaseId, releaseDate, sourceRepo,
+        programmingEcosystem, reportingGroups);
+    for (ApplicationComponentImpl applicationComponent : applicationComponents) {
+      applicationComponent.setApplication(application);
+    }
+    return application;
   }
 
   /**
-   * Read the {@link Engagement} from the JSON data structure.
+   * Read the {@link Engagement} from the JSON data. The parser needs to be positioned at the start of the JSON object
+   * representing the {@link Engagement}. The {@link Application}s are read one by one from the stream. The
+   * {@link Engagement} is not yet associated with the root object of the data model.
    *
-   * @param modelRoot the root object of the data model to which the {@link Engagement} should be added
-   * @param engagementNode the relevant part of the parsed JSON model
+   * @param parser the parser
    * @param readModelVersion the model version of the model to be read
+   * @return the {@link Engagement}
+   * @throws IOException if the JSON data could not be read
    */
-  private void readEngagement(ModelRootImpl modelRoot, JsonNode engagementNode, int readModelVersion) {
+  private EngagementImpl readEngagement(JsonParser parser, int readModelVersion) throws IOException {
+
+    expectToken(parser, parser.currentToken(), JsonToken.START_OBJECT);
+    ObjectNode engagementNode = JsonNodeFactory.instance.objectNode();
+    List<ApplicationImpl> applications = new ArrayList<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      if ("applications".equals(fieldName)) {
+        if (startArray(parser)) {
+          while (nextArrayElement(parser)) {
+            applications.add(readApplication(parser, readModelVersion));
+          }
+        }
+      } else {
+        engagementNode.set(fieldName, parser.readValueAsTree());
+      }
+    }
 
     String engagementName = engagementNode.get("engagementName").asText(null);
     String engagementType = engagementNode.get("engagementType").asText(null);
@@ -252,15 +336,68 @@ public class ModelImporterExporter {
     boolean contractAllowsOss = engagementNode.get("contractAllowsOss").asBoolean();
     boolean ossPolicyFollowed = engagementNode.get("ossPolicyFollowed").asBoolean();
     boolean customerProvidesOss = engagementNode.get("customerProvidesOss").asBoolean();
-    JsonNode applicationsNode = engagementNode.get("applications");
 
     EngagementImpl engagement = this.modelFactory.newEngagement(engagementName, EngagementType.valueOf(engagementType),
         clientName, GoToMarketModel.valueOf(goToMarketModel));
-    engagement.setModelRoot(modelRoot);
     engagement.setContractAllowsOss(contractAllowsOss);
     engagement.setOssPolicyFollowed(ossPolicyFollowed);
     engagement.setCustomerProvidesOss(customerProvidesOss);
-    readApplications(engagement, applicationsNode, readModelVersion);
+    for (ApplicationImpl application : applications) {
+      application.setEngagement(engagement);
+    }
+    return engagement;
+  }
+
+  /**
+   * Checks that the parser is positioned at the start of a JSON array. A <code>null</code> value is treated like an
+   * empty array.
+   *
+   * @param parser the parser
+   * @return <code>true</code> if the parser is positioned at the start of an array, <code>false</code> if the value is
+   *         <code>null</code>
+   * @throws IOException if the value is neither an array nor <code>null</code>
+   */
+  private static boolean startArray(JsonParser parser) throws IOException {
+
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return false;
+    }
+    expectToken(parser, parser.currentToken(), JsonToken.START_ARRAY);
+    return true;
+  }
+
+  /**
+   * Advances the parser to the next element of a JSON array of objects. The parser needs to be positioned at the start
+   * of the array or at the end of the previous element.
+   *
+   * @param parser the parser
+   * @return <code>true</code> if the parser is positioned at the start of the next object, <code>false</code> if the
+   *         end of the array is reached
+   * @throws IOException if the JSON data could not be read or the element is not an object
+   */
+  private static boolean nextArrayElement(JsonParser parser) throws IOException {
+
+    JsonToken token = parser.nextToken();
+    if (token == JsonToken.END_ARRAY) {
+      return false;
+    }
+    expectToken(parser, token, JsonToken.START_OBJECT);
+    return true;
+  }
+
+  /**
+   * Checks that the given token is the expected one.
+   *
+   * @param parser the parser
+   * @param token the token
+   * @param expected the expected token
+   * @throws JsonParseException if the token is not the expected one
+   */
+  private static void expectToken(JsonParser parser, JsonToken token, JsonToken expected) throws JsonParseException {
+
+    if (token != expected) {
+      throw new JsonParseException(parser, "Expected " + expected + " but found " + token);
+    }
   }
 
   /**
@@ -377,28 +514,36 @@ public class ModelImporterExporter {
   }
 
   /**
-   * Read the {@link TextPool} from the JSON data structure.
+   * Read the {@link TextPool} from the JSON data. The parser needs to be positioned at the start of the JSON object
+   * representing the {@link TextPool}. The texts are stored one by one as they are read from the stream.
    *
    * @param modelRoot the root object of the data model to which the {@link TextPool} should be added
-   * @param textPoolNode the relevant part of the parsed JSON model
-   * @param readModelVersion the model version of the model to be read
+   * @param parser the parser
+   * @throws IOException if the JSON data could not be read
    */
-  private void readTextPool(ModelRootImpl modelRoot, JsonNode textPoolNode, int readModelVersion) {
+  private void readTextPool(ModelRootImpl modelRoot, JsonParser parser) throws IOException {
 
-    if (readModelVersion < LOWEST_VERSION_WITH_TEXT_POOL) {
-      return;
-    }
+    expectToken(parser, parser.currentToken(), JsonToken.START_OBJECT);
     TextPool textPool = modelRoot.getTextPool();
-    JsonNode dataMapNode = textPoolNode.get("dataMap");
-
-    for (JsonNode singleEntryValue : dataMapNode) {
-      // only store values; keys will be reconstructed based on values
-      textPool.store(singleEntryValue.asText());
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      JsonToken token = parser.nextToken();
+      if (!"dataMap".equals(fieldName)) {
+        parser.skipChildren();
+        continue;
+      }
+      expectToken(parser, token, JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        parser.nextToken();
+        // only store values; keys will be reconstructed based on values
+        textPool.store(parser.getValueAsString());
+      }
     }
   }
 
   /**
-   * Saves the model to a file.
+   * Saves the model to a file. If the filename has one of the extensions given in {@link BinaryModelImporterExporter}
+   * the model is saved as binary snapshot, otherwise as JSON.
    *
    * @param filename the path/name of the file to save to. If <code>node</code> a filename in the current directory will
    *        be autocreated.
@@ -408,9 +553,13 @@ public class ModelImporterExporter {
 
     String effectiveFilename = (filename != null) ? filename : "solicitor_" + System.currentTimeMillis() + ".json";
     IOHelper.checkAndCreateLocation(effectiveFilename);
-    ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
     try {
-      objectMapper.writeValue(new File(effectiveFilename), modelRoot);
+      if (BinaryModelImporterExporter.isBinarySnapshot(effectiveFilename)) {
+        this.binaryModelImporterExporter.saveModel(modelRoot, effectiveFilename);
+      } else {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(new File(effectiveFilename), modelRoot);
+      }
     } catch (IOException e) {
       LOG.error("Could not write internal data model to file '{}'", effectiveFilename, e);
     }
@@ -70,6 +70,31 @@ public abstract class AbstractModelObject {
   @JsonIgnore
   public abstract String[] getHeadElements();
 
+  /**
+   * Gets the names of those datafields (see {@link #getHeadElements()}) whose values are texts stored in the
+   * {@link TextPool}.
+   *
+   * @return the column names; empty if there are no such fields
+   */
+  @JsonIgnore
+  public String[] getTextPoolHeadElements() {
+
+    return new String[0];
+  }
+
+  /**
+   * Gets the data values like {@link #getDataElements()}, but for the fields given by
+   * {@link #getTextPoolHeadElements()} the keys of the texts within the {@link TextPool} are given instead of the texts.
+   * The texts are then available via {@link TextPool#retrieveReplacingLongHtml(String)}.
+   *
+   * @return the value array
+   */
+  @JsonIgnore
+  public String[] getDataElementsWithTextPoolKeys() {
+
+    return getDataElements();
+  }
+
   /**
    * Gets the id of the model object.
    *
@@ -131,4 +156,16 @@ public abstract class AbstractModelObject {
 
     return getEffectiveTextPool().retrieve(key);
   }
+
+  /**
+   * Retrieves a text from the text pool, replacing long raw html content by a short note.
+   *
+   * @param key the key of the text
+   * @return the associated text or the note
+   * @see TextPool#retrieveReplacingLongHtml(String)
+   */
+  protected String retrieveTextFromPoolReplacingLongHtml(String key) {
+
+    return getEffectiveTextPool().retrieveReplacingLongHtml(key);
+  }
 }
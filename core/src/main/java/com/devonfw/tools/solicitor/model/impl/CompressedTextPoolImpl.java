@@ -0,0 +1,279 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.model.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.devonfw.tools.solicitor.common.LicenseTextHelper;
+import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
+
+/**
+ * Implementation of a {@link TextPool} which keeps the texts deflate compressed outside of the java heap (in direct
+ * {@link ByteBuffer}s). Texts are decompressed on retrieval; a limited number of recently retrieved texts is kept
+ * decoded in an LRU cache. The heap usage for texts is thus bounded by the size of the cache (plus the keys) and does
+ * not depend on the number of stored texts.
+ * <p>
+ * When serialized to JSON this pool has the same structure as {@link TextPoolImpl}.
+ */
+public class CompressedTextPoolImpl implements TextPool {
+
+  /**
+   * Size of the direct buffers which hold the compressed texts. Larger texts get a buffer of their own.
+   */
+  private static final int SEGMENT_SIZE = 1024 * 1024;
+
+  /**
+   * Location of the compressed texts in the segments, sorted by key.
+   */
+  private final Map<String, Entry> entries = new TreeMap<>();
+
+  private final List<ByteBuffer> segments = new ArrayList<>();
+
+  private ByteBuffer currentSegment;
+
+  /**
+   * Keys of the texts which are long raw html content.
+   */
+  private final Set<String> longHtmlKeys = new HashSet<>();
+
+  private final Map<String, String> decodedCache = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long decodedCacheSize = 0;
+
+  private final long maxDecodedCacheSize;
+
+  /**
+   * The constructor.
+   *
+   * @param maxDecodedCacheSize the maximum total size (in characters) of the decoded texts kept in the LRU cache
+   */
+  public CompressedTextPoolImpl(long maxDecodedCacheSize) {
+
+    this.maxDecodedCacheSize = maxDecodedCacheSize;
+  }
+
+  @Override
+  public synchronized String store(String text) {
+
+    // special handling of null (null values never get stored in the map)
+    if (text == null) {
+      return null;
+    }
+
+    String key = DigestUtils.sha256Hex(text);
+    if (!this.entries.containsKey(key)) {
+      // as in TextPoolImpl we ignore the possibility of hash collisions
+      this.entries.put(key, write(compress(text)));
+      if (LicenseTextHelper.isLongHtmlContent(text)) {
+        this.longHtmlKeys.add(key);
+      }
+    }
+    return key;
+  }
+
+  @Override
+  public synchronized String retrieve(String key) {
+
+    // a null key represents a null string
+    if (key == null) {
+      return null;
+    }
+    String result = this.decodedCache.get(key);
+    if (result == null) {
+      Entry entry = this.entries.get(key);
+      if (entry == null) {
+        throw new NoSuchElementException("No data in text pool for key '" + key + "'");
+      }
+      result = decompress(entry);
+      cache(key, result);
+    }
+    return result;
+  }
+
+  @Override
+  public synchronized String retrieveReplacingLongHtml(String key) {
+
+    if (key != null && this.longHtmlKeys.contains(key) && this.entries.containsKey(key)) {
+      return LicenseTextHelper.longHtmlContentPlaceholder();
+    }
+    return retrieve(key);
+  }
+
+  /**
+   * Gets a (read only) view of all stored texts by key. The texts are decompressed when accessed. This is used for
+   * serializing the pool in the same structure as {@link TextPoolImpl#getDataMap()}.
+   *
+   * @return the texts by key
+   */
+  public Map<String, String> getDataMap() {
+
+    return new AbstractMap<String, String>() {
+
+      @Override
+      public Set<Map.Entry<String, String>> entrySet() {
+
+        return new AbstractSet<Map.Entry<String, String>>() {
+
+          @Override
+          public Iterator<Map.Entry<String, String>> iterator() {
+
+            List<String> keys;
+            synchronized (CompressedTextPoolImpl.this) {
+              keys = new ArrayList<>(CompressedTextPoolImpl.this.entries.keySet());
+            }
+            Iterator<String> keyIterator = keys.iterator();
+            return new Iterator<Map.Entry<String, String>>() {
+
+              @Override
+              public boolean hasNext() {
+
+                return keyIterator.hasNext();
+              }
+
+              @Override
+              public Map.Entry<String, String> next() {
+
+                String key = keyIterator.next();
+                return new SimpleImmutableEntry<>(key, decompressed(key));
+              }
+            };
+          }
+
+          @Override
+          public int size() {
+
+            synchronized (CompressedTextPoolImpl.this) {
+              return CompressedTextPoolImpl.this.entries.size();
+            }
+          }
+        };
+      }
+    };
+  }
+
+  /**
+   * Decompresses the text with the given key without putting it into the cache.
+   *
+   * @param key the key
+   * @return the text
+   */
+  private synchronized String decompressed(String key) {
+
+    String result = this.decodedCache.get(key);
+    return result != null ? result : decompress(this.entries.get(key));
+  }
+
+  private void cache(String key, String text) {
+
+    if (text.length() > this.maxDecodedCacheSize) {
+      return;
+    }
+    this.decodedCache.put(key, text);
+    this.decodedCacheSize += text.length();
+    Iterator<String> eldest = this.decodedCache.values().iterator();
+    while (this.decodedCacheSize > this.maxDecodedCacheSize) {
+      this.decodedCacheSize -= eldest.next().length();
+      eldest.remove();
+    }
+  }
+
+  private byte[] compress(String text) {
+
+    Deflater deflater = new Deflater();
+    try {
+      deflater.setInput(text.getBytes(StandardCharsets.UTF_8));
+      deflater.finish();
+      ByteArrayOutputStream result = new ByteArrayOutputStream();
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        int len = deflater.deflate(buffer);
+        result.write(buffer, 0, len);
+      }
+      return result.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private String decompress(Entry entry) {
+
+    byte[] compressed = new byte[entry.length];
+    ByteBuffer segment = this.segments.get(entry.segment).duplicate();
+    segment.position(entry.offset);
+    segment.get(compressed);
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+      ByteArrayOutputStream result = new ByteArrayOutputStream(entry.length * 4);
+      byte[] buffer = new byte[8192];
+      while (!inflater.finished()) {
+        int len = inflater.inflate(buffer);
+        if (len == 0 && !inflater.finished() && inflater.needsInput()) {
+          throw new SolicitorRuntimeException("Compressed text in text pool is truncated");
+        }
+        result.write(buffer, 0, len);
+      }
+      return new String(result.toByteArray(), StandardCharsets.UTF_8);
+    } catch (DataFormatException e) {
+      throw new SolicitorRuntimeException("Compressed text in text pool is corrupt", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  /**
+   * Writes the given data to the segments.
+   *
+   * @param data the data
+   * @return the location of the data
+   */
+  private Entry write(byte[] data) {
+
+    if (this.currentSegment == null || this.currentSegment.remaining() < data.length) {
+      this.currentSegment = ByteBuffer.allocateDirect(Math.max(SEGMENT_SIZE, data.length));
+      this.segments.add(this.currentSegment);
+    }
+    Entry entry = new Entry(this.segments.size() - 1, this.currentSegment.position(), data.length);
+    this.currentSegment.put(data);
+    return entry;
+  }
+
+  /**
+   * Location of a compressed text.
+   */
+  private static class Entry {
+
+    private final int segment;
+
+    private final int offset;
+
+    private final int length;
+
+    Entry(int segment, int offset, int length) {
+
+      this.segment = segment;
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+}
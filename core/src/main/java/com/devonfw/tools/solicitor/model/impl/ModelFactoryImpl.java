@@ -11,6 +11,7 @@ import java.util.TreeMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.devonfw.tools.solicitor.SolicitorVersion;
@@ -48,6 +49,33 @@ public class ModelFactoryImpl extends ModelFactory {
   @Autowired
   private SolicitorVersion solicitorVersion;
 
+  private boolean compressedTextPool = false;
+
+  private long textPoolCacheSize = 10000000;
+
+  /**
+   * Sets whether texts (e.g. license texts) are stored compressed outside of the java heap.
+   *
+   * @param compressedTextPool if <code>true</code> a {@link CompressedTextPoolImpl} is used, otherwise a
+   *        {@link TextPoolImpl}
+   */
+  @Value("${solicitor.textpool.compressed:false}")
+  public void setCompressedTextPool(boolean compressedTextPool) {
+
+    this.compressedTextPool = compressedTextPool;
+  }
+
+  /**
+   * Sets the maximum size of decompressed texts kept in memory if the text pool is compressed.
+   *
+   * @param textPoolCacheSize the maximum total size (in characters) of the cached texts
+   */
+  @Value("${solicitor.textpool.cache-size:10000000}")
+  public void setTextPoolCacheSize(long textPoolCacheSize) {
+
+    this.textPoolCacheSize = textPoolCacheSize;
+  }
+
   /** {@inheritDoc} */
   @Override
   public Collection<Object> getAllModelObjects(ModelRoot modelRoot) {
@@ -107,7 +135,9 @@ public class ModelFactoryImpl extends ModelFactory {
   @Override
   public ModelRootImpl newModelRoot() {
 
-    ModelRootImpl modelRoot = new ModelRootImpl();
+    TextPool textPool = this.compressedTextPool ? new CompressedTextPoolImpl(this.textPoolCacheSize)
+        : new TextPoolImpl();
+    ModelRootImpl modelRoot = new ModelRootImpl(textPool);
     modelRoot.setSolicitorVersion(this.solicitorVersion.getVersion());
     modelRoot.setSolicitorGitHash(this.solicitorVersion.getGithash());
     modelRoot.setSolicitorBuilddate(this.solicitorVersion.getBuilddate());
@@ -45,10 +45,20 @@ public class ModelRootImpl extends AbstractModelObject implements ModelRoot {
    */
   public ModelRootImpl() {
 
+    this(new TextPoolImpl());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param textPool the {@link TextPool} to use for storing texts
+   */
+  public ModelRootImpl(TextPool textPool) {
+
     super();
     this.modelVersion = DEFAULT_MODEL_VERSION;
     this.executionTime = (new Date()).toString();
-    this.textPool = new TextPoolImpl();
+    this.textPool = textPool;
 
   }
 
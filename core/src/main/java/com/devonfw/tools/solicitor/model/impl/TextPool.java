@@ -1,7 +1,10 @@
 package com.devonfw.tools.solicitor.model.impl;
 
+import java.util.Map;
 import java.util.NoSuchElementException;
 
+import com.devonfw.tools.solicitor.common.LicenseTextHelper;
+
 /**
  * Holds texts in a pool (effectively a map) and avoids storing the same text multiple times. This can be used to
  * minimize storage requirements when persisting a large amount of (possibly duplicated) texts.
@@ -25,4 +28,22 @@ public interface TextPool {
    * @throws NoSuchElementException if nothing is stored under the given key
    */
   String retrieve(String key);
+
+  /**
+   * Retrieves a text from the pool. Long raw html content is replaced by a short note (see
+   * {@link LicenseTextHelper#replaceLongHtmlContent(String)}). Whether a text is long raw html content is determined
+   * once when storing the text.
+   *
+   * @param key the key of the text (might <code>null</code> which represents a <code>null</code> value)
+   * @return the stored text or the note; might be <code>null</code> if a null value was stored in the pool
+   * @throws NoSuchElementException if nothing is stored under the given key
+   */
+  String retrieveReplacingLongHtml(String key);
+
+  /**
+   * Gets all stored texts by key.
+   *
+   * @return the texts by key (sorted by key); must not be modified
+   */
+  Map<String, String> getDataMap();
 }
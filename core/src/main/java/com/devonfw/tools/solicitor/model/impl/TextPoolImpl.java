@@ -1,19 +1,29 @@
 package com.devonfw.tools.solicitor.model.impl;
 
+import java.util.HashSet;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.apache.commons.codec.digest.DigestUtils;
 
+import com.devonfw.tools.solicitor.common.LicenseTextHelper;
+
 /**
- * Implementation of a {@link TextPool}.
+ * Implementation of a {@link TextPool}. Storing and retrieving texts is synchronized as the model might be modified
+ * concurrently (e.g. when executing rules in parallel).
  *
  */
 public class TextPoolImpl implements TextPool {
 
   private Map<String, String> dataMap;
 
+  /**
+   * Keys of the texts which are long raw html content.
+   */
+  private final Set<String> longHtmlKeys = new HashSet<>();
+
   /**
    * @return dataMap
    */
@@ -25,9 +35,15 @@ public class TextPoolImpl implements TextPool {
   /**
    * @param dataMap new value of {@link #getDataMap}.
    */
-  public void setDataMap(Map<String, String> dataMap) {
+  public synchronized void setDataMap(Map<String, String> dataMap) {
 
     this.dataMap = dataMap;
+    this.longHtmlKeys.clear();
+    for (Map.Entry<String, String> entry : dataMap.entrySet()) {
+      if (LicenseTextHelper.isLongHtmlContent(entry.getValue())) {
+        this.longHtmlKeys.add(entry.getKey());
+      }
+    }
   }
 
   /**
@@ -40,7 +56,7 @@ public class TextPoolImpl implements TextPool {
   }
 
   @Override
-  public String store(String text) {
+  public synchronized String store(String text) {
 
     // special handling of null (null values never get stored in the map)
     if (text == null) {
@@ -52,12 +68,15 @@ public class TextPoolImpl implements TextPool {
       // we ignore the possibility of hash collisions (same key, different text); the probability of any additional line
       // of code introducing a bug is much higher than the likelihood of a hash collision
       this.dataMap.put(key, text);
+      if (LicenseTextHelper.isLongHtmlContent(text)) {
+        this.longHtmlKeys.add(key);
+      }
     }
     return key;
   }
 
   @Override
-  public String retrieve(String key) {
+  public synchronized String retrieve(String key) {
 
     // a null key represents a null string
     if (key == null) {
@@ -70,4 +89,14 @@ public class TextPoolImpl implements TextPool {
     return result;
   }
 
+  @Override
+  public synchronized String retrieveReplacingLongHtml(String key) {
+
+    String result = retrieve(key);
+    if (result != null && this.longHtmlKeys.contains(key)) {
+      return LicenseTextHelper.longHtmlContentPlaceholder();
+    }
+    return result;
+  }
+
 }
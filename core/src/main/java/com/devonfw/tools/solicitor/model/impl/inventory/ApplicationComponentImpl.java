@@ -8,7 +8,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import com.devonfw.tools.solicitor.common.LicenseTextHelper;
 import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 import com.devonfw.tools.solicitor.common.content.ContentProvider;
 import com.devonfw.tools.solicitor.common.content.web.WebContent;
@@ -113,12 +112,31 @@ public class ApplicationComponentImpl extends AbstractModelObject implements App
   @Override
   public String[] getDataElements() {
 
+    return dataElements(getNoticeFileContent());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String[] getDataElementsWithTextPoolKeys() {
+
+    return dataElements(this.noticeFileContentKey);
+  }
+
+  private String[] dataElements(String noticeFileContent) {
+
     return new String[] { this.groupId, this.artifactId, this.version, getRepoType(), getPackageUrl(), getOssHomepage(),
-    getSourceRepoUrl(), getNoticeFileUrl(), getNoticeFileContent(), getUsagePattern().toString(),
+    getSourceRepoUrl(), getNoticeFileUrl(), noticeFileContent, getUsagePattern().toString(),
     isOssModified() ? "true" : "false", getCopyrights(), getPackageDownloadUrl(), getSourceDownloadUrl(),
     getDataStatus(), getTraceabilityNotes() };
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public String[] getTextPoolHeadElements() {
+
+    return new String[] { "noticeFileContent" };
+  }
+
   /** {@inheritDoc} */
   @Override
   public String getGroupId() {
@@ -168,7 +186,7 @@ public class ApplicationComponentImpl extends AbstractModelObject implements App
   @JsonIgnore
   public String getNoticeFileContent() {
 
-    return LicenseTextHelper.replaceLongHtmlContent(retrieveTextFromPool(this.noticeFileContentKey));
+    return retrieveTextFromPoolReplacingLongHtml(this.noticeFileContentKey);
   }
 
   /**
@@ -7,7 +7,6 @@ package com.devonfw.tools.solicitor.model.impl.inventory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.devonfw.tools.solicitor.common.LicenseTextHelper;
 import com.devonfw.tools.solicitor.common.content.ContentProvider;
 import com.devonfw.tools.solicitor.common.content.web.WebContent;
 import com.devonfw.tools.solicitor.licensetexts.GuessedLicenseUrlContent;
@@ -136,13 +135,35 @@ public class NormalizedLicenseImpl extends AbstractModelObject implements Normal
   @Override
   public String[] getDataElements() {
 
-    return new String[] { this.declaredLicense, this.licenseUrl, getDeclaredLicenseContent(),
-    this.normalizedLicenseType, this.normalizedLicense, this.normalizedLicenseUrl, getNormalizedLicenseContent(),
-    this.effectiveNormalizedLicenseType, this.effectiveNormalizedLicense, this.effectiveNormalizedLicenseUrl,
-    getEffectiveNormalizedLicenseContent(), this.legalPreApproved, this.copyLeft, this.licenseCompliance,
-    this.licenseRefUrl, getLicenseRefContent(), this.includeLicense, this.includeSource, this.reviewedForRelease,
-    this.comments, this.legalApproved, this.legalComments, this.trace, this.guessedLicenseUrl,
-    this.guessedLicenseUrlAuditInfo, getGuessedLicenseContent() };
+    return dataElements(getDeclaredLicenseContent(), getNormalizedLicenseContent(),
+        getEffectiveNormalizedLicenseContent(), getLicenseRefContent(), getGuessedLicenseContent());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String[] getDataElementsWithTextPoolKeys() {
+
+    return dataElements(this.declaredLicenseContentKey, this.normalizedLicenseContentKey,
+        this.effectiveNormalizedLicenseContentKey, this.licenseRefContentKey, this.guessedLicenseContentKey);
+  }
+
+  private String[] dataElements(String declaredLicenseContent, String normalizedLicenseContent,
+      String effectiveNormalizedLicenseContent, String licenseRefContent, String guessedLicenseContent) {
+
+    return new String[] { this.declaredLicense, this.licenseUrl, declaredLicenseContent, this.normalizedLicenseType,
+    this.normalizedLicense, this.normalizedLicenseUrl, normalizedLicenseContent, this.effectiveNormalizedLicenseType,
+    this.effectiveNormalizedLicense, this.effectiveNormalizedLicenseUrl, effectiveNormalizedLicenseContent,
+    this.legalPreApproved, this.copyLeft, this.licenseCompliance, this.licenseRefUrl, licenseRefContent,
+    this.includeLicense, this.includeSource, this.reviewedForRelease, this.comments, this.legalApproved,
+    this.legalComments, this.trace, this.guessedLicenseUrl, this.guessedLicenseUrlAuditInfo, guessedLicenseContent };
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String[] getTextPoolHeadElements() {
+
+    return new String[] { "declaredLicenseContent", "normalizedLicenseContent", "effectiveNormalizedLicenseContent",
+    "licenseRefContent", "guessedLicenseContent" };
   }
 
   /** {@inheritDoc} */
@@ -157,7 +178,7 @@ public class NormalizedLicenseImpl extends AbstractModelObject implements Normal
   @JsonIgnore
   public String getDeclaredLicenseContent() {
 
-    return LicenseTextHelper.replaceLongHtmlContent(retrieveTextFromPool(this.declaredLicenseContentKey));
+    return retrieveTextFromPoolReplacingLongHtml(this.declaredLicenseContentKey);
   }
 
   /**
@@ -182,7 +203,7 @@ public class NormalizedLicenseImpl extends AbstractModelObject implements Normal
   @JsonIgnore
   public String getEffectiveNormalizedLicenseContent() {
 
-    return LicenseTextHelper.replaceLongHtmlContent(retrieveTextFromPool(this.effectiveNormalizedLicenseContentKey));
+    return retrieveTextFromPoolReplacingLongHtml(this.effectiveNormalizedLicenseContentKey);
   }
 
   /**
@@ -279,7 +300,7 @@ public class NormalizedLicenseImpl extends AbstractModelObject implements Normal
   @JsonIgnore
   public String getLicenseRefContent() {
 
-    return LicenseTextHelper.replaceLongHtmlContent(retrieveTextFromPool(this.licenseRefContentKey));
+    return retrieveTextFromPoolReplacingLongHtml(this.licenseRefContentKey);
   }
 
   /**
@@ -332,7 +353,7 @@ public class NormalizedLicenseImpl extends AbstractModelObject implements Normal
   @JsonIgnore
   public String getNormalizedLicenseContent() {
 
-    return LicenseTextHelper.replaceLongHtmlContent(retrieveTextFromPool(this.normalizedLicenseContentKey));
+    return retrieveTextFromPoolReplacingLongHtml(this.normalizedLicenseContentKey);
   }
 
   /**
@@ -385,7 +406,7 @@ public class NormalizedLicenseImpl extends AbstractModelObject implements Normal
   @JsonIgnore
   public String getGuessedLicenseContent() {
 
-    return LicenseTextHelper.replaceLongHtmlContent(retrieveTextFromPool(this.guessedLicenseContentKey));
+    return retrieveTextFromPoolReplacingLongHtml(this.guessedLicenseContentKey);
   }
 
   /**
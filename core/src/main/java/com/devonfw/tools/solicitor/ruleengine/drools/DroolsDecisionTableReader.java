@@ -4,20 +4,37 @@
 
 package com.devonfw.tools.solicitor.ruleengine.drools;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
-import org.drools.compiler.builder.conf.DecisionTableConfigurationImpl;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.drools.core.util.Drools;
+import org.drools.decisiontable.ExternalSpreadsheetCompiler;
+import org.drools.decisiontable.InputType;
 import org.kie.api.builder.model.KieBaseModel;
 import org.kie.api.io.Resource;
 import org.kie.api.io.ResourceType;
-import org.kie.internal.builder.DecisionTableInputType;
 import org.kie.internal.io.ResourceFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.devonfw.tools.solicitor.common.IOHelper;
 import com.devonfw.tools.solicitor.common.InputStreamFactory;
+import com.devonfw.tools.solicitor.common.LogMessages;
 import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 
 /**
@@ -26,9 +43,31 @@ import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 @Component
 public class DroolsDecisionTableReader implements DroolsRulesReader {
 
+  private static final Logger LOG = LoggerFactory.getLogger(DroolsDecisionTableReader.class);
+
+  /**
+   * Row of the decision table where the rule data starts.
+   */
+  private static final int START_ROW = 2;
+
+  /**
+   * Column of the decision table where the rule data starts.
+   */
+  private static final int START_COL = 1;
+
+  /**
+   * Pattern for a call of {@link ModelHelper#match(String, String)} in the generated rules where the first argument is
+   * a simple field name and the second is a string literal. Group 1 is the field name, group 2 the literal (still
+   * escaped as given in the DRL).
+   */
+  private static final Pattern MATCH_CALL_PATTERN = Pattern
+      .compile("ModelHelper\\.match\\(\\s*([A-Za-z_$][\\w$]*)\\s*,\\s*\"((?:[^\"\\\\]|\\\\.)*)\"\\s*\\)");
+
   @Autowired
   private InputStreamFactory inputStreamFactory;
 
+  private String generatedDrlCacheDir;
+
   /**
    * Constructor.
    */
@@ -36,6 +75,19 @@ public class DroolsDecisionTableReader implements DroolsRulesReader {
 
   }
 
+  /**
+   * Sets the directory for caching the rules (DRL) generated from decision table and template. If <code>null</code> or
+   * empty then no caching is done and the rules are generated each time. Note that only the generation of the DRL is
+   * saved; the DRL still needs to be compiled on each run, which takes considerably longer than its generation.
+   *
+   * @param generatedDrlCacheDir new value of {@link #generatedDrlCacheDir}.
+   */
+  @Value("${drools-rule-engine.generated-drl-cache-dir:}")
+  public void setGeneratedDrlCacheDir(String generatedDrlCacheDir) {
+
+    this.generatedDrlCacheDir = generatedDrlCacheDir;
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean accept(String type) {
@@ -48,34 +100,234 @@ public class DroolsDecisionTableReader implements DroolsRulesReader {
   public void readRules(String ruleSource, String templateSource, String decription, KieBaseModel baseModel,
       Collection<Resource> resources) {
 
-    String ruleUuid = "com/devonfw/tools/solicitor/rules/" + UUID.randomUUID().toString();
-    String templateUuid = "com/devonfw/tools/solicitor/rules/" + UUID.randomUUID().toString();
+    String drlPath = "com/devonfw/tools/solicitor/rules/" + UUID.randomUUID().toString() + ".drl";
+    String drl = useIndexableConstraints(getGeneratedDrl(ruleSource, templateSource));
+    Resource drlResource = ResourceFactory.newByteArrayResource(drl.getBytes(StandardCharsets.UTF_8));
+    drlResource.setSourcePath(drlPath);
+    drlResource.setResourceType(ResourceType.DRL);
+    resources.add(drlResource);
+  }
+
+  /**
+   * Replaces the calls of {@link ModelHelper#match(String, String)} in the given rules which test a field against a
+   * plain literal (i.e. not using <code>NOT:</code>, <code>(REGEX)</code> or <code>RANGE:</code>) by native equality
+   * constraints. For such literals both are equivalent, but only the native constraint can be indexed by Drools. This
+   * avoids that each fact needs to be tested against each row of the decision table individually.
+   * <p>
+   * Only calls which are constraints of a pattern (<code>Type( ... )</code>) in the condition part (LHS) of a rule are
+   * replaced. Calls within <code>eval(...)</code>, within other function calls, negated calls and calls in the
+   * consequence (RHS) are left untouched as <code>==</code> would have a different meaning there.
+   *
+   * @param drl the generated rules
+   * @return the rules with the native constraints
+   */
+  static String useIndexableConstraints(String drl) {
 
-    baseModel.addRuleTemplate(ruleUuid, templateUuid, 2, 1);
-    Resource dt;
+    StringBuilder sb = new StringBuilder(drl.length());
+    Matcher matcher = MATCH_CALL_PATTERN.matcher(drl);
+    // names preceding the currently open parentheses; empty for plain grouping parentheses
+    Deque<String> openParentheses = new ArrayDeque<>();
+    boolean inCondition = false;
+    int pos = 0;
+    while (pos < drl.length()) {
+      char c = drl.charAt(pos);
+      int end;
+      if (c == '"' || c == '\'') {
+        end = endOfStringLiteral(drl, pos);
+      } else if (drl.startsWith("//", pos)) {
+        end = drl.indexOf('\n', pos);
+        end = end < 0 ? drl.length() : end;
+      } else if (drl.startsWith("/*", pos)) {
+        end = drl.indexOf("*/", pos + 2);
+        end = end < 0 ? drl.length() : end + 2;
+      } else if (Character.isJavaIdentifierStart(c)) {
+        end = pos + 1;
+        while (end < drl.length() && Character.isJavaIdentifierPart(drl.charAt(end))) {
+          end++;
+        }
+        String word = drl.substring(pos, end);
+        if (openParentheses.isEmpty()) {
+          if ("when".equals(word)) {
+            inCondition = true;
+          } else if ("then".equals(word) || "end".equals(word)) {
+            inCondition = false;
+          }
+        }
+        if (inCondition && "ModelHelper".equals(word) && isPatternConstraint(openParentheses)
+            && !isNegated(sb)) {
+          matcher.region(pos, drl.length());
+          if (matcher.lookingAt() && ModelHelper.isLiteralCondition(matcher.group(2))) {
+            sb.append(matcher.group(1)).append(" == \"").append(matcher.group(2)).append('"');
+            pos = matcher.end();
+            continue;
+          }
+        }
+      } else {
+        end = pos + 1;
+        if (c == '(') {
+          openParentheses.push(nameBefore(drl, pos));
+        } else if (c == ')' && !openParentheses.isEmpty()) {
+          openParentheses.pop();
+        }
+      }
+      sb.append(drl, pos, end);
+      pos = end;
+    }
+    return sb.toString();
+  }
 
-    try {
-      dt = ResourceFactory.newInputStreamResource(this.inputStreamFactory.createInputStreamFor(ruleSource));
-    } catch (IOException e) {
-      throw new SolicitorRuntimeException("Could not open decision table resource '" + ruleSource + "' for reading");
+  /**
+   * Determines the end of the string literal starting at the given position.
+   *
+   * @param drl the rules
+   * @param start the position of the opening quote
+   * @return the position after the closing quote (or the end of the rules if the literal is not closed)
+   */
+  private static int endOfStringLiteral(String drl, int start) {
+
+    char quote = drl.charAt(start);
+    int pos = start + 1;
+    while (pos < drl.length()) {
+      char c = drl.charAt(pos);
+      if (c == '\\') {
+        pos += 2;
+      } else if (c == quote) {
+        return pos + 1;
+      } else {
+        pos++;
+      }
     }
-    dt.setSourcePath(ruleUuid);
-    dt.setResourceType(ResourceType.DTABLE);
+    return drl.length();
+  }
+
+  /**
+   * Determines the (possibly qualified) name directly preceding an opening parenthesis.
+   *
+   * @param drl the rules
+   * @param parenthesisPos the position of the opening parenthesis
+   * @return the name; empty if the parenthesis is not preceded by a name
+   */
+  private static String nameBefore(String drl, int parenthesisPos) {
 
-    DecisionTableConfigurationImpl dtcfg = new DecisionTableConfigurationImpl();
-    if (ruleSource.endsWith("csv")) {
-      dtcfg.setInputType(DecisionTableInputType.CSV);
+    int end = parenthesisPos;
+    while (end > 0 && Character.isWhitespace(drl.charAt(end - 1))) {
+      end--;
+    }
+    int start = end;
+    while (start > 0 && (Character.isJavaIdentifierPart(drl.charAt(start - 1)) || drl.charAt(start - 1) == '.')) {
+      start--;
     }
-    dt.setConfiguration(dtcfg);
-    resources.add(dt);
+    return drl.substring(start, end);
+  }
+
+  /**
+   * Checks if the innermost named parenthesis is a pattern <code>Type( ... )</code>, i.e. its name starts with an
+   * uppercase letter. Plain grouping parentheses are skipped.
+   *
+   * @param openParentheses the names preceding the currently open parentheses (innermost first)
+   * @return <code>true</code> if the current position is a constraint of a pattern
+   */
+  private static boolean isPatternConstraint(Deque<String> openParentheses) {
+
+    for (String name : openParentheses) {
+      if (!name.isEmpty()) {
+        String simpleName = name.substring(name.lastIndexOf('.') + 1);
+        return !simpleName.isEmpty() && Character.isUpperCase(simpleName.charAt(0));
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if the text written so far ends with a negation operator (ignoring whitespace).
+   *
+   * @param sb the text written so far
+   * @return <code>true</code> if the following expression is negated
+   */
+  private static boolean isNegated(StringBuilder sb) {
+
+    int pos = sb.length() - 1;
+    while (pos >= 0 && Character.isWhitespace(sb.charAt(pos))) {
+      pos--;
+    }
+    return pos >= 0 && sb.charAt(pos) == '!';
+  }
+
+  /**
+   * Gets the rules (DRL) generated from the given decision table and template. If caching is active and the cache
+   * directory contains the DRL for the identical decision table, template and Drools version it is taken from there.
+   * Otherwise the DRL is generated and (if caching is active) stored in the cache directory.
+   *
+   * @param ruleSource a URL of the resource which contains the decision table
+   * @param templateSource a URL of a resource which contains the rule template
+   * @return the generated DRL
+   */
+  private String getGeneratedDrl(String ruleSource, String templateSource) {
+
+    byte[] decisionTable = readResource(ruleSource, "decision table");
+    byte[] template = readResource(templateSource, "rule template");
+    InputType inputType = ruleSource.endsWith("csv") ? InputType.CSV : InputType.XLS;
+
+    if (this.generatedDrlCacheDir == null || this.generatedDrlCacheDir.isEmpty()) {
+      return new ExternalSpreadsheetCompiler().compile(new ByteArrayInputStream(decisionTable),
+          new ByteArrayInputStream(template), inputType, START_ROW, START_COL);
+    }
+
+    File cacheFile = new File(this.generatedDrlCacheDir, generateHash(decisionTable, template) + ".drl");
+    if (cacheFile.exists()) {
+      try (InputStream is = Files.newInputStream(cacheFile.toPath())) {
+        LOG.debug("Using generated rules from cache file '{}' for decision table '{}'", cacheFile, ruleSource);
+        return IOHelper.readStringFromInputStream(is);
+      } catch (IOException e) {
+        LOG.debug("Could not read cache file '" + cacheFile + "', regenerating rules", e);
+      }
+    }
+
+    String drl = new ExternalSpreadsheetCompiler().compile(new ByteArrayInputStream(decisionTable),
+        new ByteArrayInputStream(template), inputType, START_ROW, START_COL);
+
+    File tempFile = null;
     try {
-      dt = ResourceFactory.newInputStreamResource(this.inputStreamFactory.createInputStreamFor(templateSource));
+      Files.createDirectories(cacheFile.getParentFile().toPath());
+      tempFile = File.createTempFile(cacheFile.getName(), ".tmp", cacheFile.getParentFile());
+      Files.write(tempFile.toPath(), drl.getBytes(StandardCharsets.UTF_8));
+      Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.warn(LogMessages.DRL_CACHE_FAILED.msg(), cacheFile, e.getClass().getSimpleName());
+      if (tempFile != null) {
+        tempFile.delete();
+      }
+    }
+    return drl;
+  }
+
+  /**
+   * Reads the complete content of a resource.
+   *
+   * @param source a URL of the resource
+   * @param kind the kind of resource (for error messages)
+   * @return the content
+   */
+  private byte[] readResource(String source, String kind) {
+
+    try (InputStream is = this.inputStreamFactory.createInputStreamFor(source)) {
+      return IOHelper.readBytesFromInputStream(is);
     } catch (IOException e) {
-      throw new SolicitorRuntimeException("Could not open rule template resource '" + templateSource + "'for reading");
+      throw new SolicitorRuntimeException("Could not open " + kind + " resource '" + source + "' for reading", e);
     }
-    dt.setSourcePath(templateUuid);
-    dt.setResourceType(ResourceType.DRT);
-    resources.add(dt);
+  }
+
+  /**
+   * Generates a hash which identifies the generated DRL.
+   *
+   * @param decisionTable the content of the decision table
+   * @param template the content of the template
+   * @return the hash as hex string
+   */
+  private String generateHash(byte[] decisionTable, byte[] template) {
+
+    return DigestUtils.sha256Hex(DigestUtils.sha256Hex(decisionTable) + "|" + DigestUtils.sha256Hex(template) + "|"
+        + Drools.getFullVersion() + "|" + START_ROW + "|" + START_COL);
   }
 
 }
@@ -4,8 +4,18 @@
 
 package com.devonfw.tools.solicitor.ruleengine.drools;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.kie.api.KieServices;
 import org.kie.api.builder.KieBuilder;
@@ -30,8 +40,10 @@ import org.springframework.stereotype.Component;
 import com.devonfw.tools.solicitor.InventoryProcessor;
 import com.devonfw.tools.solicitor.SolicitorSetup;
 import com.devonfw.tools.solicitor.common.DeprecationChecker;
+import com.devonfw.tools.solicitor.common.IOHelper;
 import com.devonfw.tools.solicitor.common.InputStreamFactory;
 import com.devonfw.tools.solicitor.common.LogMessages;
+import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 import com.devonfw.tools.solicitor.config.RuleConfig;
 import com.devonfw.tools.solicitor.model.ModelRoot;
 import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
@@ -40,6 +52,8 @@ import com.devonfw.tools.solicitor.model.inventory.RawLicense;
 import com.devonfw.tools.solicitor.model.masterdata.Application;
 import com.devonfw.tools.solicitor.model.masterdata.Engagement;
 import com.devonfw.tools.solicitor.ruleengine.RuleEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
  * Implementation of the {@link RuleEngine} interface using the <a href="https://www.drools.org/">Drools Rule
@@ -58,6 +72,8 @@ public class DroolsRuleEngine implements RuleEngine {
 
   private static final Logger LOG = LoggerFactory.getLogger(DroolsRuleEngine.class);
 
+  private static final String SESSION_NAME = "SolitorSessionModel";
+
   @Value("${drools-rule-engine.debuglog}")
   private String debugLog;
 
@@ -73,59 +89,275 @@ public class DroolsRuleEngine implements RuleEngine {
   @Autowired
   private DeprecationChecker deprecationChecker;
 
+  private int compileThreads = 1;
+
+  /**
+   * Sets the number of threads used for compiling the rule groups.
+   *
+   * @param compileThreads the number of threads. A value of 1 (or less) results in compiling each rule group directly
+   *        before its execution.
+   */
+  @Value("${drools-rule-engine.compile-threads:1}")
+  public void setCompileThreads(int compileThreads) {
+
+    this.compileThreads = compileThreads;
+  }
+
+  private int executionThreads = 1;
+
+  /**
+   * Sets the number of threads used for executing the rules. If greater than 1 the facts are partitioned by
+   * {@link Application} and the rules of each rule group are fired in independent sessions per {@link Application}.
+   * This is not done for rule groups which are defined as {@link RuleConfig#isCrossApplication() cross application} or
+   * if the debug log of the rule engine is activated. Note that the IDs of model objects which are created by rules
+   * (e.g. {@link NormalizedLicense}s) are taken from a global counter, so their order depends on the scheduling of the
+   * sessions and differs between runs.
+   *
+   * @param executionThreads the number of threads. A value of 1 (or less) results in executing all rules within a
+   *        single session per rule group.
+   */
+  @Value("${drools-rule-engine.execution-threads:1}")
+  public void setExecutionThreads(int executionThreads) {
+
+    this.executionThreads = executionThreads;
+  }
+
+  private int profilingTopN = 0;
+
+  /**
+   * Sets the number of rules which are logged per rule group when profiling the rule execution.
+   *
+   * @param profilingTopN the number of rules (those with the highest consequence time) to log. If 0 (or less) no
+   *        profiling information is logged.
+   */
+  @Value("${drools-rule-engine.profiling.top-n:0}")
+  public void setProfilingTopN(int profilingTopN) {
+
+    this.profilingTopN = profilingTopN;
+  }
+
+  private String profilingFile;
+
+  /**
+   * Sets the file to which the complete profiling information of all rule groups is written as JSON.
+   *
+   * @param profilingFile the path of the file. If <code>null</code> or empty, no file is written.
+   */
+  @Value("${drools-rule-engine.profiling.file:}")
+  public void setProfilingFile(String profilingFile) {
+
+    this.profilingFile = profilingFile;
+  }
+
   /**
    * {@inheritDoc}
    *
    * Each set of rules given by a RuleConfig (e.g. a single decision table) will be executed in a separate Kie session.
+   * If {@link #compileThreads} is greater than 1 then all rule groups are compiled concurrently ahead of their
+   * execution. The execution of the rule groups is always done sequentially in the configured order.
    */
   @Override
   public void processInventory(ModelRoot modelRoot) {
 
-    int rulesFired = 0;
+    List<RuleConfig> ruleConfigs = new ArrayList<>();
+    List<FutureTask<KieContainer>> containers = new ArrayList<>();
     for (RuleConfig rc : this.setup.getRuleSetups()) {
-      rulesFired += executeRuleGroup(modelRoot, rc);
+      if (isRuleGroupActive(rc)) {
+        int index = ruleConfigs.size();
+        ruleConfigs.add(rc);
+        containers.add(new FutureTask<>(() -> buildKieContainer(rc, index)));
+      }
+    }
+
+    ExecutorService executor = null;
+    if (this.compileThreads > 1) {
+      LOG.info(LogMessages.RULE_GROUPS_COMPILING_PARALLEL.msg(), ruleConfigs.size(), this.compileThreads);
+      executor = Executors.newFixedThreadPool(this.compileThreads);
+      for (FutureTask<KieContainer> task : containers) {
+        executor.execute(task);
+      }
+    }
+    ExecutorService executionExecutor = null;
+    if (this.executionThreads > 1 && (this.debugLog == null || this.debugLog.isEmpty())) {
+      LOG.info(LogMessages.RULES_EXECUTING_PARTITIONED.msg(), this.executionThreads);
+      executionExecutor = Executors.newFixedThreadPool(this.executionThreads);
+    }
+    boolean profiling = this.profilingTopN > 0 || (this.profilingFile != null && !this.profilingFile.isEmpty());
+    Map<String, List<RuleProfiler.RuleStatistics>> profiles = new LinkedHashMap<>();
+    int rulesFired = 0;
+    try {
+      for (int i = 0; i < ruleConfigs.size(); i++) {
+        RuleConfig rc = ruleConfigs.get(i);
+        FutureTask<KieContainer> task = containers.get(i);
+        // in sequential mode the task is executed here; if it was already executed this is a no-op
+        task.run();
+        RuleProfiler profiler = profiling ? new RuleProfiler(rc.getRuleGroup()) : null;
+        rulesFired += executeRuleGroup(modelRoot, rc, await(task, "compiling rules"), executionExecutor, profiler);
+        if (profiler != null) {
+          if (this.profilingTopN > 0) {
+            LOG.info(LogMessages.RULE_GROUP_PROFILE.msg(), rc.getRuleGroup(), this.profilingTopN,
+                profiler.toTable(this.profilingTopN));
+          }
+          profiles.put(rc.getRuleGroup(), profiler.getStatistics());
+        }
+        // release the container as early as possible
+        containers.set(i, null);
+      }
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+      if (executionExecutor != null) {
+        executionExecutor.shutdownNow();
+      }
     }
     LOG.info(LogMessages.RULE_ENGINE_FINISHED.msg(), rulesFired);
+    if (this.profilingFile != null && !this.profilingFile.isEmpty()) {
+      writeProfiles(profiles);
+    }
 
   }
 
   /**
-   * Execute the rules defined by a single RuleConfig. This includes building up the {@link KieSession}, adding all
-   * rules, adding all facts (the model) and firing all rules. If the RuleConfig defines the rule group as optional and
-   * the rule source does not exist the execution will be skipped.
+   * Checks if the rules defined by the given RuleConfig need to be executed. If the RuleConfig defines the rule group
+   * as optional and the rule source does not exist the execution will be skipped. If the rule group is marked as
+   * deprecated the {@link DeprecationChecker} is called.
    *
-   * @param modelRoot the root to the model defining all facts
-   * @param rc the configuration of the rules to execute
-   * @return the number of rules which fired
+   * @param rc the configuration of the rules
+   * @return <code>true</code> if the rules need to be executed, <code>false</code> otherwise
    */
-  private int executeRuleGroup(ModelRoot modelRoot, RuleConfig rc) {
+  private boolean isRuleGroupActive(RuleConfig rc) {
 
     determineFinalRuleSourceName(rc);
 
     if (rc.isOptional() && !this.inputStreamFactory.isExisting(rc.getRuleSource())) {
       LOG.info(LogMessages.SKIPPING_RULEGROUP.msg(), rc.getRuleGroup(), rc.getRuleSource());
-      return 0;
+      return false;
     }
 
     // check if this rule group was marked as deprecated
     if (rc.getDeprecationDetails() != null && !rc.getDeprecationDetails().isEmpty()) {
       this.deprecationChecker.check(rc.isDeprecationWarnOnly(), rc.getDeprecationDetails());
     }
+    return true;
+  }
 
-    KieSession ksession = prepareSession(rc);
+  /**
+   * Waits for the given {@link Future} to complete and returns its result.
+   *
+   * @param <T> the type of the result
+   * @param future the future to wait for
+   * @param activity description of the activity done by the future (for exception messages)
+   * @return the result delivered by the future
+   * @throws SolicitorRuntimeException if the activity failed or the thread was interrupted
+   */
+  private <T> T await(Future<T> future, String activity) {
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SolicitorRuntimeException("Interrupted when " + activity, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw new SolicitorRuntimeException("Exception when " + activity, e.getCause());
+    }
+  }
 
-    insertFacts(ksession, modelRoot);
+  /**
+   * Execute the rules defined by a single RuleConfig. This includes creating the {@link KieSession} from the given
+   * {@link KieContainer}, adding all facts (the model) and firing all rules. If an {@link ExecutorService} is given
+   * and the rule group is not defined as cross application, a separate session is created for each
+   * {@link Application} and the sessions are fired concurrently. As rules only join facts of the same
+   * {@link Application} in this case, the results are the same as for a single session.
+   *
+   * @param modelRoot the root to the model defining all facts
+   * @param rc the configuration of the rules to execute
+   * @param kContainer the {@link KieContainer} containing the compiled rules
+   * @param executor the {@link ExecutorService} for firing the rules concurrently; might be <code>null</code>
+   * @param profiler the {@link RuleProfiler} to attach to the sessions; might be <code>null</code>
+   * @return the number of rules which fired
+   */
+  private int executeRuleGroup(ModelRoot modelRoot, RuleConfig rc, KieContainer kContainer, ExecutorService executor,
+      RuleProfiler profiler) {
+
+    List<Application> applications = modelRoot.getEngagement().getApplications();
+    List<KieSession> ksessions = new ArrayList<>();
+    if (executor == null || rc.isCrossApplication() || applications.size() < 2) {
+      KieSession ksession = prepareSession(kContainer, profiler);
+      insertFacts(ksession, modelRoot, applications);
+      ksessions.add(ksession);
+    } else {
+      for (Application app : applications) {
+        KieSession ksession = prepareSession(kContainer, profiler);
+        insertFacts(ksession, modelRoot, Collections.singletonList(app));
+        ksessions.add(ksession);
+      }
+    }
+    long factCount = 0;
+    for (KieSession ksession : ksessions) {
+      factCount += ksession.getFactCount();
+    }
+    LOG.info(LogMessages.ADDING_FACTS.msg(), factCount);
 
     // Fire the rules.
     long startTime = System.currentTimeMillis();
     ModelHelper.setCurrentRuleGroup(rc.getRuleGroup());
-    int count = ksession.fireAllRules();
+    int count = 0;
+    try {
+      if (ksessions.size() == 1) {
+        count = ksessions.get(0).fireAllRules();
+      } else {
+        List<Future<Integer>> results = new ArrayList<>();
+        for (KieSession ksession : ksessions) {
+          results.add(executor.submit(() -> ksession.fireAllRules()));
+        }
+        // wait for all sessions (even in case of failures) before disposing them
+        RuntimeException failure = null;
+        for (Future<Integer> result : results) {
+          try {
+            count += await(result, "executing rules");
+          } catch (RuntimeException e) {
+            if (failure == null) {
+              failure = e;
+            }
+          }
+        }
+        if (failure != null) {
+          throw failure;
+        }
+      }
+    } finally {
+      for (KieSession ksession : ksessions) {
+        ksession.dispose();
+      }
+    }
     long endTime = System.currentTimeMillis();
     LOG.info(LogMessages.RULE_GROUP_FINISHED.msg(), rc.getRuleGroup(), count, endTime - startTime);
-    ksession.dispose();
     return count;
   }
 
+  /**
+   * Writes the profiling information of all rule groups as JSON to {@link #profilingFile}.
+   *
+   * @param profiles the sorted statistics per rule group
+   */
+  private void writeProfiles(Map<String, List<RuleProfiler.RuleStatistics>> profiles) {
+
+    IOHelper.checkAndCreateLocation(this.profilingFile);
+    ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    try {
+      objectMapper.writeValue(new File(this.profilingFile), profiles);
+    } catch (IOException e) {
+      LOG.error(LogMessages.RULE_PROFILE_WRITE_FAILED.msg(), this.profilingFile, e);
+    }
+  }
+
   /**
    * Determine the final rule source name. If the resource given by {@link RuleConfig#getRuleSource()} exists then take
    * this. Otherwise check for alternatives by appending xls or csv suffix (with xls taking priority over csv).
@@ -147,17 +379,19 @@ public class DroolsRuleEngine implements RuleEngine {
   }
 
   /**
-   * Inserts all facts to the working memory of the given Drools session.
+   * Inserts the facts to the working memory of the given Drools session. These are the {@link ModelRoot}, the
+   * {@link Engagement} and the given {@link Application}s including all their subordinate objects.
    *
    * @param ksession the Drools session
    * @param modelRoot root of the model containing the facts
+   * @param applications the {@link Application}s whose facts should be inserted
    */
-  private void insertFacts(KieSession ksession, ModelRoot modelRoot) {
+  private void insertFacts(KieSession ksession, ModelRoot modelRoot, List<Application> applications) {
 
     ksession.insert(modelRoot);
     Engagement engagement = modelRoot.getEngagement();
     ksession.insert(engagement);
-    for (Application app : engagement.getApplications()) {
+    for (Application app : applications) {
       ksession.insert(app);
       for (ApplicationComponent ac : app.getApplicationComponents()) {
         ksession.insert(ac);
@@ -169,21 +403,22 @@ public class DroolsRuleEngine implements RuleEngine {
         }
       }
     }
-    LOG.info(LogMessages.ADDING_FACTS.msg(), ksession.getFactCount());
   }
 
   /**
-   * Prepare the {@link KieSession} by reading and preprocessing given rules.
+   * Builds the {@link KieContainer} by reading, preprocessing and compiling the given rules. This method might be
+   * called concurrently for different rule groups.
    *
    * @param rc the configuration of the rules to read
-   * @return the prepared {@link KieSession}
+   * @param index the index of the rule group; used to give each compiled module a distinct {@link ReleaseId}
+   * @return the {@link KieContainer}
    */
-  private synchronized KieSession prepareSession(RuleConfig rc) {
+  private KieContainer buildKieContainer(RuleConfig rc, int index) {
 
     KieServices ks = KieServices.Factory.get();
     KieFileSystem kfs = ks.newKieFileSystem();
 
-    ReleaseId rid = ks.newReleaseId("com.devonfw.tools", "solicitor", "0.0.0");
+    ReleaseId rid = ks.newReleaseId("com.devonfw.tools", "solicitor", "0.0." + index);
     kfs.generateAndWritePomXML(rid);
 
     KieModuleModel kModuleModel = ks.newKieModuleModel();
@@ -197,8 +432,7 @@ public class DroolsRuleEngine implements RuleEngine {
         rc.getDescription(), baseModel, resources);
     LOG.info(LogMessages.LOAD_RULES.msg(), rc.getType(), rc.getRuleSource(), rc.getTemplateSource(), rc.getRuleGroup());
 
-    String sesionName = "SolitorSessionModel";
-    baseModel.newKieSessionModel(sesionName);
+    baseModel.newKieSessionModel(SESSION_NAME);
 
     kfs.writeKModuleXML(kModuleModel.toXML());
 
@@ -213,8 +447,25 @@ public class DroolsRuleEngine implements RuleEngine {
     }
 
     KieContainer kContainer = ks.newKieContainer(rid);
+    // the module is not needed in the repository any longer
+    ks.getRepository().removeKieModule(rid);
+    return kContainer;
+  }
+
+  /**
+   * Prepare the {@link KieSession} from the compiled rules.
+   *
+   * @param kContainer the {@link KieContainer} containing the compiled rules
+   * @param profiler the {@link RuleProfiler} to attach to the session; might be <code>null</code>
+   * @return the prepared {@link KieSession}
+   */
+  private KieSession prepareSession(KieContainer kContainer, RuleProfiler profiler) {
 
-    KieSession kSession = kContainer.newKieSession(sesionName);
+    KieSession kSession = kContainer.newKieSession(SESSION_NAME);
+
+    if (profiler != null) {
+      kSession.addEventListener(profiler);
+    }
 
     if (this.debugLog != null && !this.debugLog.isEmpty()) {
       // Set up listeners.
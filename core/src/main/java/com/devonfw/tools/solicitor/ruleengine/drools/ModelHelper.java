@@ -3,6 +3,10 @@
  */
 package com.devonfw.tools.solicitor.ruleengine.drools;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,6 +50,19 @@ public class ModelHelper {
    */
   private static final String NOT_PREFIX = "NOT:";
 
+  /**
+   * Maximum number of compiled patterns held in {@link #PATTERN_CACHE}.
+   */
+  static final int MAX_PATTERN_CACHE_SIZE = 10000;
+
+  /**
+   * Cache of compiled regular expressions used in {@link #match(String, String)}. The same conditions are evaluated
+   * over and over again when processing the decision tables, so compiling them only once saves a lot of processing.
+   * As rules might be executed in multiple threads concurrently, reading from the cache does not lock. The cache is
+   * bounded; if it is full it is cleared.
+   */
+  static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+
   private static final Logger LOG = LoggerFactory.getLogger(ModelHelper.class);
 
   private static DeprecationChecker deprecationChecker;
@@ -204,11 +221,11 @@ public class ModelHelper {
         deprecationChecker.check(false, "Use of 'REGEX:' prefix notation is deprecated, use '(REGEX)' suffix instead. "
             + "See https://github.com/devonfw/solicitor/issues/78 and https://github.com/devonfw/solicitor/issues/263");
         String pattern = condition.substring(REGEX_PREFIX.length());
-        return input.matches(pattern);
+        return compiledPattern(pattern).matcher(input).matches();
       }
       if (condition.endsWith(REGEX_SUFFIX)) {
         String pattern = condition.substring(0, condition.length() - REGEX_SUFFIX.length()).trim();
-        return input.matches(pattern);
+        return compiledPattern(pattern).matcher(input).matches();
       }
       if (condition.startsWith(RANGE_PREFIX)) {
         String rangeSpec = condition.substring(RANGE_PREFIX.length());
@@ -219,6 +236,39 @@ public class ModelHelper {
     return false;
   }
 
+  /**
+   * Checks if the given condition is a plain literal, i.e. it does not use any of the keywords which are supported by
+   * {@link #match(String, String)}. For such conditions {@link #match(String, String)} is equivalent to a simple
+   * (<code>null</code> safe) string comparison.
+   *
+   * @param condition the condition as given to {@link #match(String, String)}
+   * @return <code>true</code> if the condition is a plain literal, <code>false</code> otherwise
+   */
+  static boolean isLiteralCondition(String condition) {
+
+    return condition != null && !condition.startsWith(NOT_PREFIX) && !condition.startsWith(REGEX_PREFIX)
+        && !condition.endsWith(REGEX_SUFFIX) && !condition.startsWith(RANGE_PREFIX);
+  }
+
+  /**
+   * Gets the compiled {@link Pattern} for the given regular expression. Compiled patterns are cached.
+   *
+   * @param regex the regular expression
+   * @return the compiled pattern
+   */
+  private static Pattern compiledPattern(String regex) {
+
+    Pattern pattern = PATTERN_CACHE.get(regex);
+    if (pattern == null) {
+      pattern = Pattern.compile(regex);
+      if (PATTERN_CACHE.size() >= MAX_PATTERN_CACHE_SIZE) {
+        PATTERN_CACHE.clear();
+      }
+      PATTERN_CACHE.put(regex, pattern);
+    }
+    return pattern;
+  }
+
   /**
    * This method gets the field <code>currentRuleGroup</code>. This field contains the id of the current rule group
    * being processed by the Drools Rule Engine.
@@ -0,0 +1,179 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.devonfw.tools.solicitor.ruleengine.drools;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.event.rule.BeforeMatchFiredEvent;
+import org.kie.api.event.rule.DefaultAgendaEventListener;
+import org.kie.api.event.rule.MatchCreatedEvent;
+
+/**
+ * A lightweight {@link org.kie.api.event.rule.AgendaEventListener} which collects statistics per rule: the number of
+ * matches created, the number of times the rule fired and the cumulative time spent in the consequences of the rule.
+ * The same instance might be attached to multiple sessions which are fired concurrently.
+ */
+public class RuleProfiler extends DefaultAgendaEventListener {
+
+  /**
+   * The statistics collected for a single rule.
+   */
+  public static class RuleStatistics {
+
+    private final String ruleName;
+
+    private final AtomicLong matches = new AtomicLong();
+
+    private final AtomicLong firings = new AtomicLong();
+
+    private final AtomicLong consequenceNanos = new AtomicLong();
+
+    /**
+     * The constructor.
+     *
+     * @param ruleName the name of the rule
+     */
+    public RuleStatistics(String ruleName) {
+
+      this.ruleName = ruleName;
+    }
+
+    /**
+     * Gets the name of the rule.
+     *
+     * @return the name of the rule
+     */
+    public String getRuleName() {
+
+      return this.ruleName;
+    }
+
+    /**
+     * Gets the number of matches created for the rule.
+     *
+     * @return the number of matches created for the rule
+     */
+    public long getMatches() {
+
+      return this.matches.get();
+    }
+
+    /**
+     * Gets the number of times the rule fired.
+     *
+     * @return the number of times the rule fired
+     */
+    public long getFirings() {
+
+      return this.firings.get();
+    }
+
+    /**
+     * Gets the cumulative time spent in the consequence of the rule.
+     *
+     * @return the cumulative time spent in the consequence of the rule in milliseconds
+     */
+    public double getConsequenceTimeMillis() {
+
+      return this.consequenceNanos.get() / 1000000.0;
+    }
+  }
+
+  private final String ruleGroup;
+
+  private final Map<String, RuleStatistics> statistics = new ConcurrentHashMap<>();
+
+  private final ThreadLocal<Long> fireStartTime = new ThreadLocal<>();
+
+  /**
+   * The constructor.
+   *
+   * @param ruleGroup the rule group which is profiled
+   */
+  public RuleProfiler(String ruleGroup) {
+
+    this.ruleGroup = ruleGroup;
+  }
+
+  /**
+   * @return the rule group which is profiled
+   */
+  public String getRuleGroup() {
+
+    return this.ruleGroup;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void matchCreated(MatchCreatedEvent event) {
+
+    statisticsFor(event.getMatch().getRule().getName()).matches.incrementAndGet();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void beforeMatchFired(BeforeMatchFiredEvent event) {
+
+    this.fireStartTime.set(System.nanoTime());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void afterMatchFired(AfterMatchFiredEvent event) {
+
+    long endTime = System.nanoTime();
+    RuleStatistics ruleStatistics = statisticsFor(event.getMatch().getRule().getName());
+    ruleStatistics.firings.incrementAndGet();
+    Long startTime = this.fireStartTime.get();
+    if (startTime != null) {
+      ruleStatistics.consequenceNanos.addAndGet(endTime - startTime);
+      this.fireStartTime.remove();
+    }
+  }
+
+  private RuleStatistics statisticsFor(String ruleName) {
+
+    return this.statistics.computeIfAbsent(ruleName, RuleStatistics::new);
+  }
+
+  /**
+   * Gets the collected statistics, sorted descending by consequence time, number of firings and number of matches.
+   *
+   * @return the sorted statistics
+   */
+  public List<RuleStatistics> getStatistics() {
+
+    List<RuleStatistics> result = new ArrayList<>(this.statistics.values());
+    result.sort(Comparator.comparingLong((RuleStatistics s) -> s.consequenceNanos.get())
+        .thenComparingLong(RuleStatistics::getFirings).thenComparingLong(RuleStatistics::getMatches).reversed()
+        .thenComparing(RuleStatistics::getRuleName));
+    return result;
+  }
+
+  /**
+   * Creates a textual table of the top entries of {@link #getStatistics()}.
+   *
+   * @param topN the maximum number of rules to include
+   * @return the table
+   */
+  public String toTable(int topN) {
+
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("%12s %10s %10s  %s", "time [ms]", "fired", "matches", "rule"));
+    List<RuleStatistics> sorted = getStatistics();
+    for (RuleStatistics s : sorted.subList(0, Math.min(topN, sorted.size()))) {
+      sb.append(String.format("%n%12.3f %10d %10d  %s", s.getConsequenceTimeMillis(), s.getFirings(), s.getMatches(),
+          s.getRuleName()));
+    }
+    return sb.toString();
+  }
+
+}
@@ -7,7 +7,10 @@ package com.devonfw.tools.solicitor.writer;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -17,8 +20,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.devonfw.tools.solicitor.common.IOHelper;
 import com.devonfw.tools.solicitor.common.InputStreamFactory;
@@ -28,6 +34,8 @@ import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 import com.devonfw.tools.solicitor.model.ModelFactory;
 import com.devonfw.tools.solicitor.model.ModelRoot;
 import com.devonfw.tools.solicitor.model.impl.AbstractModelObject;
+import com.devonfw.tools.solicitor.model.impl.ModelRootImpl;
+import com.devonfw.tools.solicitor.model.impl.TextPool;
 import com.devonfw.tools.solicitor.writer.data.DataTable;
 import com.devonfw.tools.solicitor.writer.data.DataTableField;
 import com.devonfw.tools.solicitor.writer.data.DataTableFieldImpl;
@@ -43,9 +51,32 @@ public class ResultDatabaseFactory {
 
   private static final Logger LOG = LoggerFactory.getLogger(ResultDatabaseFactory.class);
 
+  /**
+   * Maximum number of rows which are sent to the database within a single JDBC batch.
+   */
+  private static final int INSERT_BATCH_SIZE = 1000;
+
+  /**
+   * Name of the table which holds the texts of the {@link TextPool} if {@link #setTextPoolTable(boolean)} is enabled.
+   */
+  private static final String TEXT_POOL_TABLE = "TEXTPOOL";
+
+  /**
+   * Name of the default database schema which holds the current data model.
+   */
+  private static final String DEFAULT_SCHEMA = "PUBLIC";
+
+  /**
+   * Name of the database schema which holds the old data model.
+   */
+  private static final String OLD_MODEL_SCHEMA = "OLDMODEL";
+
   @Autowired
   private JdbcTemplate jdbcTemplate;
 
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
   @Autowired
   private InputStreamFactory inputStreamFactory;
 
@@ -55,35 +86,200 @@ public class ResultDatabaseFactory {
   @Autowired
   private ReportingGroupHandler reportingGroupHandler;
 
-  private Set<Class<? extends AbstractModelObject>> definedTablesSet = new HashSet<>();
+  private boolean textPoolTable = false;
+
+  /**
+   * The database schema holding the current data model.
+   */
+  private final ReportingSchema currentSchema = new ReportingSchema(DEFAULT_SCHEMA);
+
+  /**
+   * The database schema holding the old data model (if any).
+   */
+  private final ReportingSchema oldSchema = new ReportingSchema(OLD_MODEL_SCHEMA);
+
+  private boolean oldSchemaCreated = false;
+
+  /**
+   * The state of a database schema which holds a data model. As the SQL statements do not qualify the table names the
+   * current and the old data model are stored in different schemas having the same table names.
+   */
+  private static class ReportingSchema {
+
+    private final String name;
+
+    private final Set<Class<? extends AbstractModelObject>> definedTablesSet = new HashSet<>();
+
+    private final Map<Class<? extends AbstractModelObject>, String> insertStatements = new HashMap<>();
+
+    private final Map<String, AbstractModelObject> allModelObjectInstances = new TreeMap<>();
+
+    /**
+     * Model classes which are stored in a data table (with text pool keys) and a view (joining the texts).
+     */
+    private final Set<Class<? extends AbstractModelObject>> textPoolViewsSet = new HashSet<>();
+
+    private boolean textPoolTableCreated = false;
+
+    private TextPool textPool;
+
+    private final Set<String> storedTextPoolKeys = new HashSet<>();
+
+    /**
+     * Texts which need to be inserted into the text pool table.
+     */
+    private final List<Object[]> pendingTextPoolRows = new ArrayList<>();
+
+    /**
+     * Cache for the results of {@link ResultDatabaseFactory#getDataTable(String, String)}. The key is built from the
+     * SQL resource and the reporting group. The cache is only valid for the currently loaded data model and is cleared
+     * when loading a data model into the schema. To avoid copying the results of statements which are executed only
+     * once, a freshly created table is cached and handed out as is; only cache hits get a copy. The only modification
+     * done on such tables is the calculation of the diff against the result of the same statement on the old model;
+     * as repeating this calculation on a copy yields the same diff, later callers are not affected.
+     */
+    private final Map<String, DataTable> dataTableCache = new HashMap<>();
+
+    ReportingSchema(String name) {
+
+      this.name = name;
+    }
+
+    /**
+     * Qualifies the given table name with the name of this schema.
+     *
+     * @param tableName the unqualified name
+     * @return the qualified name
+     */
+    String qualify(String tableName) {
+
+      return this.name + "." + tableName;
+    }
+  }
+
+
+  /**
+   * Sets whether the texts of the {@link TextPool} (e.g. license texts) are stored only once in a separate table. The
+   * tables of the model objects then only contain the keys of the texts; views with the original table names join the
+   * texts so that the result is the same for all SQL statements.
+   *
+   * @param textPoolTable <code>true</code> if the texts should be stored in a separate table
+   */
+  @Value("${solicitor.reporting.text-pool-table:false}")
+  public void setTextPoolTable(boolean textPoolTable) {
+
+    this.textPoolTable = textPoolTable;
+  }
+
+  /**
+   * Checks whether the given model object is stored in a data table and a view joining the texts of the text pool.
+   *
+   * @param schema the schema holding the data model
+   * @param modelObject the model object
+   * @return <code>true</code> if a separate table and view is used
+   */
+  private boolean usesTextPoolView(ReportingSchema schema, AbstractModelObject modelObject) {
+
+    return this.textPoolTable && schema.textPool != null && modelObject.getTextPoolHeadElements().length > 0;
+  }
 
-  private Map<String, AbstractModelObject> allModelObjectInstances = new TreeMap<>();
+  /**
+   * Creates a database table for storing the given {@link AbstractModelObject}. If the texts of the {@link TextPool}
+   * are stored separately the table gets the suffix "_DATA" and a view with the original table name is created which
+   * joins the texts.
+   *
+   * @param schema the schema holding the data model
+   * @param modelObject the model object for which the table should be defined
+   */
+  private void createTable(ReportingSchema schema, AbstractModelObject modelObject) {
+
+    String name = determineTableName(modelObject.getClass());
+    if (usesTextPoolView(schema, modelObject)) {
+      schema.textPoolViewsSet.add(modelObject.getClass());
+      ensureTextPoolTableExists(schema);
+      createTable(schema, modelObject, name + "_DATA");
+      createTextPoolView(schema, modelObject, name);
+    } else {
+      createTable(schema, modelObject, name);
+    }
+  }
 
   /**
    * Creates a database table for storing the given {@link AbstractModelObject}.
    *
+   * @param schema the schema holding the data model
    * @param modelObject the model object for which the table should be defined
+   * @param name the name of the table
    */
-  private void createTable(AbstractModelObject modelObject) {
+  private void createTable(ReportingSchema schema, AbstractModelObject modelObject, String name) {
 
     StringBuilder sb = new StringBuilder();
-    String name = determineTableName(modelObject.getClass());
-    sb.append("create table ").append(name).append(" ( ");
+    String idName = determineTableName(modelObject.getClass());
+    sb.append("create table ").append(schema.qualify(name)).append(" ( ");
     for (String fields : modelObject.getHeadElements()) {
       sb.append("\"").append(fields).append("\" ").append("LONGVARCHAR, ");
     }
     if (modelObject.getParent() != null) {
-      sb.append("PARENT_").append(name).append(" ").append("LONGVARCHAR NOT NULL, ");
+      sb.append("PARENT_").append(idName).append(" ").append("LONGVARCHAR NOT NULL, ");
     }
-    sb.append("ID_").append(name).append(" ").append("LONGVARCHAR NOT NULL, ");
-    sb.append("PRIMARY KEY ( ID_").append(name).append(")");
+    sb.append("ID_").append(idName).append(" ").append("LONGVARCHAR NOT NULL, ");
+    sb.append("PRIMARY KEY ( ID_").append(idName).append(")");
     sb.append(" );");
-    LOG.debug("Creating Reporting table '{}'", name);
+    LOG.debug("Creating Reporting table '{}'", schema.qualify(name));
     String sql = sb.toString();
     this.jdbcTemplate.execute(sql);
 
   }
 
+  /**
+   * Creates the view for the given {@link AbstractModelObject} which joins the texts from the text pool table to the
+   * data table. The view has the same columns as the table which would be created without a separate text pool table.
+   *
+   * @param schema the schema holding the data model
+   * @param modelObject the model object for which the view should be defined
+   * @param name the name of the view
+   */
+  private void createTextPoolView(ReportingSchema schema, AbstractModelObject modelObject, String name) {
+
+    Set<String> textColumns = new HashSet<>(Arrays.asList(modelObject.getTextPoolHeadElements()));
+    StringBuilder columns = new StringBuilder();
+    StringBuilder joins = new StringBuilder();
+    int textIndex = 0;
+    for (String field : modelObject.getHeadElements()) {
+      if (textColumns.contains(field)) {
+        String alias = "t" + textIndex++;
+        columns.append(alias).append(".TEXT as \"").append(field).append("\", ");
+        joins.append(" left join ").append(schema.qualify(TEXT_POOL_TABLE)).append(" ").append(alias).append(" on ")
+            .append(alias).append(".ID_").append(TEXT_POOL_TABLE).append(" = d.\"").append(field).append("\"");
+      } else {
+        columns.append("d.\"").append(field).append("\", ");
+      }
+    }
+    if (modelObject.getParent() != null) {
+      columns.append("d.PARENT_").append(name).append(", ");
+    }
+    columns.append("d.ID_").append(name);
+    String sql = "create view " + schema.qualify(name) + " as select " + columns + " from "
+        + schema.qualify(name + "_DATA") + " d" + joins + ";";
+    LOG.debug("Creating Reporting view '{}'", schema.qualify(name));
+    this.jdbcTemplate.execute(sql);
+  }
+
+  /**
+   * Creates the table for storing the texts of the {@link TextPool} in case that it does not exist yet.
+   *
+   * @param schema the schema holding the data model
+   */
+  private void ensureTextPoolTableExists(ReportingSchema schema) {
+
+    if (!schema.textPoolTableCreated) {
+      schema.textPoolTableCreated = true;
+      LOG.debug("Creating Reporting table '{}'", schema.qualify(TEXT_POOL_TABLE));
+      this.jdbcTemplate.execute("create table " + schema.qualify(TEXT_POOL_TABLE) + " ( ID_" + TEXT_POOL_TABLE
+          + " VARCHAR(64) NOT NULL, TEXT LONGVARCHAR, PRIMARY KEY ( ID_" + TEXT_POOL_TABLE + ") );");
+    }
+  }
+
   /**
    * Determine the table name for the given {@link AbstractModelObject} subtype.
    *
@@ -98,20 +294,45 @@ public class ResultDatabaseFactory {
   /**
    * Drop the database table which corresponds to the given {@link AbstractModelObject}.
    *
+   * @param schema the schema holding the data model
    * @param oneTable the model class for which the corresponding database table should be dropped
    */
-  private void dropExistingTable(Class<? extends AbstractModelObject> oneTable) {
+  private void dropExistingTable(ReportingSchema schema, Class<? extends AbstractModelObject> oneTable) {
 
     StringBuilder sb = new StringBuilder();
     String name = determineTableName(oneTable);
-    sb.append("drop table ").append(name).append(";");
-    LOG.debug("Dropping Reporting table '{}'", name);
+    if (schema.textPoolViewsSet.contains(oneTable)) {
+      LOG.debug("Dropping Reporting view '{}'", schema.qualify(name));
+      this.jdbcTemplate.execute("drop view " + schema.qualify(name) + ";");
+      name = name + "_DATA";
+    }
+    sb.append("drop table ").append(schema.qualify(name)).append(";");
+    LOG.debug("Dropping Reporting table '{}'", schema.qualify(name));
     String sql = sb.toString();
     this.jdbcTemplate.execute(sql);
   }
 
   /**
-   * Creates a {@link DataTable} by executing the referenced SQL.
+   * Drop the table holding the texts of the {@link TextPool} if it exists.
+   *
+   * @param schema the schema holding the data model
+   */
+  private void dropExistingTextPoolTable(ReportingSchema schema) {
+
+    if (schema.textPoolTableCreated) {
+      LOG.debug("Dropping Reporting table '{}'", schema.qualify(TEXT_POOL_TABLE));
+      this.jdbcTemplate.execute("drop table " + schema.qualify(TEXT_POOL_TABLE) + ";");
+      schema.textPoolTableCreated = false;
+    }
+    schema.textPoolViewsSet.clear();
+    schema.storedTextPoolKeys.clear();
+    schema.pendingTextPoolRows.clear();
+  }
+
+  /**
+   * Creates a {@link DataTable} by executing the referenced SQL on the current data model (see
+   * {@link #initDataModel(ModelRoot)}). If the same SQL has already been executed for the same reporting group on the
+   * currently loaded data model then a copy of the previous result will be returned.
    *
    * @param sqlResourceUrl URL which references an SQL statement
    * @param reportingGroup parameter which denotes the reportingGroup to select data from
@@ -119,6 +340,55 @@ public class ResultDatabaseFactory {
    */
   public DataTable getDataTable(String sqlResourceUrl, String reportingGroup) {
 
+    return getDataTable(this.currentSchema, sqlResourceUrl, reportingGroup);
+  }
+
+  /**
+   * Creates a {@link DataTable} by executing the referenced SQL on the old data model (see
+   * {@link #initOldDataModel(ModelRoot)}). Results are cached in the same way as for
+   * {@link #getDataTable(String, String)}.
+   *
+   * @param sqlResourceUrl URL which references an SQL statement
+   * @param reportingGroup parameter which denotes the reportingGroup to select data from
+   * @return the result of the SQL statement
+   */
+  public DataTable getOldDataTable(String sqlResourceUrl, String reportingGroup) {
+
+    return getDataTable(this.oldSchema, sqlResourceUrl, reportingGroup);
+  }
+
+  /**
+   * Creates a {@link DataTable} by executing the referenced SQL within the given schema or returns a copy of the cached
+   * result.
+   *
+   * @param schema the schema holding the data model
+   * @param sqlResourceUrl URL which references an SQL statement
+   * @param reportingGroup parameter which denotes the reportingGroup to select data from
+   * @return the result of the SQL statement
+   */
+  private DataTable getDataTable(ReportingSchema schema, String sqlResourceUrl, String reportingGroup) {
+
+    String cacheKey = sqlResourceUrl + "|" + reportingGroup;
+    DataTable cachedDataTable = schema.dataTableCache.get(cacheKey);
+    if (cachedDataTable == null) {
+      DataTable result = executeSql(schema, sqlResourceUrl, reportingGroup);
+      schema.dataTableCache.put(cacheKey, result);
+      return result;
+    }
+    LOG.debug("Reusing result of SQL statement '{}' for reporting group '{}'", sqlResourceUrl, reportingGroup);
+    return new DataTableImpl(cachedDataTable);
+  }
+
+  /**
+   * Creates a {@link DataTable} by reading and executing the referenced SQL.
+   *
+   * @param schema the schema holding the data model
+   * @param sqlResourceUrl URL which references an SQL statement
+   * @param reportingGroup parameter which denotes the reportingGroup to select data from
+   * @return the result of the SQL statement
+   */
+  private DataTable executeSql(ReportingSchema schema, String sqlResourceUrl, String reportingGroup) {
+
     String sql;
 
     try (InputStream inp = this.inputStreamFactory.createInputStreamFor(sqlResourceUrl)) {
@@ -129,7 +399,7 @@ public class ResultDatabaseFactory {
 
     sql = this.reportingGroupHandler.replacePlaceholderInSql(sql, reportingGroup);
 
-    List<Map<String, Object>> rawResult = this.jdbcTemplate.queryForList(sql);
+    List<Map<String, Object>> rawResult = queryForList(schema, sql);
 
     // put the final data in a result DataTable
 
@@ -149,7 +419,7 @@ public class ResultDatabaseFactory {
     for (Map<String, Object> oneRow : rawResult) {
       List<DataTableField> fields = new ArrayList<>();
       for (String fieldname : finalHeaders) {
-        Object entity = getEntity(oneRow, fieldname);
+        Object entity = getEntity(schema, oneRow, fieldname);
         if (entity != null) {
           fields.add(new DataTableFieldImpl(entity));
         } else if (fieldname.equals("rowCount")) {
@@ -166,18 +436,43 @@ public class ResultDatabaseFactory {
     return result;
   }
 
+  /**
+   * Executes the given query within the given schema. As the SQL statements use unqualified table names, queries on
+   * the old data model switch the default schema of the connection for the duration of a transaction (which binds the
+   * connection) and switch it back afterwards.
+   *
+   * @param schema the schema holding the data model
+   * @param sql the query
+   * @return the rows of the result
+   */
+  private List<Map<String, Object>> queryForList(ReportingSchema schema, String sql) {
+
+    if (schema == this.currentSchema) {
+      return this.jdbcTemplate.queryForList(sql);
+    }
+    return new TransactionTemplate(this.transactionManager).execute(status -> {
+      this.jdbcTemplate.execute("set schema " + schema.name);
+      try {
+        return this.jdbcTemplate.queryForList(sql);
+      } finally {
+        this.jdbcTemplate.execute("set schema " + DEFAULT_SCHEMA);
+      }
+    });
+  }
+
   /**
    * Checks if the referenced field name starts with prefix "ID_" if yes then return the {@link AbstractModelObject}
    * given by its id.
    *
+   * @param schema the schema holding the data model
    * @param oneRow the row of data
    * @param fieldname the name of the field
    * @return the {@link AbstractModelObject} or <code>null</code> if the field does not start with "ID_"
    */
-  private Object getEntity(Map<String, Object> oneRow, String fieldname) {
+  private Object getEntity(ReportingSchema schema, Map<String, Object> oneRow, String fieldname) {
 
     if (fieldname.startsWith("ID_")) {
-      return this.allModelObjectInstances.get(oneRow.get(fieldname));
+      return schema.allModelObjectInstances.get(oneRow.get(fieldname));
     } else {
       return null;
     }
@@ -190,21 +485,115 @@ public class ResultDatabaseFactory {
    */
   public void initDataModel(ModelRoot modelRoot) {
 
-    // delete all possibly existing entries in the model instances map
-    this.allModelObjectInstances.clear();
+    initDataModel(this.currentSchema, modelRoot);
+  }
+
+  /**
+   * Initializes a separate database schema with the data of the old internal data model. Its data is available via
+   * {@link #getOldDataTable(String, String)} while the current data model (see {@link #initDataModel(ModelRoot)}) stays
+   * loaded so that the data tables of a writer can be created and diffed without reloading any of both models.
+   *
+   * @param oldModelRoot the root object of the old internal data model
+   */
+  public void initOldDataModel(ModelRoot oldModelRoot) {
+
+    if (!this.oldSchemaCreated) {
+      LOG.debug("Creating Reporting schema '{}'", OLD_MODEL_SCHEMA);
+      this.jdbcTemplate.execute("create schema " + OLD_MODEL_SCHEMA + " authorization DBA;");
+      this.oldSchemaCreated = true;
+    }
+    initDataModel(this.oldSchema, oldModelRoot);
+  }
+
+  /**
+   * Initializes the given schema with the data of the internal data model.
+   *
+   * @param schema the schema which should hold the data model
+   * @param modelRoot the root object of the internal data model which gives access to the complete data model
+   */
+  private void initDataModel(ReportingSchema schema, ModelRoot modelRoot) {
+
+    // delete all possibly existing entries in the model instances map and the cached results
+    schema.allModelObjectInstances.clear();
+    schema.dataTableCache.clear();
     // drop any already existing tables
-    for (Class<? extends AbstractModelObject> oneTable : this.definedTablesSet) {
-      dropExistingTable(oneTable);
+    for (Class<? extends AbstractModelObject> oneTable : schema.definedTablesSet) {
+      dropExistingTable(schema, oneTable);
     }
-    this.definedTablesSet.clear();
-    // create all needed tables and add all data; also store object in map
-    // to access it via given id
+    schema.definedTablesSet.clear();
+    dropExistingTextPoolTable(schema);
+    schema.insertStatements.clear();
+    schema.textPool = this.textPoolTable ? ((ModelRootImpl) modelRoot).getTextPool() : null;
+    // create all needed tables and insert the data in batches per table as soon as a batch is complete; also store
+    // object in map to access it via given id
+    TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+    Map<Class<? extends AbstractModelObject>, List<Object[]>> pendingRows = new LinkedHashMap<>();
     for (Object amo : this.modelFactory.getAllModelObjects(modelRoot)) {
-      saveToDatabase((AbstractModelObject) amo);
-      this.allModelObjectInstances.put(((AbstractModelObject) amo).getId(), (AbstractModelObject) amo);
+      AbstractModelObject modelObject = (AbstractModelObject) amo;
+      ensureTableExists(schema, modelObject);
+      List<Object[]> rows = pendingRows.computeIfAbsent(modelObject.getClass(), k -> new ArrayList<>());
+      rows.add(insertParameters(schema, modelObject));
+      if (rows.size() >= INSERT_BATCH_SIZE) {
+        insertRows(transactionTemplate, schema, modelObject.getClass(), rows);
+      }
+      if (schema.pendingTextPoolRows.size() >= INSERT_BATCH_SIZE) {
+        insertTextPoolRows(transactionTemplate, schema);
+      }
+      schema.allModelObjectInstances.put(modelObject.getId(), modelObject);
+    }
+    // insert the remaining rows
+    for (Map.Entry<Class<? extends AbstractModelObject>, List<Object[]>> table : pendingRows.entrySet()) {
+      if (!table.getValue().isEmpty()) {
+        insertRows(transactionTemplate, schema, table.getKey(), table.getValue());
+      }
+    }
+    if (!schema.pendingTextPoolRows.isEmpty()) {
+      insertTextPoolRows(transactionTemplate, schema);
     }
   }
 
+  /**
+   * Inserts the given rows into the table of the given model class as a single batch within its own transaction. The
+   * list of rows is cleared afterwards.
+   *
+   * @param transactionTemplate the template for executing the transaction
+   * @param schema the schema holding the data model
+   * @param tableClass the model class whose table the rows belong to
+   * @param rows the parameters of the rows to insert
+   */
+  private void insertRows(TransactionTemplate transactionTemplate, ReportingSchema schema,
+      Class<? extends AbstractModelObject> tableClass, List<Object[]> rows) {
+
+    insertRows(transactionTemplate, schema.qualify(determineTableName(tableClass)),
+        schema.insertStatements.get(tableClass), rows);
+  }
+
+  /**
+   * Inserts the collected rows of the {@link #TEXT_POOL_TABLE} as a single batch within its own transaction.
+   *
+   * @param transactionTemplate the template for executing the transaction
+   * @param schema the schema holding the data model
+   */
+  private void insertTextPoolRows(TransactionTemplate transactionTemplate, ReportingSchema schema) {
+
+    insertRows(transactionTemplate, schema.qualify(TEXT_POOL_TABLE), textPoolInsertStatement(schema),
+        schema.pendingTextPoolRows);
+  }
+  /**
+   * Inserts the given rows as a single batch within its own transaction. The list of rows is cleared afterwards.
+   *
+   * @param transactionTemplate the template for executing the transaction
+   * @param tableName the name of the table (for logging)
+   * @param sql the insert statement
+   * @param rows the parameters of the rows to insert
+   */
+  private void insertRows(TransactionTemplate transactionTemplate, String tableName, String sql, List<Object[]> rows) {
+
+    LOG.debug("Inserting {} rows into Reporting table '{}'", rows.size(), tableName);
+    transactionTemplate.executeWithoutResult(status -> this.jdbcTemplate.batchUpdate(sql, rows));
+    rows.clear();
+  }
+
   /**
    * Logs the data of the given table on level {@link Level#TRACE}.
    *
@@ -245,37 +634,113 @@ public class ResultDatabaseFactory {
     return modifiedHeaders;
   }
 
+
   /**
-   * Save the given {@link AbstractModelObject} to the database. In case that no appropriate database table exist it
-   * will be created.
+   * Save the given {@link AbstractModelObject} to the database of the current data model. In case that no appropriate
+   * database table exist it will be created.
    *
    * @param modelObject the object to save
    */
   public void saveToDatabase(AbstractModelObject modelObject) {
 
-    String[] params = modelObject.getDataElements();
+    ReportingSchema schema = this.currentSchema;
+    ensureTableExists(schema, modelObject);
+    Object[] parameters = insertParameters(schema, modelObject);
+    for (Object[] textPoolRow : schema.pendingTextPoolRows) {
+      this.jdbcTemplate.update(textPoolInsertStatement(schema), textPoolRow);
+    }
+    schema.pendingTextPoolRows.clear();
+    this.jdbcTemplate.update(schema.insertStatements.get(modelObject.getClass()), parameters);
+
+  }
+
+  /**
+   * Creates the database table for the given {@link AbstractModelObject} and the corresponding insert statement in case
+   * that they do not exist yet.
+   *
+   * @param schema the schema holding the data model
+   * @param modelObject the object which should be saved
+   */
+  private void ensureTableExists(ReportingSchema schema, AbstractModelObject modelObject) {
 
     Class<? extends AbstractModelObject> clazz = modelObject.getClass();
-    if (!this.definedTablesSet.contains(clazz)) {
-      this.definedTablesSet.add(clazz);
-      createTable(modelObject);
+    if (!schema.definedTablesSet.contains(clazz)) {
+      schema.definedTablesSet.add(clazz);
+      createTable(schema, modelObject);
     }
+    schema.insertStatements.computeIfAbsent(clazz, k -> createInsertStatement(schema, modelObject));
+  }
+
+  /**
+   * Creates the SQL statement for inserting an {@link AbstractModelObject} of the given type into the database.
+   *
+   * @param schema the schema holding the data model
+   * @param modelObject an instance of the model object type
+   * @return the insert statement with placeholders for all fields
+   */
+  private String createInsertStatement(ReportingSchema schema, AbstractModelObject modelObject) {
+
     StringBuilder sb = new StringBuilder();
     String name = determineTableName(modelObject.getClass());
-    sb.append("insert into ").append(name).append(" values ( ");
-    for (String fields : modelObject.getDataElements()) {
+    if (schema.textPoolViewsSet.contains(modelObject.getClass())) {
+      name = name + "_DATA";
+    }
+    sb.append("insert into ").append(schema.qualify(name)).append(" values ( ");
+    for (int i = 0; i < modelObject.getHeadElements().length; i++) {
       sb.append("?").append(", ");
     }
     if (modelObject.getParent() != null) {
       sb.append("?, ");
-      params = AbstractModelObject.concatRow(params, new String[] { modelObject.getParent().getId() });
     }
     sb.append("?");
     sb.append(" );");
-    String sql = sb.toString();
-    params = AbstractModelObject.concatRow(params, new String[] { modelObject.getId() });
-    this.jdbcTemplate.update(sql, (Object[]) params);
+    return sb.toString();
+  }
+
+  /**
+   * Determines the parameters for inserting the given {@link AbstractModelObject} into the database.
+   *
+   * @param schema the schema holding the data model
+   * @param modelObject the object to save
+   * @return the parameters to be used with the statement created by
+   *         {@link #createInsertStatement(ReportingSchema, AbstractModelObject)}
+   */
+  private Object[] insertParameters(ReportingSchema schema, AbstractModelObject modelObject) {
+
+    String[] params;
+    if (schema.textPoolViewsSet.contains(modelObject.getClass())) {
+      params = modelObject.getDataElementsWithTextPoolKeys();
+      collectTexts(schema, modelObject, params);
+    } else {
+      params = modelObject.getDataElements();
+    }
+    if (modelObject.getParent() != null) {
+      params = AbstractModelObject.concatRow(params, new String[] { modelObject.getParent().getId() });
+    }
+    return AbstractModelObject.concatRow(params, new String[] { modelObject.getId() });
+  }
+
+  /**
+   * Collects the texts referenced by the given data values which are not yet stored in the text pool table.
+   *
+   * @param schema the schema holding the data model
+   * @param modelObject the object to save
+   * @param params the values as given by {@link AbstractModelObject#getDataElementsWithTextPoolKeys()}
+   */
+  private void collectTexts(ReportingSchema schema, AbstractModelObject modelObject, String[] params) {
+
+    List<String> headElements = Arrays.asList(modelObject.getHeadElements());
+    for (String field : modelObject.getTextPoolHeadElements()) {
+      String key = params[headElements.indexOf(field)];
+      if (key != null && schema.storedTextPoolKeys.add(key)) {
+        schema.pendingTextPoolRows.add(new Object[] { key, schema.textPool.retrieveReplacingLongHtml(key) });
+      }
+    }
+  }
+
+  private String textPoolInsertStatement(ReportingSchema schema) {
 
+    return "insert into " + schema.qualify(TEXT_POOL_TABLE) + " values ( ?, ? );";
   }
 
 }
@@ -3,8 +3,10 @@
  */
 package com.devonfw.tools.solicitor.writer;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -52,52 +54,66 @@ public class WriterFacadeImpl implements WriterFacade {
   }
 
   /**
-   * Execute the configured transformations via the embedded SQL database and generated the data tables which will be
-   * input for the report generation via XLS or velocity templating.
+   * Initializes the embedded SQL database with the current model (and the old model if given) for the given reporting
+   * group. Both models are loaded only once per reporting group and then used for all writers of that group.
    *
    * @param modelRoot the current model
-   * @param oldModelRoot the old modelto compare to; might be <code>null</code>
-   * @param writerConfig the configuration of a {@link Writer} which also defines the SQL queries to perform
-   * @param reportingGroup the name of the reporting group to be selected; the parameter will have no effect if the SQL
-   *        statements do not contain the respective placeholder
-   * @return a map of transformed data tables
+   * @param oldModelRoot the old model to compare to; might be <code>null</code>
+   * @param reportingGroup the name of the reporting group to be selected
    */
-  private Map<String, DataTable> getDataTables(ModelRoot modelRoot, ModelRoot oldModelRoot, WriterConfig writerConfig,
-      String reportingGroup) {
+  private void initDatabase(ModelRoot modelRoot, ModelRoot oldModelRoot, String reportingGroup) {
 
-    // create the table for the current data model
+    // create the tables for the current data model
     LOG.info(LogMessages.INIT_SQL.msg());
     modelRoot.setReportingGroup(reportingGroup);
     this.resultDatabaseFactory.initDataModel(modelRoot);
-    Map<String, DataTable> result = new HashMap<>();
-    for (Map.Entry<String, String> table : writerConfig.getDataTables().entrySet()) {
-      LOG.info(LogMessages.EXECUTE_SQL.msg(), table.getKey(), table.getValue(), reportingGroup);
-      result.put(table.getKey(), this.resultDatabaseFactory.getDataTable(table.getValue(), reportingGroup));
-    }
     modelRoot.setReportingGroup(null);
-    // if old model data is defined then transform it and create diff
-    // between new and old
+    // if old model data is defined then load it into a separate schema so that diffs can be created without reloading
+    // any of the models
     if (oldModelRoot != null) {
       LOG.info(LogMessages.INIT_SQL_OLD.msg());
       oldModelRoot.setReportingGroup(reportingGroup);
-      this.resultDatabaseFactory.initDataModel(oldModelRoot);
-      for (Map.Entry<String, String> table : writerConfig.getDataTables().entrySet()) {
-        DataTable newTable = result.get(table.getKey());
+      this.resultDatabaseFactory.initOldDataModel(oldModelRoot);
+      oldModelRoot.setReportingGroup(null);
+    }
+  }
+
+  /**
+   * Execute the configured transformations of a single writer via the embedded SQL database and generate the data
+   * tables which will be input for the report generation via XLS or velocity templating. The database needs to be
+   * initialized before via {@link #initDatabase(ModelRoot, ModelRoot, String)}.
+   *
+   * @param writerConfig the configuration of the {@link Writer} which also defines the SQL queries to perform
+   * @param withOldModel whether the old model is available and diffs should be created
+   * @param reportingGroup the name of the reporting group to be selected; the parameter will have no effect if the SQL
+   *        statements do not contain the respective placeholder
+   * @return the map of transformed data tables
+   */
+  private Map<String, DataTable> getDataTables(WriterConfig writerConfig, boolean withOldModel,
+      String reportingGroup) {
+
+    Map<String, DataTable> result = new HashMap<>();
+    for (Map.Entry<String, String> table : writerConfig.getDataTables().entrySet()) {
+      LOG.info(LogMessages.EXECUTE_SQL.msg(), table.getKey(), table.getValue(), reportingGroup);
+      DataTable newTable = this.resultDatabaseFactory.getDataTable(table.getValue(), reportingGroup);
+      // if old model data is defined then create diff between new and old
+      if (withOldModel) {
         LOG.info(LogMessages.EXECUTE_SQL.msg(), table.getKey() + " (old)", table.getValue(), reportingGroup);
-        DataTable oldTable = this.resultDatabaseFactory.getDataTable(table.getValue(), reportingGroup);
+        DataTable oldTable = this.resultDatabaseFactory.getOldDataTable(table.getValue(), reportingGroup);
         LOG.info(LogMessages.CREATING_DIFF.msg(), table.getKey());
-        DataTable diffTable = this.dataTableDiffer.diff(newTable, oldTable);
-        result.put(table.getKey(), diffTable);
+        newTable = this.dataTableDiffer.diff(newTable, oldTable);
       }
-      oldModelRoot.setReportingGroup(null);
+      result.put(table.getKey(), newTable);
     }
-
     return result;
   }
 
   @Override
   public void writeResult(ModelRoot modelRoot, ModelRoot oldModelRoot) {
 
+    // determine the writers to execute per reporting group so that the reporting database
+    // needs to be initialized only once per reporting group
+    Map<String, List<WriterConfig>> writerConfigsPerReportingGroup = new LinkedHashMap<>();
     for (WriterConfig writerConfig : this.solicitorSetup.getWriterSetups()) {
       List<String> writerReportingGroups;
       if (writerConfig.isEnableReportingGroups()) {
@@ -105,24 +121,33 @@ public class WriterFacadeImpl implements WriterFacade {
       } else {
         writerReportingGroups = Collections.singletonList(ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
       }
-      String rawFilename = writerConfig.getTarget();
       for (String reportingGroup : writerReportingGroups) {
         if (this.reportingGroupHandler.matchesReportingGroupFilter(reportingGroup)) {
-          String targetFilename = this.reportingGroupHandler.expandReportingGroupInFileName(rawFilename,
-              reportingGroup);
-          LOG.info(LogMessages.PREPARING_FOR_WRITER.msg(), writerConfig.getType(), writerConfig.getTemplateSource(),
-              targetFilename);
-          Writer writer = this.writerFactory.writerFor(writerConfig.getType());
-          writer.writeReport(writerConfig.getTemplateSource(), targetFilename,
-              getDataTables(modelRoot, oldModelRoot, writerConfig, reportingGroup));
-          LOG.info(LogMessages.FINISHED_WRITER.msg(), writerConfig.getType(), writerConfig.getTemplateSource(),
-              targetFilename);
+          writerConfigsPerReportingGroup.computeIfAbsent(reportingGroup, k -> new ArrayList<>()).add(writerConfig);
         } else {
           LOG.info(LogMessages.REPORTING_GROUP_NOT_MATCHING_FILTER.msg(), reportingGroup,
               writerConfig.getTemplateSource());
         }
       }
     }
+
+    for (Map.Entry<String, List<WriterConfig>> entry : writerConfigsPerReportingGroup.entrySet()) {
+      String reportingGroup = entry.getKey();
+      initDatabase(modelRoot, oldModelRoot, reportingGroup);
+      // create the data tables and the report of one writer after the other so that only the data tables of a single
+      // writer need to be held in memory
+      for (WriterConfig writerConfig : entry.getValue()) {
+        String targetFilename = this.reportingGroupHandler.expandReportingGroupInFileName(writerConfig.getTarget(),
+            reportingGroup);
+        Map<String, DataTable> dataTables = getDataTables(writerConfig, oldModelRoot != null, reportingGroup);
+        LOG.info(LogMessages.PREPARING_FOR_WRITER.msg(), writerConfig.getType(), writerConfig.getTemplateSource(),
+            targetFilename);
+        Writer writer = this.writerFactory.writerFor(writerConfig.getType());
+        writer.writeReport(writerConfig.getTemplateSource(), targetFilename, dataTables);
+        LOG.info(LogMessages.FINISHED_WRITER.msg(), writerConfig.getType(), writerConfig.getTemplateSource(),
+            targetFilename);
+      }
+    }
   }
 
 }
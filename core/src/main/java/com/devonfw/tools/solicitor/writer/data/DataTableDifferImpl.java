@@ -3,11 +3,13 @@
  */
 package com.devonfw.tools.solicitor.writer.data;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -90,7 +92,8 @@ public class DataTableDifferImpl implements DataTableDiffer {
   }
 
   /**
-   * For a given correlation key name try to map not yet mapped old rows to not yet mapped new rows.
+   * For a given correlation key name try to map not yet mapped old rows to not yet mapped new rows. If multiple old rows
+   * have the same correlation key value they are assigned in the order of the old table.
    * 
    * @param newTable the new table
    * @param newTableIndexToOldTableRowMap a map which hold for each index of rows in the new table the corresponding
@@ -102,12 +105,21 @@ public class DataTableDifferImpl implements DataTableDiffer {
   private boolean assignCorrelatedRows(DataTable newTable, Map<Integer, DataTableRow> newTableIndexToOldTableRowMap,
       Set<DataTableRow> oldTableRowSet, String corrKeyColumn) {
 
+    // index the not yet mapped old rows by their correlation key value
+    Map<String, Deque<DataTableRow>> oldTableRowsByKey = new HashMap<>();
+    for (DataTableRow oldTableRow : oldTableRowSet) {
+      oldTableRowsByKey.computeIfAbsent(extractKey(oldTableRow, corrKeyColumn), k -> new ArrayDeque<>())
+          .add(oldTableRow);
+    }
     int unmatchedEntries = 0;
     for (Entry<Integer, DataTableRow> entry : newTableIndexToOldTableRowMap.entrySet()) {
       if (entry.getValue() == null) {
         DataTableRow newTableRow = newTable.getDataRow(entry.getKey());
-        DataTableRow matchingOldRow = searchAndRemoveFromOldTableRowSet(newTableRow, oldTableRowSet, corrKeyColumn);
+        Deque<DataTableRow> matchingOldRows = oldTableRowsByKey.get(extractKey(newTableRow, corrKeyColumn));
+        DataTableRow matchingOldRow = matchingOldRows != null ? matchingOldRows.poll() : null;
         if (matchingOldRow != null) {
+          // corresponding row found!
+          oldTableRowSet.remove(matchingOldRow);
           entry.setValue(matchingOldRow);
         } else {
           unmatchedEntries++;
@@ -126,8 +138,8 @@ public class DataTableDifferImpl implements DataTableDiffer {
    */
   private void correlateTable(DataTable newTable, DataTable oldTable) {
 
-    Map<Integer, DataTableRow> newTableIndexToOldTableRowMap = new HashMap<>();
-    Set<DataTableRow> oldTableRowSet = new HashSet<>();
+    Map<Integer, DataTableRow> newTableIndexToOldTableRowMap = new LinkedHashMap<>();
+    Set<DataTableRow> oldTableRowSet = new LinkedHashSet<>();
     // initialize a Map with the index of the newTable as a key and the
     // assigned DataTableRow of the old table as value
     int i = 0;
@@ -242,28 +254,4 @@ public class DataTableDifferImpl implements DataTableDiffer {
     }
   }
 
-  /**
-   * Search a corresponding row in the Set of not yet matched old rows. If a row is found remove it from the Set.
-   * 
-   * @param newTableRow the row of the new table to which the corresponding old row is searched
-   * @param oldTableRowSet the set of not yet matched old rows
-   * @param corrKeyColumn the name of the correlation key column to check
-   * @return the matching old row; <code>null</code> if no match was found
-   */
-  private DataTableRow searchAndRemoveFromOldTableRowSet(DataTableRow newTableRow, Set<DataTableRow> oldTableRowSet,
-      String corrKeyColumn) {
-
-    String newTableRowCorrKey = extractKey(newTableRow, corrKeyColumn);
-    for (Iterator<DataTableRow> iterator = oldTableRowSet.iterator(); iterator.hasNext();) {
-      DataTableRow oldTableRow = iterator.next();
-      String oldTableRowCorrKey = extractKey(oldTableRow, corrKeyColumn);
-      if (newTableRowCorrKey.equals(oldTableRowCorrKey)) {
-        // corresponding row found!
-        iterator.remove();
-        return oldTableRow;
-      }
-    }
-    return null;
-  }
-
 }
@@ -10,6 +10,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import com.devonfw.tools.solicitor.writer.data.DataTableField.FieldDiffStatus;
+
 /**
  * Implementation of a data table according to the {@link DataTable} interface.
  *
@@ -112,6 +114,29 @@ public class DataTableImpl implements DataTable {
     data = new ArrayList<>();
   }
 
+  /**
+   * Copy-Constructor. Creates a deep copy of the given table. Any changes to the rows or fields of the new instance
+   * (e.g. when calculating a diff) do not affect the original source.
+   *
+   * @param source the table to copy the data from
+   */
+  public DataTableImpl(DataTable source) {
+
+    this(source.getHeadRow());
+    for (DataTableRow sourceRow : source) {
+      DataTableField[] fields = new DataTableField[sourceRow.getSize()];
+      for (int i = 0; i < fields.length; i++) {
+        DataTableField sourceField = sourceRow.getValueByIndex(i);
+        if (sourceField.getDiffStatus() == FieldDiffStatus.UNAVAILABLE) {
+          fields[i] = new DataTableFieldImpl(sourceField.getValue());
+        } else {
+          fields[i] = new DataTableFieldImpl(sourceField.getValue(), sourceField.getOldValue());
+        }
+      }
+      data.add(new DataTableRowImpl(fields, sourceRow.getRowDiffStatus()));
+    }
+  }
+
   /**
    * Adds a row to this table.
    *
@@ -0,0 +1,101 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.artifact.versioning.VersionRange;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test methods of {@link MavenVersionHelper}.
+ */
+public class MavenVersionHelperTest {
+
+  /**
+   * Test method for {@link MavenVersionHelper#checkVersionRange(String, String)}.
+   */
+  @Test
+  public void testCheckVersionRange() {
+
+    assertTrue(MavenVersionHelper.checkVersionRange("1.0.1", "[1.0,1.1)"));
+    assertFalse(MavenVersionHelper.checkVersionRange("1.1", "[1.0,1.1)"));
+    assertTrue(MavenVersionHelper.checkVersionRange("1.0.1", "1.0"));
+    assertThrows(SolicitorRuntimeException.class, () -> MavenVersionHelper.checkVersionRange("1.0", "[1.0"));
+  }
+
+  /**
+   * Test method for {@link MavenVersionHelper#checkVersionRange(String, String)} checking that parsed ranges are cached
+   * and that the cache is cleared when it is full.
+   */
+  @Test
+  public void testCheckVersionRangeCachesRanges() {
+
+    MavenVersionHelper.VERSION_RANGE_CACHE.clear();
+    assertTrue(MavenVersionHelper.checkVersionRange("1.0.1", "[1.0,1.1)"));
+    VersionRange range = MavenVersionHelper.VERSION_RANGE_CACHE.get("[1.0,1.1)");
+    assertFalse(MavenVersionHelper.checkVersionRange("1.1", "[1.0,1.1)"));
+    assertSame(range, MavenVersionHelper.VERSION_RANGE_CACHE.get("[1.0,1.1)"));
+
+    // fill the cache
+    for (int i = 1; i < MavenVersionHelper.MAX_VERSION_RANGE_CACHE_SIZE; i++) {
+      assertTrue(MavenVersionHelper.checkVersionRange(i + ".0", "[" + i + ".0]"));
+    }
+    assertEquals(MavenVersionHelper.MAX_VERSION_RANGE_CACHE_SIZE, MavenVersionHelper.VERSION_RANGE_CACHE.size());
+    assertTrue(MavenVersionHelper.checkVersionRange("2.0", "[2.0,)"));
+
+    assertEquals(1, MavenVersionHelper.VERSION_RANGE_CACHE.size());
+    assertTrue(MavenVersionHelper.VERSION_RANGE_CACHE.containsKey("[2.0,)"));
+    assertTrue(MavenVersionHelper.checkVersionRange("1.0.1", "[1.0,1.1)"));
+    MavenVersionHelper.VERSION_RANGE_CACHE.clear();
+  }
+
+  /**
+   * Test method for {@link MavenVersionHelper#checkVersionRange(String, String)} checking that checking from multiple
+   * threads concurrently gives correct results and keeps the cache bounded, also when it needs to be cleared.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  public void testCheckVersionRangeConcurrently() throws Exception {
+
+    MavenVersionHelper.VERSION_RANGE_CACHE.clear();
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int offset = t;
+        results.add(executor.submit(() -> {
+          boolean allCorrect = true;
+          for (int i = 0; i < 2 * MavenVersionHelper.MAX_VERSION_RANGE_CACHE_SIZE; i++) {
+            int n = (i + offset * 1000) % (MavenVersionHelper.MAX_VERSION_RANGE_CACHE_SIZE + 500);
+            allCorrect &= MavenVersionHelper.checkVersionRange(n + ".0", "[" + n + ".0]");
+            allCorrect &= !MavenVersionHelper.checkVersionRange(n + ".1", "[" + n + ".0]");
+          }
+          return allCorrect;
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertTrue(MavenVersionHelper.VERSION_RANGE_CACHE.size() <= MavenVersionHelper.MAX_VERSION_RANGE_CACHE_SIZE
+        + threads);
+    MavenVersionHelper.VERSION_RANGE_CACHE.clear();
+  }
+
+}
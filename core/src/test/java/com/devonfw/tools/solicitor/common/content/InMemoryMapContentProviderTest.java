@@ -0,0 +1,118 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.common.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.solicitor.common.content.web.WebContent;
+import com.devonfw.tools.solicitor.common.content.web.WebContentFactory;
+
+/**
+ * Tests for {@link InMemoryMapContentProvider}.
+ */
+class InMemoryMapContentProviderTest {
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  /**
+   * Test that concurrent requests for the same URL only result in a single load.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testConcurrentRequestsAreLoadedOnce() throws Exception {
+
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch finishLoad = new CountDownLatch(1);
+    InMemoryMapContentProvider<WebContent> provider = new InMemoryMapContentProvider<>(new WebContentFactory(),
+        url -> {
+          this.loads.incrementAndGet();
+          loadStarted.countDown();
+          try {
+            finishLoad.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return new WebContent("content of " + url);
+        });
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<WebContent>> results = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        results.add(executor.submit(() -> provider.getContentForUri("http://example.com")));
+      }
+      loadStarted.await(10, TimeUnit.SECONDS);
+      finishLoad.countDown();
+      WebContent first = results.get(0).get(10, TimeUnit.SECONDS);
+      for (Future<WebContent> result : results) {
+        assertSame(first, result.get(10, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, this.loads.get());
+    assertEquals("content of http://example.com", provider.getContentForUri("http://example.com").getContent());
+    assertEquals(1, this.loads.get());
+  }
+
+  /**
+   * Test that the oldest entries are evicted if the size limit is exceeded.
+   */
+  @Test
+  void testEviction() {
+
+    InMemoryMapContentProvider<WebContent> provider = new InMemoryMapContentProvider<>(new WebContentFactory(),
+        url -> {
+          this.loads.incrementAndGet();
+          return new WebContent("12345");
+        });
+    provider.setMaxCachedSize(10);
+
+    provider.getContentForUri("a");
+    provider.getContentForUri("b");
+    provider.getContentForUri("a");
+    assertEquals(2, this.loads.get());
+    // exceeds the limit, "a" is evicted
+    provider.getContentForUri("c");
+    provider.getContentForUri("b");
+    provider.getContentForUri("c");
+    assertEquals(3, this.loads.get());
+    provider.getContentForUri("a");
+    assertEquals(4, this.loads.get());
+  }
+
+  /**
+   * Test that failures are not cached.
+   */
+  @Test
+  void testFailuresAreNotCached() {
+
+    InMemoryMapContentProvider<WebContent> provider = new InMemoryMapContentProvider<>(new WebContentFactory(),
+        url -> {
+          if (this.loads.incrementAndGet() == 1) {
+            throw new IllegalStateException("failed");
+          }
+          return new WebContent("content");
+        });
+
+    assertThrows(IllegalStateException.class, () -> provider.getContentForUri("a"));
+    assertEquals("content", provider.getContentForUri("a").getContent());
+    assertEquals(2, this.loads.get());
+  }
+
+}
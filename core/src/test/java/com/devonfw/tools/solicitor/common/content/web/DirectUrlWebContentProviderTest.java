@@ -1,8 +1,12 @@
 package com.devonfw.tools.solicitor.common.content.web;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.FileNotFoundException;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -32,4 +36,25 @@ class DirectUrlWebContentProviderTest {
 
   }
 
+  /**
+   * Test method for
+   * {@link com.devonfw.tools.solicitor.common.content.web.DirectUrlWebContentProvider#getContentForUri(java.lang.String)}
+   * using a stubbed {@link HttpContentFetcher}.
+   */
+  @Test
+  void testGetContentForUri() {
+
+    DirectUrlWebContentProvider provider = new DirectUrlWebContentProvider(false, url -> {
+      if (url.getPath().equals("/missing")) {
+        throw new FileNotFoundException(url.toString());
+      }
+      return "line1\nline2\nline3\n";
+    });
+
+    assertEquals("line1\nline2\nline3\n", provider.getContentForUri("http://example.com/text").getContent());
+    assertEquals("line2\nline3\n", provider.getContentForUri("http://example.com/text#L2-L3").getContent());
+    assertNull(provider.getContentForUri("http://example.com/missing").getContent());
+    assertNull(provider.getContentForUri("file:some.file").getContent());
+  }
+
 }
@@ -0,0 +1,285 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.common.content.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.net.ssl.SSLHandshakeException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests for {@link UrlConnectionHttpContentFetcher} using a local stub server.
+ */
+class UrlConnectionHttpContentFetcherTest {
+
+  private HttpServer server;
+
+  private ExecutorService serverExecutor;
+
+  private UrlConnectionHttpContentFetcher fetcher;
+
+  private final AtomicInteger requests = new AtomicInteger();
+
+  private final AtomicBoolean gzipRequested = new AtomicBoolean();
+
+  /**
+   * Starts the stub server.
+   *
+   * @throws IOException if the server could not be started
+   */
+  @BeforeEach
+  void setUp() throws IOException {
+
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext("/plain", exchange -> respond(exchange, 200, "plain text", false));
+    this.server.createContext("/gzip", exchange -> {
+      boolean gzipAccepted = "gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+      respond(exchange, 200, "compressed text", gzipAccepted);
+    });
+    this.server.createContext("/archive.jar", exchange -> {
+      this.requests.incrementAndGet();
+      // a server compressing the response if requested; the jar must not be requested compressed
+      boolean gzipAccepted = "gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+      this.gzipRequested.set(gzipAccepted);
+      respond(exchange, 200, createJar(), "application/java-archive", gzipAccepted);
+    });
+    this.server.createContext("/unavailable", exchange -> {
+      if (this.requests.incrementAndGet() < 3) {
+        respond(exchange, 503, "unavailable", false);
+      } else {
+        respond(exchange, 200, "available", false);
+      }
+    });
+    this.server.createContext("/notfound", exchange -> {
+      this.requests.incrementAndGet();
+      respond(exchange, 404, "not found", false);
+    });
+    this.server.createContext("/slow", exchange -> {
+      this.requests.incrementAndGet();
+      try {
+        Thread.sleep(1000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      respond(exchange, 200, "slow", false);
+    });
+    // handle requests concurrently so that a retried request is not blocked by the slow handling of a previous one
+    this.serverExecutor = Executors.newCachedThreadPool();
+    this.server.setExecutor(this.serverExecutor);
+    this.server.start();
+
+    this.fetcher = new UrlConnectionHttpContentFetcher();
+    this.fetcher.setRetryBackoff(10);
+  }
+
+  /**
+   * Stops the stub server.
+   */
+  @AfterEach
+  void tearDown() {
+
+    this.server.stop(0);
+    this.serverExecutor.shutdownNow();
+  }
+
+  private void respond(HttpExchange exchange, int status, String body, boolean gzip) throws IOException {
+
+    respond(exchange, status, body.getBytes(StandardCharsets.UTF_8), "text/plain; charset=UTF-8", gzip);
+  }
+
+  private void respond(HttpExchange exchange, int status, byte[] body, String contentType, boolean gzip)
+      throws IOException {
+
+    byte[] bytes = body;
+    if (gzip) {
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressed)) {
+        gzipStream.write(bytes);
+      }
+      bytes = compressed.toByteArray();
+      exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+    }
+    exchange.getResponseHeaders().add("Content-Type", contentType);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(bytes);
+    }
+  }
+
+  private byte[] createJar() throws IOException {
+
+    ByteArrayOutputStream jar = new ByteArrayOutputStream();
+    try (JarOutputStream jarStream = new JarOutputStream(jar)) {
+      jarStream.putNextEntry(new JarEntry("META-INF/LICENSE"));
+      jarStream.write("license text".getBytes(StandardCharsets.UTF_8));
+      jarStream.closeEntry();
+    }
+    return jar.toByteArray();
+  }
+
+  private URL url(String path) throws IOException {
+
+    return new URL("http://localhost:" + this.server.getAddress().getPort() + path);
+  }
+
+  /**
+   * Test fetching plain and compressed content.
+   *
+   * @throws IOException if something unexpected happens
+   */
+  @Test
+  void testFetch() throws IOException {
+
+    assertEquals("plain text", this.fetcher.fetch(url("/plain")));
+    assertEquals("compressed text", this.fetcher.fetch(url("/gzip")));
+  }
+
+  /**
+   * Test fetching an entry of a jar file via a "jar:http:" URL. Compression must neither be requested for the jar nor
+   * be applied when reading the entry.
+   *
+   * @throws IOException if something unexpected happens
+   */
+  @Test
+  void testFetchJarEntry() throws IOException {
+
+    URL jarEntryUrl = new URL("jar:" + url("/archive.jar") + "!/META-INF/LICENSE");
+    assertEquals("license text", this.fetcher.fetch(jarEntryUrl));
+    assertEquals(1, this.requests.get());
+    assertFalse(this.gzipRequested.get());
+  }
+
+  /**
+   * Test that temporary failures are retried.
+   *
+   * @throws IOException if something unexpected happens
+   */
+  @Test
+  void testRetry() throws IOException {
+
+    assertEquals("available", this.fetcher.fetch(url("/unavailable")));
+    assertEquals(3, this.requests.get());
+  }
+
+  /**
+   * Test that temporary failures result in an exception if the retries are exhausted.
+   */
+  @Test
+  void testRetriesExhausted() {
+
+    this.fetcher.setMaxRetries(1);
+    assertThrows(IOException.class, () -> this.fetcher.fetch(url("/unavailable")));
+    assertEquals(2, this.requests.get());
+  }
+
+  /**
+   * Test that client errors are not retried.
+   */
+  @Test
+  void testNotFound() {
+
+    assertThrows(IOException.class, () -> this.fetcher.fetch(url("/notfound")));
+    assertEquals(1, this.requests.get());
+  }
+
+  /**
+   * Test that the read timeout is applied.
+   */
+  @Test
+  void testReadTimeout() {
+
+    this.fetcher.setReadTimeout(100);
+    this.fetcher.setMaxRetries(0);
+    assertThrows(SocketTimeoutException.class, () -> this.fetcher.fetch(url("/slow")));
+    assertEquals(1, this.requests.get());
+  }
+
+  /**
+   * Test that timeouts are retried.
+   */
+  @Test
+  void testReadTimeoutRetried() {
+
+    this.fetcher.setReadTimeout(100);
+    this.fetcher.setMaxRetries(1);
+    assertThrows(SocketTimeoutException.class, () -> this.fetcher.fetch(url("/slow")));
+    assertEquals(2, this.requests.get());
+  }
+
+  /**
+   * Test that a refused connection is reported without retrying.
+   *
+   * @throws IOException if something unexpected happens
+   */
+  @Test
+  void testConnectionRefused() throws IOException {
+
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    this.fetcher.setRetryBackoff(10000);
+    long start = System.currentTimeMillis();
+    assertThrows(ConnectException.class, () -> this.fetcher.fetch(new URL("http://localhost:" + port + "/")));
+    assertTrue(System.currentTimeMillis() - start < 10000);
+  }
+
+  /**
+   * Test which failures are considered to be temporary.
+   */
+  @Test
+  void testIsRetryable() {
+
+    assertTrue(UrlConnectionHttpContentFetcher.isRetryable(new SocketTimeoutException("Read timed out")));
+    assertTrue(UrlConnectionHttpContentFetcher.isRetryable(new SocketException("Connection reset")));
+    assertTrue(UrlConnectionHttpContentFetcher.isRetryable(new SocketException("Connection reset by peer")));
+    assertFalse(UrlConnectionHttpContentFetcher.isRetryable(new SocketException("Socket closed")));
+    assertFalse(UrlConnectionHttpContentFetcher.isRetryable(new ConnectException("Connection refused")));
+    assertFalse(UrlConnectionHttpContentFetcher.isRetryable(new UnknownHostException("unknown.invalid")));
+    assertFalse(UrlConnectionHttpContentFetcher.isRetryable(new SSLHandshakeException("PKIX path building failed")));
+    assertFalse(UrlConnectionHttpContentFetcher.isRetryable(new IOException("Premature EOF")));
+  }
+
+  /**
+   * Test determining the charset from the content type.
+   */
+  @Test
+  void testCharsetOf() {
+
+    assertEquals(StandardCharsets.UTF_8, UrlConnectionHttpContentFetcher.charsetOf(null));
+    assertEquals(StandardCharsets.UTF_8, UrlConnectionHttpContentFetcher.charsetOf("text/plain"));
+    assertEquals(StandardCharsets.ISO_8859_1,
+        UrlConnectionHttpContentFetcher.charsetOf("text/plain; charset=\"ISO-8859-1\""));
+    assertEquals(StandardCharsets.UTF_8, UrlConnectionHttpContentFetcher.charsetOf("text/plain; charset=unknown"));
+  }
+
+}
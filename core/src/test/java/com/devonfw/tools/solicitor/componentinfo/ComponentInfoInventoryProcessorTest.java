@@ -1,13 +1,27 @@
 package com.devonfw.tools.solicitor.componentinfo;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
+import com.devonfw.tools.solicitor.model.ModelFactory;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.devonfw.tools.solicitor.model.impl.ModelRootImpl;
+import com.devonfw.tools.solicitor.model.impl.inventory.ApplicationComponentImpl;
+import com.devonfw.tools.solicitor.model.impl.inventory.RawLicenseImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.ApplicationImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.EngagementImpl;
+import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
+import com.devonfw.tools.solicitor.model.masterdata.EngagementType;
+import com.devonfw.tools.solicitor.model.masterdata.GoToMarketModel;
+
 /**
  * This class contains JUnit test methods for the {@link ComponentInfoInventoryProcessor} class.
  */
@@ -80,4 +94,155 @@ class ComponentInfoInventoryProcessorTest {
     Assertions.assertEquals("", formattedNotes);
   }
 
+  /**
+   * Creates a {@link ModelRootImpl} with a single application containing {@link ApplicationComponent}s with the given
+   * PackageURLs.
+   *
+   * @param applicationComponents the list to which the created {@link ApplicationComponent}s will be added
+   * @param packageUrls the PackageURLs of the {@link ApplicationComponent}s
+   * @return the created model
+   */
+  private ModelRootImpl createModel(List<ApplicationComponent> applicationComponents, String... packageUrls) {
+
+    ModelRootImpl modelRoot = new ModelRootImpl();
+    EngagementImpl engagement = new EngagementImpl("Engagement", EngagementType.INTERN, "Client",
+        GoToMarketModel.LICENSE);
+    engagement.setModelRoot(modelRoot);
+    ApplicationImpl application = new ApplicationImpl("Application", "1.0.0", "2024-01-01", "repo", "Java8", null);
+    application.setEngagement(engagement);
+    for (String packageUrl : packageUrls) {
+      ApplicationComponentImpl ac = new ApplicationComponentImpl();
+      ac.setPackageUrl(packageUrl);
+      ac.setApplication(application);
+      applicationComponents.add(ac);
+    }
+    return modelRoot;
+  }
+
+  /**
+   * Creates a {@link ComponentInfoInventoryProcessor} with a mocked {@link ComponentInfoAdapter} which returns a
+   * license having the PackageURL as its name.
+   *
+   * @param adapter the mocked adapter
+   * @param threads the number of threads
+   * @return the processor
+   * @throws Exception if something unexpected happens
+   */
+  private ComponentInfoInventoryProcessor createProcessor(ComponentInfoAdapter adapter, int threads) throws Exception {
+
+    ModelFactory modelFactory = Mockito.mock(ModelFactory.class);
+    Mockito.when(modelFactory.newRawLicense()).thenAnswer(invocation -> new RawLicenseImpl());
+
+    Mockito.when(adapter.getComponentInfo(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
+        .thenAnswer(invocation -> {
+          String packageUrl = invocation.getArgument(0);
+          DefaultComponentInfoImpl componentInfo = new DefaultComponentInfoImpl(packageUrl, DataStatusValue.NO_ISSUES);
+          DefaultComponentInfoDataImpl componentInfoData = new DefaultComponentInfoDataImpl();
+          DefaultLicenseInfoImpl licenseInfo = new DefaultLicenseInfoImpl();
+          licenseInfo.setSpdxId(packageUrl);
+          componentInfoData.addLicense(licenseInfo);
+          componentInfo.setComponentInfoData(componentInfoData);
+          return componentInfo;
+        });
+
+    ComponentInfoInventoryProcessor processor = new ComponentInfoInventoryProcessor();
+    processor.setModelFactory(modelFactory);
+    processor.setComponentInfoAdapters(new ComponentInfoAdapter[] { adapter });
+    processor.setCurationDataSelector("");
+    processor.setThreads(threads);
+    return processor;
+  }
+
+  /**
+   * Test the {@link ComponentInfoInventoryProcessor#processInventory(ModelRoot)} method with multiple threads. Each
+   * {@link ApplicationComponent} needs to get exactly the data of its own package.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  public void testProcessInventoryInParallel() throws Exception {
+
+    List<ApplicationComponent> applicationComponents = new ArrayList<>();
+    String[] packageUrls = new String[50];
+    for (int i = 0; i < packageUrls.length; i++) {
+      packageUrls[i] = "pkg:maven/com.devonfw/artifact" + i + "@1.0.0";
+    }
+    ModelRootImpl modelRoot = createModel(applicationComponents, packageUrls);
+    ComponentInfoAdapter adapter = Mockito.mock(ComponentInfoAdapter.class);
+    ComponentInfoInventoryProcessor processor = createProcessor(adapter, 4);
+
+    processor.processInventory(modelRoot);
+
+    for (ApplicationComponent ac : applicationComponents) {
+      Assertions.assertEquals("DA:" + DataStatusValue.NO_ISSUES, ac.getDataStatus());
+      Assertions.assertEquals(1, ac.getRawLicenses().size());
+      Assertions.assertEquals(ac.getPackageUrl(), ac.getRawLicenses().get(0).getDeclaredLicense());
+    }
+  }
+
+  /**
+   * Test that the {@link ComponentInfoInventoryProcessor#processInventory(ModelRoot)} method queries the
+   * {@link ComponentInfoAdapter} only once per distinct PackageURL.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  public void testProcessInventoryQueriesEachPackageOnce() throws Exception {
+
+    List<ApplicationComponent> applicationComponents = new ArrayList<>();
+    ModelRootImpl modelRoot = createModel(applicationComponents, "pkg:maven/com.devonfw/a@1.0.0",
+        "pkg:maven/com.devonfw/b@1.0.0", "pkg:maven/com.devonfw/a@1.0.0", "pkg:maven/com.devonfw/a@1.0.0");
+    ComponentInfoAdapter adapter = Mockito.mock(ComponentInfoAdapter.class);
+    ComponentInfoInventoryProcessor processor = createProcessor(adapter, 1);
+
+    processor.processInventory(modelRoot);
+
+    Mockito.verify(adapter, Mockito.times(1)).getComponentInfo(ArgumentMatchers.eq("pkg:maven/com.devonfw/a@1.0.0"),
+        ArgumentMatchers.any());
+    Mockito.verify(adapter, Mockito.times(1)).getComponentInfo(ArgumentMatchers.eq("pkg:maven/com.devonfw/b@1.0.0"),
+        ArgumentMatchers.any());
+    for (ApplicationComponent ac : applicationComponents) {
+      Assertions.assertEquals(1, ac.getRawLicenses().size());
+      Assertions.assertEquals(ac.getPackageUrl(), ac.getRawLicenses().get(0).getDeclaredLicense());
+    }
+  }
+
+  /**
+   * Test that in parallel mode only a limited number of packages is fetched ahead of the package whose data is
+   * currently awaited.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  public void testProcessInventoryInParallelLimitsFetchingAhead() throws Exception {
+
+    List<ApplicationComponent> applicationComponents = new ArrayList<>();
+    String[] packageUrls = new String[50];
+    for (int i = 0; i < packageUrls.length; i++) {
+      packageUrls[i] = "pkg:maven/com.devonfw/artifact" + i + "@1.0.0";
+    }
+    ModelRootImpl modelRoot = createModel(applicationComponents, packageUrls);
+    ComponentInfoAdapter adapter = Mockito.mock(ComponentInfoAdapter.class);
+    ComponentInfoInventoryProcessor processor = createProcessor(adapter, 2);
+
+    AtomicInteger fetched = new AtomicInteger();
+    AtomicInteger fetchedWhileFirstPending = new AtomicInteger();
+    Mockito.doAnswer(invocation -> {
+      String packageUrl = invocation.getArgument(0);
+      if (packageUrl.equals(packageUrls[0])) {
+        // slow first package
+        Thread.sleep(500);
+        fetchedWhileFirstPending.set(fetched.get());
+      }
+      fetched.incrementAndGet();
+      return new DefaultComponentInfoImpl(packageUrl, DataStatusValue.NO_ISSUES);
+    }).when(adapter).getComponentInfo(ArgumentMatchers.anyString(), ArgumentMatchers.any());
+
+    processor.processInventory(modelRoot);
+
+    Assertions.assertEquals(packageUrls.length, fetched.get());
+    // window of twice the number of threads
+    Assertions.assertTrue(fetchedWhileFirstPending.get() <= 4, "fetched ahead: " + fetchedWhileFirstPending.get());
+  }
+
 }
@@ -2,9 +2,17 @@ package com.devonfw.tools.solicitor.componentinfo.curation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import com.devonfw.tools.solicitor.common.packageurl.AllKindsPackageURLHandler;
@@ -91,4 +99,46 @@ class SingleFileCurationProviderTest {
     assertEquals("some/path/1", result.getLicenseCurations().get(1).getPath());
   }
 
+  /**
+   * Test that the curations file is only parsed once and reread if it changes.
+   *
+   * @param tempDir temporary directory for the curations file
+   * @throws ComponentInfoAdapterException
+   * @throws CurationInvalidException
+   * @throws IOException
+   */
+  @Test
+  void testCurationsFileIsCachedAndReloadedOnChange(@TempDir Path tempDir)
+      throws ComponentInfoAdapterException, CurationInvalidException, IOException {
+
+    File curationsFile = tempDir.resolve("curations.yaml").toFile();
+    writeCurationsFile(curationsFile, "Apache-2.0");
+    this.objectUnderTest.setCurationsFileName(curationsFile.getPath());
+
+    ComponentInfoCuration first = this.objectUnderTest.findCurations("pkg:maven/somenamespace/somecomponent@2.3.4",
+        new SelectorCurationDataHandle(null));
+    ComponentInfoCuration second = this.objectUnderTest.findCurations("pkg:maven/somenamespace/somecomponent@2.3.4",
+        new SelectorCurationDataHandle(null));
+    assertEquals("Apache-2.0", first.getLicenses().get(0).getLicense());
+    assertSame(first, second);
+
+    long lastModified = curationsFile.lastModified();
+    writeCurationsFile(curationsFile, "MIT");
+    curationsFile.setLastModified(lastModified + 10000);
+
+    ComponentInfoCuration third = this.objectUnderTest.findCurations("pkg:maven/somenamespace/somecomponent@2.3.4",
+        new SelectorCurationDataHandle(null));
+    assertEquals("MIT", third.getLicenses().get(0).getLicense());
+  }
+
+  private void writeCurationsFile(File curationsFile, String license) throws IOException {
+
+    String content = "artifacts:\n" //
+        + "- name: \"pkg/maven/somenamespace/somecomponent/2.3.4\"\n" //
+        + "  licenses:\n" //
+        + "  - license: \"" + license + "\"\n" //
+        + "    url: \"https://some.url\"\n";
+    Files.write(curationsFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+  }
+
 }
@@ -40,6 +40,7 @@ public class FilteredScancodeV31ComponentInfoProviderTest {
 
     this.fileScancodeRawComponentInfoProvider = new FileScancodeRawComponentInfoProvider(packageURLHandler);
     this.fileScancodeRawComponentInfoProvider.setRepoBasePath("src/test/resources/scancodefileadapter/Source/repo");
+    this.fileScancodeRawComponentInfoProvider.setStreamScancodeJson(false);
     this.fileScancodeRawComponentInfoProvider.setScancodeFileName("scancodeV31.json");
 
     this.singleFileCurationProvider = new SingleFileCurationProvider(packageURLHandler);
@@ -41,6 +41,7 @@ public class FilteredScancodeV32ComponentInfoProviderTest {
 
     this.fileScancodeRawComponentInfoProvider = new FileScancodeRawComponentInfoProvider(packageURLHandler);
     this.fileScancodeRawComponentInfoProvider.setRepoBasePath("src/test/resources/scancodefileadapter/Source/repo");
+    this.fileScancodeRawComponentInfoProvider.setStreamScancodeJson(false);
 
     this.singleFileCurationProvider = new SingleFileCurationProvider(packageURLHandler);
     this.singleFileCurationProvider.setCurationsFileName("src/test/resources/scancodefileadapter/curations.yaml");
@@ -0,0 +1,93 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link IndexedContent} and {@link IndexedContentCache}.
+ */
+class IndexedContentTest {
+
+  /**
+   * Reference implementation which splits the input into lines.
+   */
+  private static String extractBySplitting(String input, int startLine, int endLine) {
+
+    String[] splitted = input.split("\\n");
+    StringBuilder result = new StringBuilder();
+    for (int i = 0; i < splitted.length; i++) {
+      if (i + 1 >= startLine && i + 1 <= endLine) {
+        result.append(splitted[i]).append("\n");
+      }
+    }
+    return result.toString();
+  }
+
+  /**
+   * Test that extracting lines gives the same results as splitting the content into lines.
+   */
+  @Test
+  void testPossiblyExtractLines() {
+
+    String[] inputs = { "", "\n", "\n\n", "one", "one\n", "one\ntwo", "\none\n\ntwo\n\n", "one\r\ntwo\r\n\r\n",
+    "one\n\n\nfour\nfive" };
+    for (String input : inputs) {
+      IndexedContent content = new IndexedContent(input);
+      assertEquals(input, content.possiblyExtractLines(null));
+      for (int start = 0; start <= 6; start++) {
+        for (int end = 0; end <= 6; end++) {
+          String lineInfo = start == end ? "#L" + start : "#L" + start + "-L" + end;
+          assertEquals(extractBySplitting(input, start, end), content.possiblyExtractLines(lineInfo),
+              "input '" + input + "', lines " + lineInfo);
+        }
+      }
+    }
+  }
+
+  /**
+   * Test that the cache returns stored content, detects modified files and respects the size limit.
+   *
+   * @param tempDir directory for test files
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testCache(@TempDir Path tempDir) throws Exception {
+
+    File file1 = tempDir.resolve("file1").toFile();
+    File file2 = tempDir.resolve("file2").toFile();
+    Files.write(file1.toPath(), "12345".getBytes(StandardCharsets.UTF_8));
+    Files.write(file2.toPath(), "67890".getBytes(StandardCharsets.UTF_8));
+    IndexedContent content1 = new IndexedContent("12345");
+    IndexedContent content2 = new IndexedContent("67890");
+
+    IndexedContentCache cache = new IndexedContentCache(8);
+    cache.put(file1, file1.lastModified(), file1.length(), content1);
+    assertSame(content1, cache.get(file1));
+
+    // exceeding the limit evicts the least recently used entry
+    cache.put(file2, file2.lastModified(), file2.length(), content2);
+    assertNull(cache.get(file1));
+    assertSame(content2, cache.get(file2));
+
+    // modified files are not taken from the cache
+    Files.write(file2.toPath(), "678901".getBytes(StandardCharsets.UTF_8));
+    assertNull(cache.get(file2));
+
+    cache.setMaxSize(0);
+    cache.put(file1, file1.lastModified(), file1.length(), content1);
+    assertNull(cache.get(file1));
+  }
+
+}
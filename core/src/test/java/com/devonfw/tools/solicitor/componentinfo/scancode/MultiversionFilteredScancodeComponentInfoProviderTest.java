@@ -22,6 +22,7 @@ import com.devonfw.tools.solicitor.componentinfo.ComponentInfo;
 import com.devonfw.tools.solicitor.componentinfo.ComponentInfoAdapterException;
 import com.devonfw.tools.solicitor.componentinfo.CurationDataHandle;
 import com.devonfw.tools.solicitor.componentinfo.DataStatusValue;
+import com.devonfw.tools.solicitor.componentinfo.curation.CurationProvider;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -63,7 +64,8 @@ public class MultiversionFilteredScancodeComponentInfoProviderTest {
     when(this.filteredScancodeV32Provider.accept("99.1.0")).thenReturn(false);
     this.provider = new MultiversionFilteredScancodeComponentInfoProvider(
         new FilteredScancodeVersionComponentInfoProvider[] { this.filteredScancodeV31Provider,
-        this.filteredScancodeV32Provider }, this.rawComponentInfoProvider);
+        this.filteredScancodeV32Provider }, this.rawComponentInfoProvider,
+        new ScancodeComponentInfoCache(this.rawComponentInfoProvider, mock(CurationProvider.class)));
   }
 
   /**
@@ -73,7 +73,8 @@ class ScancodeComponentInfoAdapterTest {
 
     this.multiversionFilteredScancodeComponentInfoProvider = new MultiversionFilteredScancodeComponentInfoProvider(
         new FilteredScancodeVersionComponentInfoProvider[] { this.filteredScancodeComponentInfoProvider32,
-        this.filteredScancodeComponentInfoProvider31 }, this.fileScancodeRawComponentInfoProvider);
+        this.filteredScancodeComponentInfoProvider31 }, this.fileScancodeRawComponentInfoProvider,
+        new ScancodeComponentInfoCache(this.fileScancodeRawComponentInfoProvider, this.singleFileCurationProvider));
 
     this.componentInfoCuratorImpl = new ComponentInfoCuratorImpl(this.singleFileCurationProvider,
         this.fileScancodeRawComponentInfoProvider);
@@ -0,0 +1,227 @@
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.devonfw.tools.solicitor.componentinfo.ComponentInfo;
+import com.devonfw.tools.solicitor.componentinfo.DataStatusValue;
+import com.devonfw.tools.solicitor.componentinfo.DefaultComponentInfoDataImpl;
+import com.devonfw.tools.solicitor.componentinfo.DefaultComponentInfoImpl;
+import com.devonfw.tools.solicitor.componentinfo.DefaultLicenseInfoImpl;
+import com.devonfw.tools.solicitor.componentinfo.LicenseInfo;
+import com.devonfw.tools.solicitor.componentinfo.SelectorCurationDataHandle;
+import com.devonfw.tools.solicitor.componentinfo.curation.CurationProvider;
+import com.devonfw.tools.solicitor.componentinfo.curation.model.ComponentInfoCuration;
+
+/**
+ * Tests for {@link ScancodeComponentInfoCache}.
+ *
+ */
+class ScancodeComponentInfoCacheTest {
+
+  private static final String PACKAGE_URL = "pkg:maven/com.devonfw.tools/test-project-for-deep-license-scan@0.1.0";
+
+  private CurationProvider curationProvider;
+
+  private ScancodeRawComponentInfoProvider contentProvider;
+
+  private ScancodeComponentInfoCache cache;
+
+  private ScancodeRawComponentInfo rawScancodeData;
+
+  @BeforeEach
+  void setUp(@TempDir Path tempDir) throws Exception {
+
+    this.curationProvider = mock(CurationProvider.class);
+    this.contentProvider = mock(ScancodeRawComponentInfoProvider.class);
+    when(this.contentProvider.retrieveContent(PACKAGE_URL, "pkgcontent:/NOTICE")).thenReturn("notice text");
+    when(this.contentProvider.retrieveContent(PACKAGE_URL, "pkgcontent:/LICENSE")).thenReturn("license text");
+    this.cache = new ScancodeComponentInfoCache(this.contentProvider, this.curationProvider);
+    this.cache.setEnabled(true);
+    this.cache.setMinLicenseScore(90.0);
+    this.cache.setMinLicensefileNumberOfLines(5);
+
+    File scancodeFile = tempDir.resolve("scancode.json").toFile();
+    Files.write(scancodeFile.toPath(), "{\"headers\":[]}".getBytes(StandardCharsets.UTF_8));
+    this.rawScancodeData = new ScancodeRawComponentInfo();
+    this.rawScancodeData.rawScancodeResultFile = scancodeFile;
+    this.rawScancodeData.sourceDownloadUrl = "https://example.com/sources.zip";
+  }
+
+  /**
+   * Test that stored data is loaded again with the same content.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testStoreAndLoad() throws Exception {
+
+    String cacheKey = this.cache.cacheKey(PACKAGE_URL, new SelectorCurationDataHandle(null), this.rawScancodeData);
+    assertNotNull(cacheKey);
+    assertNull(this.cache.load(this.rawScancodeData, cacheKey));
+
+    this.cache.store(this.rawScancodeData, cacheKey, createComponentInfo());
+    ComponentInfo loaded = this.cache.load(this.rawScancodeData, cacheKey);
+
+    assertNotNull(loaded);
+    assertEquals(PACKAGE_URL, loaded.getPackageUrl());
+    assertEquals(DataStatusValue.CURATED, loaded.getDataStatus());
+    assertEquals(Collections.singletonList("some note"), loaded.getTraceabilityNotes());
+    assertEquals(Collections.singletonList("Copyright (c) 2023 somebody"),
+        new ArrayList<>(loaded.getComponentInfoData().getCopyrights()));
+    assertEquals("pkgcontent:/NOTICE", loaded.getComponentInfoData().getNoticeFileUrl());
+    assertEquals("notice text", loaded.getComponentInfoData().getNoticeFileContent());
+    assertNull(loaded.getComponentInfoData().getHomepageUrl());
+    // origin data is taken from the raw data and not from the cache
+    assertEquals("https://example.com/sources.zip", loaded.getComponentInfoData().getSourceDownloadUrl());
+    List<LicenseInfo> licenses = new ArrayList<>(loaded.getComponentInfoData().getLicenses());
+    assertEquals(1, licenses.size());
+    assertEquals("Apache-2.0", licenses.get(0).getSpdxid());
+    assertEquals("pkgcontent:/LICENSE", licenses.get(0).getLicenseUrl());
+    assertEquals("license text", licenses.get(0).getGivenLicenseText());
+  }
+
+  /**
+   * Test that the cache key changes if the scancode file, the settings or the curations change.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testCacheKeyChanges() throws Exception {
+
+    SelectorCurationDataHandle handle = new SelectorCurationDataHandle(null);
+    String originalKey = this.cache.cacheKey(PACKAGE_URL, handle, this.rawScancodeData);
+    this.cache.store(this.rawScancodeData, originalKey, createComponentInfo());
+
+    assertEquals(originalKey, this.cache.cacheKey(PACKAGE_URL, handle, this.rawScancodeData));
+
+    this.cache.setMinLicenseScore(80.0);
+    assertNotEquals(originalKey, this.cache.cacheKey(PACKAGE_URL, handle, this.rawScancodeData));
+    this.cache.setMinLicenseScore(90.0);
+
+    this.cache.setMaxContentFileSize(1000);
+    assertNotEquals(originalKey, this.cache.cacheKey(PACKAGE_URL, handle, this.rawScancodeData));
+    this.cache.setMaxContentFileSize(1000000);
+
+    ComponentInfoCuration curation = new ComponentInfoCuration();
+    curation.setExcludedPaths(Collections.singletonList("sources/test"));
+    when(this.curationProvider.findCurations(any(), any())).thenReturn(curation);
+    assertNotEquals(originalKey, this.cache.cacheKey(PACKAGE_URL, handle, this.rawScancodeData));
+    when(this.curationProvider.findCurations(any(), any())).thenReturn(null);
+
+    Files.write(this.rawScancodeData.rawScancodeResultFile.toPath(),
+        "{\"headers\":[{}]}".getBytes(StandardCharsets.UTF_8));
+    String changedKey = this.cache.cacheKey(PACKAGE_URL, handle, this.rawScancodeData);
+    assertNotEquals(originalKey, changedKey);
+    assertNull(this.cache.load(this.rawScancodeData, changedKey));
+  }
+
+  /**
+   * Test that license texts and notice file contents are not stored in the cache but are read again from the package
+   * sources when loading, so that changed sources are reflected.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testContentsReadWhenLoading() throws Exception {
+
+    String cacheKey = this.cache.cacheKey(PACKAGE_URL, new SelectorCurationDataHandle(null), this.rawScancodeData);
+    this.cache.store(this.rawScancodeData, cacheKey, createComponentInfo());
+    File[] cacheFiles = this.rawScancodeData.rawScancodeResultFile.getParentFile()
+        .listFiles((dir, name) -> name.startsWith("scancode-filtered-cache"));
+    assertEquals(1, cacheFiles.length);
+    String cacheContent = new String(Files.readAllBytes(cacheFiles[0].toPath()), StandardCharsets.UTF_8);
+    assertFalse(cacheContent.contains("license text"));
+    assertFalse(cacheContent.contains("notice text"));
+
+    when(this.contentProvider.retrieveContent(PACKAGE_URL, "pkgcontent:/NOTICE")).thenReturn("changed notice");
+    when(this.contentProvider.retrieveContent(PACKAGE_URL, "pkgcontent:/LICENSE")).thenReturn(null);
+    ComponentInfo loaded = this.cache.load(this.rawScancodeData, cacheKey);
+
+    assertEquals("changed notice", loaded.getComponentInfoData().getNoticeFileContent());
+    List<LicenseInfo> licenses = new ArrayList<>(loaded.getComponentInfoData().getLicenses());
+    assertEquals("pkgcontent:/LICENSE", licenses.get(0).getLicenseUrl());
+    assertNull(licenses.get(0).getGivenLicenseText());
+  }
+
+  /**
+   * Test that data filtered with different curations (e.g. different curation data selectors) is cached in different
+   * files and thus does not overwrite each other.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testDifferentCurationsCachedSeparately() throws Exception {
+
+    String uncuratedKey = this.cache.cacheKey(PACKAGE_URL, new SelectorCurationDataHandle("none"),
+        this.rawScancodeData);
+    this.cache.store(this.rawScancodeData, uncuratedKey, createComponentInfo());
+
+    ComponentInfoCuration curation = new ComponentInfoCuration();
+    curation.setExcludedPaths(Collections.singletonList("sources/test"));
+    when(this.curationProvider.findCurations(any(), any())).thenReturn(curation);
+    String curatedKey = this.cache.cacheKey(PACKAGE_URL, new SelectorCurationDataHandle("other"),
+        this.rawScancodeData);
+    assertNull(this.cache.load(this.rawScancodeData, curatedKey));
+    DefaultComponentInfoImpl curatedComponentInfo = new DefaultComponentInfoImpl(PACKAGE_URL,
+        DataStatusValue.NO_ISSUES);
+    curatedComponentInfo.setComponentInfoData(new DefaultComponentInfoDataImpl());
+    this.cache.store(this.rawScancodeData, curatedKey, curatedComponentInfo);
+
+    assertEquals(DataStatusValue.CURATED, this.cache.load(this.rawScancodeData, uncuratedKey).getDataStatus());
+    assertEquals(DataStatusValue.NO_ISSUES, this.cache.load(this.rawScancodeData, curatedKey).getDataStatus());
+  }
+
+  /**
+   * Test that the cache is not used if disabled or if the scancode data is not given as file.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testCacheNotApplicable() throws Exception {
+
+    ScancodeRawComponentInfo rawDataAsString = new ScancodeRawComponentInfo();
+    rawDataAsString.rawScancodeResult = "{}";
+    assertNull(this.cache.cacheKey(PACKAGE_URL, new SelectorCurationDataHandle(null), rawDataAsString));
+
+    this.cache.setEnabled(false);
+    assertNull(this.cache.cacheKey(PACKAGE_URL, new SelectorCurationDataHandle(null), this.rawScancodeData));
+  }
+
+  private ComponentInfo createComponentInfo() {
+
+    DefaultComponentInfoImpl componentInfo = new DefaultComponentInfoImpl(PACKAGE_URL, DataStatusValue.CURATED);
+    componentInfo.addTraceabillityNote("some note");
+    DefaultComponentInfoDataImpl data = new DefaultComponentInfoDataImpl();
+    data.addCopyright("Copyright (c) 2023 somebody");
+    data.setNoticeFileUrl("pkgcontent:/NOTICE");
+    data.setNoticeFileContent("notice text");
+    data.setSourceDownloadUrl("https://example.com/outdated.zip");
+    DefaultLicenseInfoImpl license = new DefaultLicenseInfoImpl();
+    license.setSpdxId("Apache-2.0");
+    license.setLicenseUrl("pkgcontent:/LICENSE");
+    license.setGivenLicenseText("license text");
+    data.addLicense(license);
+    componentInfo.setComponentInfoData(data);
+    return componentInfo;
+  }
+
+}
@@ -0,0 +1,62 @@
+package com.devonfw.tools.solicitor.componentinfo.scancode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests for {@link ScancodeJsonFileReader}.
+ *
+ */
+class ScancodeJsonFileReaderTest {
+
+  private static final File SCANCODE_FILE = new File(
+      "src/test/resources/scancodefileadapter/Source/repo/pkg/maven/com/devonfw/tools/test-project-for-deep-license-scan/0.1.0/scancode.json");
+
+  /**
+   * Test method for {@link ScancodeJsonFileReader#readTopLevelData()}.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testReadTopLevelData() throws Exception {
+
+    JsonNode completeJson = new ObjectMapper().readTree(SCANCODE_FILE);
+
+    JsonNode topLevelData = new ScancodeJsonFileReader(SCANCODE_FILE).readTopLevelData();
+
+    assertEquals(completeJson.get("headers"), topLevelData.get("headers"));
+    assertEquals(completeJson.get("license_references"), topLevelData.get("license_references"));
+    assertFalse(topLevelData.has("files"));
+  }
+
+  /**
+   * Test method for {@link ScancodeJsonFileReader#forEach(ScancodeJsonFiles.FileEntryHandler)}. The streamed entries
+   * need to be identical to the ones of the completely parsed tree.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testForEach() throws Exception {
+
+    JsonNode completeJson = new ObjectMapper().readTree(SCANCODE_FILE);
+    List<JsonNode> expected = new ArrayList<>();
+    ScancodeJsonFiles.of(completeJson).forEach(expected::add);
+
+    List<JsonNode> streamed = new ArrayList<>();
+    new ScancodeJsonFileReader(SCANCODE_FILE).forEach(streamed::add);
+
+    assertTrue(expected.size() > 0);
+    assertEquals(expected, streamed);
+  }
+
+}
@@ -0,0 +1,140 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.licensetexts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devonfw.tools.solicitor.common.content.InMemoryMapContentProvider;
+import com.devonfw.tools.solicitor.common.content.web.WebContent;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
+import com.devonfw.tools.solicitor.model.inventory.NormalizedLicense;
+import com.devonfw.tools.solicitor.model.masterdata.Application;
+import com.devonfw.tools.solicitor.model.masterdata.Engagement;
+
+/**
+ * Tests for {@link LicenseTextPrefetchInventoryProcessor}.
+ */
+class LicenseTextPrefetchInventoryProcessorTest {
+
+  /**
+   * Test that the guessed URLs and all license texts which are not yet available are prefetched, each distinct URL
+   * only once.
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  void testPrefetching() {
+
+    InMemoryMapContentProvider<WebContent> licenseContentProvider = mock(InMemoryMapContentProvider.class);
+    InMemoryMapContentProvider<GuessedLicenseUrlContent> licenseUrlGuesser = mock(InMemoryMapContentProvider.class);
+    when(licenseContentProvider.getContentForUri(any())).thenReturn(new WebContent("text"));
+    when(licenseUrlGuesser.getContentForUri("http://effective"))
+        .thenReturn(new GuessedLicenseUrlContent("http://guessed", null));
+
+    NormalizedLicense nl1 = mock(NormalizedLicense.class);
+    when(nl1.getLicenseUrl()).thenReturn("http://declared");
+    when(nl1.getNormalizedLicenseUrl()).thenReturn("http://declared");
+    when(nl1.getEffectiveNormalizedLicenseUrl()).thenReturn("http://effective");
+    when(nl1.getLicenseRefUrl()).thenReturn("http://ref");
+    NormalizedLicense nl2 = mock(NormalizedLicense.class);
+    when(nl2.getLicenseUrl()).thenReturn("http://given");
+    when(nl2.getDeclaredLicenseContent()).thenReturn("given text");
+    when(nl2.getEffectiveNormalizedLicenseUrl()).thenReturn("http://effective");
+
+    ApplicationComponent ac = mock(ApplicationComponent.class);
+    when(ac.getNormalizedLicenses()).thenReturn(Arrays.asList(nl1, nl2));
+    Application app = mock(Application.class);
+    when(app.getApplicationComponents()).thenReturn(Collections.singletonList(ac));
+    Engagement engagement = mock(Engagement.class);
+    when(engagement.getApplications()).thenReturn(Collections.singletonList(app));
+    ModelRoot modelRoot = mock(ModelRoot.class);
+    when(modelRoot.getEngagement()).thenReturn(engagement);
+
+    LicenseTextPrefetchInventoryProcessor processor = new LicenseTextPrefetchInventoryProcessor();
+    ReflectionTestUtils.setField(processor, "licenseContentProvider", licenseContentProvider);
+    ReflectionTestUtils.setField(processor, "licenseUrlGuesser", licenseUrlGuesser);
+    processor.setThreads(4);
+    processor.processInventory(modelRoot);
+
+    verify(licenseUrlGuesser, times(1)).getContentForUri("http://effective");
+    verify(licenseContentProvider, times(1)).getContentForUri("http://guessed");
+    verify(licenseContentProvider, times(1)).getContentForUri("http://declared");
+    verify(licenseContentProvider, times(1)).getContentForUri("http://effective");
+    verify(licenseContentProvider, times(1)).getContentForUri("http://ref");
+    verify(licenseContentProvider, never()).getContentForUri("http://given");
+  }
+
+  /**
+   * Test that the number of concurrent requests per host is limited and that the requests for a slow host do not delay
+   * the requests for other hosts.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  void testPrefetchingLimitsRequestsPerHost() throws Exception {
+
+    InMemoryMapContentProvider<WebContent> licenseContentProvider = mock(InMemoryMapContentProvider.class);
+    InMemoryMapContentProvider<GuessedLicenseUrlContent> licenseUrlGuesser = mock(InMemoryMapContentProvider.class);
+    AtomicInteger runningSlow = new AtomicInteger();
+    AtomicInteger maxRunningSlow = new AtomicInteger();
+    AtomicInteger finishedSlow = new AtomicInteger();
+    AtomicInteger finishedSlowWhenFastFetched = new AtomicInteger(-1);
+    when(licenseContentProvider.getContentForUri(any())).thenAnswer(invocation -> {
+      String url = invocation.getArgument(0);
+      if (url.startsWith("http://slow/")) {
+        maxRunningSlow.accumulateAndGet(runningSlow.incrementAndGet(), Math::max);
+        Thread.sleep(200);
+        runningSlow.decrementAndGet();
+        finishedSlow.incrementAndGet();
+      } else {
+        finishedSlowWhenFastFetched.set(finishedSlow.get());
+      }
+      return new WebContent("text");
+    });
+
+    List<NormalizedLicense> licenses = new ArrayList<>();
+    for (String url : Arrays.asList("http://slow/1", "http://slow/2", "http://slow/3", "http://fast/1")) {
+      NormalizedLicense nl = mock(NormalizedLicense.class);
+      when(nl.getLicenseRefUrl()).thenReturn(url);
+      licenses.add(nl);
+    }
+    ApplicationComponent ac = mock(ApplicationComponent.class);
+    when(ac.getNormalizedLicenses()).thenReturn(licenses);
+    Application app = mock(Application.class);
+    when(app.getApplicationComponents()).thenReturn(Collections.singletonList(ac));
+    Engagement engagement = mock(Engagement.class);
+    when(engagement.getApplications()).thenReturn(Collections.singletonList(app));
+    ModelRoot modelRoot = mock(ModelRoot.class);
+    when(modelRoot.getEngagement()).thenReturn(engagement);
+
+    LicenseTextPrefetchInventoryProcessor processor = new LicenseTextPrefetchInventoryProcessor();
+    ReflectionTestUtils.setField(processor, "licenseContentProvider", licenseContentProvider);
+    ReflectionTestUtils.setField(processor, "licenseUrlGuesser", licenseUrlGuesser);
+    processor.setThreads(2);
+    processor.setThreadsPerHost(1);
+    processor.processInventory(modelRoot);
+
+    assertEquals(3, finishedSlow.get());
+    assertEquals(1, maxRunningSlow.get());
+    // the fast host is served concurrently to the first request of the slow host
+    assertEquals(0, finishedSlowWhenFastFetched.get());
+  }
+
+}
@@ -0,0 +1,125 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.licensetexts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.solicitor.SolicitorVersion;
+import com.devonfw.tools.solicitor.common.content.ContentProvider;
+import com.devonfw.tools.solicitor.common.content.web.WebContent;
+
+/**
+ * Tests for {@link StrategyLicenseUrlGuesser}.
+ */
+class StrategyLicenseUrlGuesserTest {
+
+  private static final String COPYING_URL = "https://raw.githubusercontent.com/foo/bar/main/COPYING";
+
+  private final List<String> requestedUrls = new CopyOnWriteArrayList<>();
+
+  private final ContentProvider<WebContent> webContentProvider = url -> {
+    this.requestedUrls.add(url);
+    return new WebContent(url.equals(COPYING_URL) || url.endsWith("README.md") ? "content" : null);
+  };
+
+  /**
+   * Test that the first available license file in order of priority is found and that the result is reused for the
+   * same repository.
+   */
+  @Test
+  void testSequentialProbing() {
+
+    StrategyLicenseUrlGuesser guesser = new StrategyLicenseUrlGuesser(this.webContentProvider,
+        new SolicitorVersion());
+
+    assertEquals(COPYING_URL, guesser.getContentForUri("http://github.com/foo/bar.git").getGuessedUrl());
+    // 7 file names not found on master and main, COPYING not found on master but on main, final ping of the result
+    assertEquals(17, this.requestedUrls.size());
+
+    this.requestedUrls.clear();
+    GuessedLicenseUrlContent reused = guesser.getContentForUri("https://github.com/foo/bar/");
+    assertEquals(COPYING_URL, reused.getGuessedUrl());
+    assertEquals(1, this.requestedUrls.size());
+    assertTrue(reused.getAuditInfo().contains("reusing result of previous search"));
+  }
+
+  /**
+   * Test that concurrent probing gives the same result and audit log as sequential probing.
+   */
+  @Test
+  void testConcurrentProbing() {
+
+    StrategyLicenseUrlGuesser sequential = new StrategyLicenseUrlGuesser(this.webContentProvider,
+        new SolicitorVersion());
+    StrategyLicenseUrlGuesser concurrent = new StrategyLicenseUrlGuesser(this.webContentProvider,
+        new SolicitorVersion());
+    concurrent.setProbeThreads(4);
+
+    GuessedLicenseUrlContent expected = sequential.getContentForUri("https://github.com/foo/bar");
+    GuessedLicenseUrlContent actual = concurrent.getContentForUri("https://github.com/foo/bar");
+    assertEquals(expected.getGuessedUrl(), actual.getGuessedUrl());
+    assertEquals(withoutTimestamp(expected.getAuditInfo()), withoutTimestamp(actual.getAuditInfo()));
+
+    expected = sequential.getContentForUri("https://github.com/foo/other");
+    actual = concurrent.getContentForUri("https://github.com/foo/other");
+    assertEquals("https://raw.githubusercontent.com/foo/other/master/README.md", actual.getGuessedUrl());
+    assertEquals(withoutTimestamp(expected.getAuditInfo()), withoutTimestamp(actual.getAuditInfo()));
+  }
+
+  /**
+   * Test that concurrent searches within the same repository probe the candidate URLs only once.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testConcurrentSearchesInSameRepository() throws Exception {
+
+    ContentProvider<WebContent> slowWebContentProvider = url -> {
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return this.webContentProvider.getContentForUri(url);
+    };
+    StrategyLicenseUrlGuesser guesser = new StrategyLicenseUrlGuesser(slowWebContentProvider, new SolicitorVersion());
+    int threads = 4;
+    CyclicBarrier barrier = new CyclicBarrier(threads);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        results.add(executor.submit(() -> {
+          barrier.await();
+          return guesser.getContentForUri("https://github.com/foo/bar").getGuessedUrl();
+        }));
+      }
+      for (Future<String> result : results) {
+        assertEquals(COPYING_URL, result.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    // each candidate probed once, the result additionally pinged once per call
+    assertEquals(16 + threads, this.requestedUrls.size());
+    assertEquals(1 + threads, this.requestedUrls.stream().filter(COPYING_URL::equals).count());
+  }
+
+  private String withoutTimestamp(String auditLogs) {
+
+    return auditLogs.substring(auditLogs.indexOf('\n'));
+  }
+
+}
@@ -2,6 +2,10 @@ package com.devonfw.tools.solicitor.model;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
 import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
@@ -13,6 +17,8 @@ import com.devonfw.tools.solicitor.common.SolicitorRuntimeException;
 import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
 import com.devonfw.tools.solicitor.model.masterdata.Application;
 import com.devonfw.tools.solicitor.model.masterdata.Engagement;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Tests of {@link ModelImporterExporter}.
@@ -132,4 +138,93 @@ public class ModelImporterExporterTest {
     this.mie.loadModel(fileName);
   }
 
+  /**
+   * Test that a saved model is loaded unchanged, also if the engagement precedes the model version in the file.
+   *
+   * @throws IOException in case that the temp files could not be created
+   */
+  @Test
+  public void testLoadModelFieldOrder() throws IOException {
+
+    ModelRoot mr = this.mie.loadModel("src/test/resources/models/model_version_7.json");
+    File savedFile = File.createTempFile("solicitor_model", "json");
+    this.mie.saveModel(mr, savedFile.getPath());
+
+    // move the engagement to the start of the file
+    ObjectMapper objectMapper = new ObjectMapper();
+    ObjectNode saved = (ObjectNode) objectMapper.readTree(savedFile);
+    ObjectNode reordered = objectMapper.createObjectNode();
+    reordered.set("engagement", saved.get("engagement"));
+    for (Iterator<String> it = saved.fieldNames(); it.hasNext();) {
+      String fieldName = it.next();
+      reordered.set(fieldName, saved.get(fieldName));
+    }
+    File reorderedFile = File.createTempFile("solicitor_model", "json");
+    objectMapper.writeValue(reorderedFile, reordered);
+
+    for (File file : new File[] { savedFile, reorderedFile }) {
+      File resavedFile = File.createTempFile("solicitor_model", "json");
+      this.mie.saveModel(this.mie.loadModel(file.getPath()), resavedFile.getPath());
+      Assertions.assertEquals(new String(Files.readAllBytes(savedFile.toPath())),
+          new String(Files.readAllBytes(resavedFile.toPath())));
+    }
+  }
+
+  /**
+   * Test that a model saved as (uncompressed or compressed) binary snapshot is loaded unchanged.
+   *
+   * @throws IOException in case that the temp files could not be created
+   */
+  @Test
+  public void testSaveAndLoadBinarySnapshot() throws IOException {
+
+    ModelRoot mr = this.mie.loadModel("src/test/resources/models/model_version_7.json");
+    File jsonFile = File.createTempFile("solicitor_model", ".json");
+    this.mie.saveModel(mr, jsonFile.getPath());
+
+    for (String extension : new String[] { ".bin", ".bin.gz" }) {
+      File snapshotFile = File.createTempFile("solicitor_model", extension);
+      this.mie.saveModel(mr, snapshotFile.getPath());
+      Assertions.assertTrue(snapshotFile.length() < jsonFile.length());
+
+      File resavedFile = File.createTempFile("solicitor_model", ".json");
+      this.mie.saveModel(this.mie.loadModel(snapshotFile.getPath()), resavedFile.getPath());
+      Assertions.assertEquals(new String(Files.readAllBytes(jsonFile.toPath())),
+          new String(Files.readAllBytes(resavedFile.toPath())));
+    }
+  }
+
+  /**
+   * Test that loading a file which is not a binary snapshot fails.
+   *
+   * @throws IOException in case that the temp file could not be created
+   */
+  @Test
+  public void testLoadInvalidBinarySnapshot() throws IOException {
+
+    File snapshotFile = File.createTempFile("solicitor_model", ".bin");
+    Files.copy(new File("src/test/resources/models/model_version_7.json").toPath(), snapshotFile.toPath(),
+        StandardCopyOption.REPLACE_EXISTING);
+    Assertions.assertThrows(SolicitorRuntimeException.class, () -> this.mie.loadModel(snapshotFile.getPath()));
+  }
+
+  /**
+   * Test that loading a binary snapshot fails if its model version is not the one the snapshot format is defined for.
+   *
+   * @throws IOException in case that the temp file could not be created
+   */
+  @Test
+  public void testLoadBinarySnapshotWithOtherModelVersion() throws IOException {
+
+    ModelRoot mr = this.mie.loadModel("src/test/resources/models/model_version_7.json");
+    File snapshotFile = File.createTempFile("solicitor_model", ".bin");
+    this.mie.saveModel(mr, snapshotFile.getPath());
+    try (RandomAccessFile file = new RandomAccessFile(snapshotFile, "rw")) {
+      // the model version follows the magic number and the format version
+      file.seek(8);
+      file.writeInt(6);
+    }
+    Assertions.assertThrows(SolicitorRuntimeException.class, () -> this.mie.loadModel(snapshotFile.getPath()));
+  }
+
 }
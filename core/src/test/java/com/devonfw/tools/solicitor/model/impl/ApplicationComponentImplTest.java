@@ -1,10 +1,17 @@
 package com.devonfw.tools.solicitor.model.impl;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.devonfw.tools.solicitor.model.impl.inventory.ApplicationComponentImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.ApplicationImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.EngagementImpl;
+import com.devonfw.tools.solicitor.model.masterdata.EngagementType;
+import com.devonfw.tools.solicitor.model.masterdata.GoToMarketModel;
+import com.devonfw.tools.solicitor.model.masterdata.UsagePattern;
 
 /**
  * This class contains JUnit test methods for the {@link ApplicationComponentImpl} class.
@@ -53,4 +60,29 @@ class ApplicationComponentImplTest {
     Assertions.assertEquals(traceabilityNotes, retrievedTraceabilityNotes);
   }
 
+  /**
+   * Tests that {@link ApplicationComponentImpl#getDataElementsWithTextPoolKeys()} contains the text pool keys instead of
+   * the texts given by {@link ApplicationComponentImpl#getDataElements()}.
+   */
+  @Test
+  public void testDataElementsWithTextPoolKeys() {
+
+    ModelRootImpl modelRoot = new ModelRootImpl();
+    EngagementImpl engagement = new EngagementImpl("engagement", EngagementType.INTERN, "client",
+        GoToMarketModel.LICENSE);
+    engagement.setModelRoot(modelRoot);
+    ApplicationImpl application = new ApplicationImpl("application", "1.0", "today", "repo", "java", "default");
+    application.setEngagement(engagement);
+    this.component.setApplication(application);
+    this.component.setUsagePattern(UsagePattern.DYNAMIC_LINKING);
+    this.component.setNoticeFileContent("notice");
+
+    Assertions.assertArrayEquals(new String[] { "noticeFileContent" }, this.component.getTextPoolHeadElements());
+    int index = Arrays.asList(this.component.getHeadElements()).indexOf("noticeFileContent");
+    String key = this.component.getDataElementsWithTextPoolKeys()[index];
+    Assertions.assertEquals("notice", this.component.getDataElements()[index]);
+    Assertions.assertEquals(this.component.getNoticeFileContentKey(), key);
+    Assertions.assertEquals("notice", modelRoot.getTextPool().retrieveReplacingLongHtml(key));
+  }
+
 }
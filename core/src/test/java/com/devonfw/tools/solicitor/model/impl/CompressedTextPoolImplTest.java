@@ -0,0 +1,91 @@
+package com.devonfw.tools.solicitor.model.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.solicitor.common.LicenseTextHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests {@link CompressedTextPoolImpl}.
+ */
+class CompressedTextPoolImplTest {
+
+  @Test
+  void testStoreAndRetrieveNull() {
+
+    TextPool pool = new CompressedTextPoolImpl(100);
+    assertNull(pool.store(null));
+
+    assertNull(pool.retrieve(null));
+    assertNull(pool.retrieveReplacingLongHtml(null));
+  }
+
+  @Test
+  void testThrowExceptionForUnknownKey() {
+
+    TextPool pool = new CompressedTextPoolImpl(100);
+    assertThrows(NoSuchElementException.class, () -> pool.retrieve("foo"));
+    assertThrows(NoSuchElementException.class, () -> pool.retrieveReplacingLongHtml("foo"));
+  }
+
+  @Test
+  void testStoreAndRetrieveData() {
+
+    // cache holds only a single text, so texts need to be decompressed repeatedly
+    TextPool pool = new CompressedTextPoolImpl(5);
+    TextPool reference = new TextPoolImpl();
+    StringBuilder large = new StringBuilder();
+    while (large.length() < 3 * 1024 * 1024) {
+      large.append("Permission is hereby granted, free of charge, to any person obtaining a copy äöü\n");
+    }
+    String[] texts = { "abc", "def", "", "äöü €", large.toString() };
+    for (int round = 0; round < 2; round++) {
+      for (String text : texts) {
+        String key = pool.store(text);
+        assertEquals(reference.store(text), key);
+        assertEquals(text, pool.retrieve(key));
+      }
+    }
+    for (String text : texts) {
+      assertEquals(text, pool.retrieve(reference.store(text)));
+    }
+  }
+
+  @Test
+  void testRetrieveReplacingLongHtml() {
+
+    StringBuilder longHtml = new StringBuilder("<html>");
+    while (longHtml.length() <= 20000) {
+      longHtml.append("some text ");
+    }
+    longHtml.append("</html>");
+
+    TextPool pool = new CompressedTextPoolImpl(100);
+    String keyHtml = pool.store(longHtml.toString());
+    String keyShortHtml = pool.store("<html></html>");
+
+    assertEquals(longHtml.toString(), pool.retrieve(keyHtml));
+    assertEquals(LicenseTextHelper.replaceLongHtmlContent(longHtml.toString()), pool.retrieveReplacingLongHtml(keyHtml));
+    assertEquals("<html></html>", pool.retrieveReplacingLongHtml(keyShortHtml));
+  }
+
+  @Test
+  void testSerializesLikeTextPoolImpl() throws Exception {
+
+    TextPool pool = new CompressedTextPoolImpl(100);
+    TextPool reference = new TextPoolImpl();
+    for (String text : new String[] { "abc", "def", "ghi" }) {
+      pool.store(text);
+      reference.store(text);
+    }
+    ObjectMapper objectMapper = new ObjectMapper();
+    assertEquals(objectMapper.writeValueAsString(reference), objectMapper.writeValueAsString(pool));
+  }
+
+}
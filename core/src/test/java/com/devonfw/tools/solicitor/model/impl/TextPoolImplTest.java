@@ -1,6 +1,7 @@
 package com.devonfw.tools.solicitor.model.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -8,6 +9,8 @@ import java.util.NoSuchElementException;
 
 import org.junit.jupiter.api.Test;
 
+import com.devonfw.tools.solicitor.common.LicenseTextHelper;
+
 /**
  * Tests {@link TextPoolImpl}.
  */
@@ -39,4 +42,27 @@ class TextPoolImplTest {
     assertEquals("def", pool.retrieve(keyDef));
   }
 
+  @Test
+  void testRetrieveReplacingLongHtml() {
+
+    StringBuilder longHtml = new StringBuilder("<HTML>");
+    while (longHtml.length() <= 20000) {
+      longHtml.append("some text ");
+    }
+    longHtml.append("</HTML>");
+    String longText = longHtml.toString().replace("<", "[");
+
+    TextPool pool = new TextPoolImpl();
+    String keyHtml = pool.store(longHtml.toString());
+    String keyText = pool.store(longText);
+    String keyShortHtml = pool.store("<html></html>");
+
+    assertEquals(longHtml.toString(), pool.retrieve(keyHtml));
+    assertEquals(LicenseTextHelper.replaceLongHtmlContent(longHtml.toString()), pool.retrieveReplacingLongHtml(keyHtml));
+    assertNotEquals(longHtml.toString(), pool.retrieveReplacingLongHtml(keyHtml));
+    assertEquals(longText, pool.retrieveReplacingLongHtml(keyText));
+    assertEquals("<html></html>", pool.retrieveReplacingLongHtml(keyShortHtml));
+    assertNull(pool.retrieveReplacingLongHtml(null));
+  }
+
 }
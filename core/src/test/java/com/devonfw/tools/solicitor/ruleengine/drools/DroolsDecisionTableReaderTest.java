@@ -0,0 +1,170 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.ruleengine.drools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.api.KieServices;
+import org.kie.api.builder.Message.Level;
+import org.kie.api.builder.Results;
+import org.kie.api.io.Resource;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.utils.KieHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devonfw.tools.solicitor.common.IOHelper;
+import com.devonfw.tools.solicitor.common.InputStreamFactory;
+
+/**
+ * Tests for {@link DroolsDecisionTableReader}.
+ */
+class DroolsDecisionTableReaderTest {
+
+  private static final String RULE_SOURCE = "classpath:com/devonfw/tools/solicitor/rules/LicenseNameMappingSample.xls";
+
+  private static final String TEMPLATE_SOURCE = "classpath:com/devonfw/tools/solicitor/rules/rule_templates/LicenseNameMapping.drt";
+
+  private DroolsDecisionTableReader reader;
+
+  @BeforeEach
+  void setUp() {
+
+    this.reader = new DroolsDecisionTableReader();
+    ReflectionTestUtils.setField(this.reader, "inputStreamFactory", new InputStreamFactory() {
+
+      @Override
+      public InputStream createInputStreamFor(String stringIdentifier) throws IOException {
+
+        return getClass().getClassLoader().getResourceAsStream(stringIdentifier.substring("classpath:".length()));
+      }
+
+      @Override
+      public boolean isExisting(String stringIdentifier) {
+
+        return true;
+      }
+    });
+  }
+
+  private Resource readRules() {
+
+    List<Resource> resources = new ArrayList<>();
+    this.reader.readRules(RULE_SOURCE, TEMPLATE_SOURCE, "test",
+        KieServices.Factory.get().newKieModuleModel().newKieBaseModel("test"), resources);
+    assertEquals(1, resources.size());
+    assertEquals(ResourceType.DRL, resources.get(0).getResourceType());
+    return resources.get(0);
+  }
+
+  /**
+   * Test that the generated rules are stored in the cache directory, are valid and will be taken from the cache when
+   * reading again.
+   *
+   * @param tempDir the cache directory
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testReadRulesWithGeneratedDrlCache(@TempDir Path tempDir) throws Exception {
+
+    this.reader.setGeneratedDrlCacheDir(tempDir.toString());
+
+    Resource drl = readRules();
+
+    File[] cacheFiles = tempDir.toFile().listFiles();
+    assertEquals(1, cacheFiles.length);
+    assertTrue(cacheFiles[0].getName().endsWith(".drl"));
+    String drlContent;
+    try (InputStream is = drl.getInputStream()) {
+      drlContent = IOHelper.readStringFromInputStream(is);
+    }
+    assertTrue(drlContent.contains("rule "));
+    Results results = new KieHelper().addResource(drl, ResourceType.DRL).verify();
+    assertFalse(results.hasMessages(Level.ERROR), results.toString());
+
+    // modify the cached content to check that it is taken from the cache
+    Files.write(cacheFiles[0].toPath(), "// cached".getBytes(StandardCharsets.UTF_8));
+    try (InputStream is = readRules().getInputStream()) {
+      assertEquals("// cached\n", IOHelper.readStringFromInputStream(is));
+    }
+  }
+
+  /**
+   * Test that rules are generated as DRL if no cache directory is set and that literal conditions are turned into
+   * native constraints.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  void testReadRulesWithoutGeneratedDrlCache() throws Exception {
+
+    Resource drl = readRules();
+
+    String drlContent;
+    try (InputStream is = drl.getInputStream()) {
+      drlContent = IOHelper.readStringFromInputStream(is);
+    }
+    assertTrue(drlContent.contains("declaredLicense == \""));
+    Results results = new KieHelper().addResource(drl, ResourceType.DRL).verify();
+    assertFalse(results.hasMessages(Level.ERROR), results.toString());
+  }
+
+  /**
+   * Test that only calls of {@link ModelHelper#match(String, String)} with plain literals are replaced.
+   */
+  @Test
+  void testUseIndexableConstraints() {
+
+    assertEquals(
+        "rule \"r\" when RawLicense( declaredLicense == \"MIT\", licenseUrl == \"say \\\"hello\\\"\" ) then end",
+        DroolsDecisionTableReader.useIndexableConstraints("rule \"r\" when RawLicense( "
+            + "ModelHelper.match(declaredLicense, \"MIT\" ), ModelHelper.match( licenseUrl, \"say \\\"hello\\\"\") ) "
+            + "then end"));
+    assertEquals("rule \"r\" when $ac : ApplicationComponent( (version == \"\" || version == \"1.0\") ) then end",
+        DroolsDecisionTableReader.useIndexableConstraints("rule \"r\" when $ac : ApplicationComponent( "
+            + "(ModelHelper.match(version, \"\") || ModelHelper.match(version, \"1.0\")) ) then end"));
+
+    String nonLiterals = "rule \"r\" when ApplicationComponent( ModelHelper.match( origin, \"NOT:scancode\" ), "
+        + "ModelHelper.match( groupId, \"org\\\\..*(REGEX)\" ), ModelHelper.match( groupId, \"REGEX:org.*\" ), "
+        + "ModelHelper.match( version, \"RANGE:[1.0,2.0)\" ) ) then end";
+    assertEquals(nonLiterals, DroolsDecisionTableReader.useIndexableConstraints(nonLiterals));
+  }
+
+  /**
+   * Test that calls of {@link ModelHelper#match(String, String)} outside of pattern constraints in the condition part
+   * of a rule (e.g. within <code>eval</code> or in the consequence) are left untouched.
+   */
+  @Test
+  void testUseIndexableConstraintsKeepsCallsOutsidePatterns() {
+
+    String drl = "rule \"ModelHelper.match(name, \\\"x\\\") when\" when\n" //
+        + "  // ModelHelper.match(name, \"x\")\n" //
+        + "  $a : Application( $name : name, !ModelHelper.match(name, \"a\"), ! ModelHelper.match(name, \"b\") )\n" //
+        + "  eval( ModelHelper.match($name, \"x\") )\n" //
+        + "  RawLicense( Boolean.TRUE.equals(Boolean.valueOf(ModelHelper.match(declaredLicense, \"MIT\"))) )\n" //
+        + "then\n" //
+        + "  boolean b = ModelHelper.match($name, \"x\");\n" //
+        + "  if (ModelHelper.match($name, \"y\")) { System.out.println(\"when\"); }\n" //
+        + "end\n";
+    assertEquals(drl, DroolsDecisionTableReader.useIndexableConstraints(drl));
+
+    String secondRule = "rule \"r2\" when Application( ModelHelper.match(name, \"a\") ) then end";
+    assertEquals(drl + "rule \"r2\" when Application( name == \"a\" ) then end",
+        DroolsDecisionTableReader.useIndexableConstraints(drl + secondRule));
+  }
+
+}
@@ -0,0 +1,235 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.ruleengine.drools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.io.Resource;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.io.ResourceFactory;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devonfw.tools.solicitor.SolicitorSetup;
+import com.devonfw.tools.solicitor.common.DeprecationChecker;
+import com.devonfw.tools.solicitor.common.InputStreamFactory;
+import com.devonfw.tools.solicitor.config.RuleConfig;
+import com.devonfw.tools.solicitor.model.impl.ModelRootImpl;
+import com.devonfw.tools.solicitor.model.impl.inventory.ApplicationComponentImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.ApplicationImpl;
+import com.devonfw.tools.solicitor.model.impl.masterdata.EngagementImpl;
+import com.devonfw.tools.solicitor.model.masterdata.Application;
+import com.devonfw.tools.solicitor.model.masterdata.EngagementType;
+import com.devonfw.tools.solicitor.model.masterdata.GoToMarketModel;
+
+/**
+ * Tests of {@link DroolsRuleEngine}.
+ */
+public class DroolsRuleEngineTest {
+
+  private static final String DRL_HEADER = "package com.devonfw.tools.solicitor.rules;\n"
+      + "import com.devonfw.tools.solicitor.model.masterdata.Application;\n"
+      + "import com.devonfw.tools.solicitor.model.masterdata.Engagement;\n"
+      + "import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;\n";
+
+  /**
+   * Rules which append the name of the rule group to the source repo of each {@link Application}.
+   *
+   * @param ruleGroup the name of the rule group
+   * @return the rules
+   */
+  private static String appendRuleGroupRule(String ruleGroup) {
+
+    return DRL_HEADER + "rule \"append " + ruleGroup + "\"\n" //
+        + "when\n" //
+        + "  $a : Application()\n" //
+        + "then\n" //
+        + "  $a.setSourceRepo($a.getSourceRepo() + \"-" + ruleGroup + "\");\n" //
+        + "end\n";
+  }
+
+  /**
+   * Creates a {@link DroolsRuleEngine} for the given rule groups. The rules of each group are given directly as DRL.
+   *
+   * @param rulesPerGroup the DRL per rule group
+   * @param crossApplication whether the rule groups are defined as cross application
+   * @param compileThreads the number of threads for compiling the rules
+   * @param executionThreads the number of threads for executing the rules
+   * @return the rule engine
+   */
+  private DroolsRuleEngine createRuleEngine(Map<String, String> rulesPerGroup, boolean crossApplication,
+      int compileThreads, int executionThreads) {
+
+    List<RuleConfig> ruleConfigs = new ArrayList<>();
+    for (String ruleGroup : rulesPerGroup.keySet()) {
+      RuleConfig rc = new RuleConfig();
+      rc.setType("drl");
+      rc.setRuleGroup(ruleGroup);
+      rc.setRuleSource(ruleGroup);
+      rc.setCrossApplication(crossApplication);
+      ruleConfigs.add(rc);
+    }
+    SolicitorSetup setup = Mockito.mock(SolicitorSetup.class);
+    Mockito.when(setup.getRuleSetups()).thenReturn(ruleConfigs);
+    InputStreamFactory inputStreamFactory = Mockito.mock(InputStreamFactory.class);
+    Mockito.when(inputStreamFactory.isExisting(ArgumentMatchers.anyString())).thenReturn(true);
+
+    DroolsRulesReader reader = Mockito.mock(DroolsRulesReader.class);
+    Mockito.doAnswer(invocation -> {
+      String drl = rulesPerGroup.get(invocation.getArgument(0));
+      Resource resource = ResourceFactory.newByteArrayResource(drl.getBytes(StandardCharsets.UTF_8));
+      resource.setSourcePath("com/devonfw/tools/solicitor/rules/" + invocation.getArgument(0) + ".drl");
+      resource.setResourceType(ResourceType.DRL);
+      List<Resource> resources = invocation.getArgument(4);
+      resources.add(resource);
+      return null;
+    }).when(reader).readRules(ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.any(),
+        ArgumentMatchers.any(), ArgumentMatchers.any());
+    DroolsRulesReaderFactory readerFactory = Mockito.mock(DroolsRulesReaderFactory.class);
+    Mockito.when(readerFactory.readerFor("drl")).thenReturn(reader);
+
+    DroolsRuleEngine ruleEngine = new DroolsRuleEngine();
+    ReflectionTestUtils.setField(ruleEngine, "setup", setup);
+    ReflectionTestUtils.setField(ruleEngine, "inputStreamFactory", inputStreamFactory);
+    ReflectionTestUtils.setField(ruleEngine, "ruleReaderFactory", readerFactory);
+    ReflectionTestUtils.setField(ruleEngine, "deprecationChecker", Mockito.mock(DeprecationChecker.class));
+    ruleEngine.setCompileThreads(compileThreads);
+    ruleEngine.setExecutionThreads(executionThreads);
+    return ruleEngine;
+  }
+
+  /**
+   * Creates a model with the given number of {@link Application}s, each containing the given number of
+   * {@link com.devonfw.tools.solicitor.model.inventory.ApplicationComponent}s.
+   *
+   * @param applications the number of applications
+   * @param componentsPerApplication the number of components per application
+   * @return the model
+   */
+  private ModelRootImpl createModel(int applications, int componentsPerApplication) {
+
+    ModelRootImpl modelRoot = new ModelRootImpl();
+    EngagementImpl engagement = new EngagementImpl("Engagement", EngagementType.INTERN, "Client",
+        GoToMarketModel.LICENSE);
+    engagement.setModelRoot(modelRoot);
+    for (int i = 0; i < applications; i++) {
+      ApplicationImpl application = new ApplicationImpl("Application" + i, "1.0.0", "2024-01-01", "repo" + i, "Java8",
+          null);
+      application.setEngagement(engagement);
+      for (int j = 0; j < componentsPerApplication; j++) {
+        ApplicationComponentImpl ac = new ApplicationComponentImpl();
+        ac.setGroupId("com.devonfw");
+        ac.setArtifactId("artifact" + j);
+        ac.setVersion("1.0." + (i + j));
+        ac.setApplication(application);
+      }
+    }
+    return modelRoot;
+  }
+
+  /**
+   * Test method for {@link DroolsRuleEngine#processInventory(com.devonfw.tools.solicitor.model.ModelRoot)} with
+   * multiple rule groups compiled concurrently. Each rule group needs to be executed with its own rules and in the
+   * configured order.
+   */
+  @Test
+  public void testProcessInventoryCompilingInParallel() {
+
+    Map<String, String> rulesPerGroup = new LinkedHashMap<>();
+    for (String ruleGroup : Arrays.asList("g1", "g2", "g3", "g4")) {
+      rulesPerGroup.put(ruleGroup, appendRuleGroupRule(ruleGroup));
+    }
+    ModelRootImpl modelRoot = createModel(2, 1);
+
+    createRuleEngine(rulesPerGroup, false, 3, 1).processInventory(modelRoot);
+
+    for (Application application : modelRoot.getEngagement().getApplications()) {
+      String expected = "repo" + application.getName().substring("Application".length()) + "-g1-g2-g3-g4";
+      assertEquals(expected, application.getSourceRepo());
+    }
+  }
+
+  /**
+   * Test method for {@link DroolsRuleEngine#processInventory(com.devonfw.tools.solicitor.model.ModelRoot)} with
+   * partitioned execution. The result needs to be the same as when executing the rules in a single session.
+   */
+  @Test
+  public void testProcessInventoryExecutingPartitioned() {
+
+    String drl = DRL_HEADER //
+        + "rule \"component\"\n" //
+        + "when\n" //
+        + "  $a : Application()\n" //
+        + "  $ac : ApplicationComponent( application == $a )\n" //
+        + "then\n" //
+        + "  $ac.setOssHomepage($a.getName() + \":\" + $ac.getArtifactId() + \":\" + $ac.getVersion());\n" //
+        + "end\n" //
+        + "rule \"count\"\n" //
+        + "when\n" //
+        + "  $a : Application()\n" //
+        + "  accumulate( ApplicationComponent( application == $a ); $n : count() )\n" //
+        + "then\n" //
+        + "  $a.setSourceRepo($a.getSourceRepo() + \"-\" + $n);\n" //
+        + "end\n";
+    Map<String, String> rulesPerGroup = new LinkedHashMap<>();
+    rulesPerGroup.put("group", drl);
+    ModelRootImpl singleSessionModel = createModel(5, 20);
+    ModelRootImpl partitionedModel = createModel(5, 20);
+
+    createRuleEngine(rulesPerGroup, false, 1, 1).processInventory(singleSessionModel);
+    createRuleEngine(rulesPerGroup, false, 1, 4).processInventory(partitionedModel);
+
+    List<Application> expectedApplications = singleSessionModel.getEngagement().getApplications();
+    List<Application> actualApplications = partitionedModel.getEngagement().getApplications();
+    assertEquals(expectedApplications.size(), actualApplications.size());
+    for (int i = 0; i < expectedApplications.size(); i++) {
+      Application expected = expectedApplications.get(i);
+      Application actual = actualApplications.get(i);
+      assertEquals("repo" + i + "-20", expected.getSourceRepo());
+      assertEquals(expected.getSourceRepo(), actual.getSourceRepo());
+      for (int j = 0; j < expected.getApplicationComponents().size(); j++) {
+        assertEquals(expected.getApplicationComponents().get(j).getOssHomepage(),
+            actual.getApplicationComponents().get(j).getOssHomepage());
+      }
+    }
+  }
+
+  /**
+   * Test method for {@link DroolsRuleEngine#processInventory(com.devonfw.tools.solicitor.model.ModelRoot)} with
+   * partitioned execution. A cross application rule group needs to see all {@link Application}s while a partitioned
+   * rule group only sees a single {@link Application} per session.
+   */
+  @Test
+  public void testProcessInventoryCrossApplication() {
+
+    String drl = DRL_HEADER //
+        + "rule \"count applications\"\n" //
+        + "when\n" //
+        + "  $e : Engagement()\n" //
+        + "  accumulate( Application(); $n : count() )\n" //
+        + "then\n" //
+        + "  $e.setClientName(\"\" + $n);\n" //
+        + "end\n";
+    Map<String, String> rulesPerGroup = new LinkedHashMap<>();
+    rulesPerGroup.put("group", drl);
+
+    ModelRootImpl crossApplicationModel = createModel(3, 1);
+    createRuleEngine(rulesPerGroup, true, 1, 4).processInventory(crossApplicationModel);
+    assertEquals("3", crossApplicationModel.getEngagement().getClientName());
+
+    ModelRootImpl partitionedModel = createModel(3, 1);
+    createRuleEngine(rulesPerGroup, false, 1, 4).processInventory(partitionedModel);
+    assertEquals("1", partitionedModel.getEngagement().getClientName());
+  }
+
+}
@@ -3,9 +3,18 @@
  */
 package com.devonfw.tools.solicitor.ruleengine.drools;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.Test;
 
 import com.devonfw.tools.solicitor.common.DeprecationChecker;
@@ -66,4 +75,70 @@ public class ModelHelperTest {
 
   }
 
+  /**
+   * Test method for
+   * {@link com.devonfw.tools.solicitor.ruleengine.drools.ModelHelper#match(java.lang.String, java.lang.String)}
+   * checking that compiled patterns are cached and that the cache is cleared when it is full.
+   */
+  @Test
+  public void testMatchCachesPatterns() {
+
+    ModelHelper.PATTERN_CACHE.clear();
+    assertTrue(ModelHelper.match("abc", "a.c (REGEX)"));
+    Pattern pattern = ModelHelper.PATTERN_CACHE.get("a.c");
+    assertTrue(ModelHelper.match("abc", "a.c (REGEX)"));
+    assertFalse(ModelHelper.match("abd", "a.c (REGEX)"));
+    assertSame(pattern, ModelHelper.PATTERN_CACHE.get("a.c"));
+
+    // fill the cache
+    for (int i = 1; i < ModelHelper.MAX_PATTERN_CACHE_SIZE; i++) {
+      assertTrue(ModelHelper.match("x" + i, "x" + i + " (REGEX)"));
+    }
+    assertEquals(ModelHelper.MAX_PATTERN_CACHE_SIZE, ModelHelper.PATTERN_CACHE.size());
+    assertTrue(ModelHelper.match("y", "y (REGEX)"));
+
+    assertEquals(1, ModelHelper.PATTERN_CACHE.size());
+    assertTrue(ModelHelper.PATTERN_CACHE.containsKey("y"));
+    assertTrue(ModelHelper.match("abc", "a.c (REGEX)"));
+    ModelHelper.PATTERN_CACHE.clear();
+  }
+
+  /**
+   * Test method for
+   * {@link com.devonfw.tools.solicitor.ruleengine.drools.ModelHelper#match(java.lang.String, java.lang.String)}
+   * checking that matching from multiple threads concurrently gives correct results and keeps the cache bounded, also
+   * when it needs to be cleared.
+   *
+   * @throws Exception if something unexpected happens
+   */
+  @Test
+  public void testMatchConcurrently() throws Exception {
+
+    ModelHelper.PATTERN_CACHE.clear();
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        int offset = t;
+        results.add(executor.submit(() -> {
+          boolean allCorrect = true;
+          for (int i = 0; i < 2 * ModelHelper.MAX_PATTERN_CACHE_SIZE; i++) {
+            int n = (i + offset * 1000) % (ModelHelper.MAX_PATTERN_CACHE_SIZE + 500);
+            allCorrect &= ModelHelper.match("v" + n, "v" + n + " (REGEX)");
+            allCorrect &= !ModelHelper.match("w" + n, "v" + n + " (REGEX)");
+          }
+          return allCorrect;
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertTrue(ModelHelper.PATTERN_CACHE.size() <= ModelHelper.MAX_PATTERN_CACHE_SIZE + threads);
+    ModelHelper.PATTERN_CACHE.clear();
+  }
+
 }
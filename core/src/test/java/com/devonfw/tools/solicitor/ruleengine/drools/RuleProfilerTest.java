@@ -0,0 +1,55 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.ruleengine.drools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.utils.KieHelper;
+
+/**
+ * Tests for {@link RuleProfiler}.
+ */
+class RuleProfilerTest {
+
+  private static final String DRL = "package com.devonfw.tools.solicitor.rules;\n" //
+      + "rule \"Short\"\n when\n $s : String( length < 3 )\n then\nend\n" //
+      + "rule \"Never\"\n when\n $s : String( length > 100 )\n then\nend\n" //
+      + "rule \"Slow\"\n when\n $s : String( this == \"slow\" )\n then\n Thread.sleep(20);\nend\n";
+
+  /**
+   * Test that matches, firings and consequence times are recorded per rule and sorted by consequence time.
+   */
+  @Test
+  void testProfiling() {
+
+    RuleProfiler profiler = new RuleProfiler("test");
+    KieSession ksession = new KieHelper().addContent(DRL, ResourceType.DRL).build().newKieSession();
+    ksession.addEventListener(profiler);
+    ksession.insert("a");
+    ksession.insert("bb");
+    ksession.insert("slow");
+    assertEquals(3, ksession.fireAllRules());
+    ksession.dispose();
+
+    List<RuleProfiler.RuleStatistics> statistics = profiler.getStatistics();
+    assertEquals(2, statistics.size());
+    assertEquals("Slow", statistics.get(0).getRuleName());
+    assertEquals(1, statistics.get(0).getFirings());
+    assertTrue(statistics.get(0).getConsequenceTimeMillis() >= 20.0);
+    assertEquals("Short", statistics.get(1).getRuleName());
+    assertEquals(2, statistics.get(1).getMatches());
+    assertEquals(2, statistics.get(1).getFirings());
+
+    String table = profiler.toTable(1);
+    assertEquals(2, table.split("\\R").length);
+    assertTrue(table.contains("Slow"));
+  }
+
+}
@@ -0,0 +1,231 @@
+package com.devonfw.tools.solicitor.writer;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.devonfw.tools.solicitor.common.ReportingGroupHandler;
+import com.devonfw.tools.solicitor.model.ModelFactory;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.devonfw.tools.solicitor.model.inventory.ApplicationComponent;
+import com.devonfw.tools.solicitor.model.inventory.NormalizedLicense;
+import com.devonfw.tools.solicitor.model.masterdata.Application;
+import com.devonfw.tools.solicitor.model.masterdata.Engagement;
+import com.devonfw.tools.solicitor.model.masterdata.EngagementType;
+import com.devonfw.tools.solicitor.model.masterdata.GoToMarketModel;
+import com.devonfw.tools.solicitor.model.masterdata.UsagePattern;
+import com.devonfw.tools.solicitor.writer.data.DataTable;
+import com.devonfw.tools.solicitor.writer.data.DataTableField;
+import com.devonfw.tools.solicitor.writer.data.DataTableFieldImpl;
+import com.devonfw.tools.solicitor.writer.data.DataTableImpl;
+import com.devonfw.tools.solicitor.writer.data.DataTableRow.RowDiffStatus;
+
+/**
+ * Tests of {@link ResultDatabaseFactory}.
+ */
+@SpringBootTest
+public class ResultDatabaseFactoryTest {
+
+  private static final String APPLICATIONS_SQL = "classpath:com/devonfw/tools/solicitor/sql/allden_applications.sql";
+
+  private static final String NORMALIZEDLICENSES_SQL =
+      "classpath:com/devonfw/tools/solicitor/sql/allden_normalizedlicenses.sql";
+
+  @Autowired
+  private ResultDatabaseFactory resultDatabaseFactory;
+
+  @Autowired
+  private ModelFactory modelFactory;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  /**
+   * Resets the configuration of the {@link ResultDatabaseFactory} which is shared within the application context.
+   */
+  @AfterEach
+  public void resetTextPoolTable() {
+
+    this.resultDatabaseFactory.setTextPoolTable(false);
+  }
+
+  /**
+   * Creates a model with a single application containing the given number of {@link ApplicationComponent}s, each
+   * having a single {@link NormalizedLicense}.
+   *
+   * @param applicationName the name of the application
+   * @param components the number of {@link ApplicationComponent}s
+   * @return the model
+   */
+  private ModelRoot createModel(String applicationName, int components) {
+
+    ModelRoot modelRoot = this.modelFactory.newModelRoot();
+    Engagement engagement = this.modelFactory.newEngagement("Engagement", EngagementType.INTERN, "Client",
+        GoToMarketModel.LICENSE);
+    engagement.setModelRoot(modelRoot);
+    Application application = this.modelFactory.newApplication(applicationName, "1.0.0", "2024-01-01", "repo",
+        "Java8", ReportingGroupHandler.DEFAULT_REPORTING_GROUP_LIST);
+    application.setEngagement(engagement);
+    for (int i = 0; i < components; i++) {
+      ApplicationComponent ac = this.modelFactory.newApplicationComponent();
+      ac.setApplication(application);
+      ac.setGroupId("com.devonfw");
+      ac.setArtifactId("artifact" + i);
+      ac.setVersion("1.0." + (i % 5));
+      ac.setUsagePattern(UsagePattern.DYNAMIC_LINKING);
+      ac.setNoticeFileContent("Notice of artifact" + i);
+      NormalizedLicense nl = this.modelFactory.newNormalizedLicense();
+      nl.setApplicationComponent(ac);
+      nl.setDeclaredLicense("License" + (i % 3));
+      nl.setNormalizedLicense("License" + (i % 3));
+      nl.setEffectiveNormalizedLicense("License" + (i % 3));
+      nl.setNormalizedLicenseContent("Text of License" + (i % 3));
+      nl.setEffectiveNormalizedLicenseContent("Text of License" + (i % 3));
+    }
+    return modelRoot;
+  }
+
+  /**
+   * Counts the rows of the given table.
+   *
+   * @param tableName the name of the table
+   * @return the number of rows
+   */
+  private int countRows(String tableName) {
+
+    return this.jdbcTemplate.queryForObject("select count(*) from " + tableName, Integer.class);
+  }
+
+  /**
+   * Test method for {@link ResultDatabaseFactory#initDataModel(ModelRoot)}. All objects of a model which needs
+   * multiple insert batches per table need to be stored.
+   */
+  @Test
+  public void testInitDataModelStoresAllRows() {
+
+    this.resultDatabaseFactory.initDataModel(createModel("Application", 2500));
+
+    Assertions.assertEquals(1, countRows("MODELROOT"));
+    Assertions.assertEquals(1, countRows("ENGAGEMENT"));
+    Assertions.assertEquals(1, countRows("APPLICATION"));
+    Assertions.assertEquals(2500, countRows("APPLICATIONCOMPONENT"));
+    Assertions.assertEquals(2500, countRows("NORMALIZEDLICENSE"));
+  }
+
+  /**
+   * Test method for {@link ResultDatabaseFactory#getDataTable(String, String)}. Repeated calls for the same SQL and
+   * reporting group must not execute the query again and modifications of a table returned for a cache hit must not
+   * affect the results of later calls.
+   */
+  @Test
+  public void testGetDataTableReusesResult() {
+
+    this.resultDatabaseFactory.initDataModel(createModel("Application", 2));
+
+    DataTable first = this.resultDatabaseFactory.getDataTable(APPLICATIONS_SQL,
+        ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+    Assertions.assertEquals(1, countTableRows(first));
+
+    // a rerun of the query would no longer find the application
+    this.jdbcTemplate.execute("delete from APPLICATION");
+    DataTable second = this.resultDatabaseFactory.getDataTable(APPLICATIONS_SQL,
+        ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+    Assertions.assertEquals(1, countTableRows(second));
+    Assertions.assertNotSame(first, second);
+
+    // modify the table returned for the cache hit
+    second.getDataRow(0).setRowDiffStatus(RowDiffStatus.NEW);
+    ((DataTableFieldImpl) second.getDataRow(0).getValueByIndex(1)).setOldValue("modified");
+    ((DataTableImpl) second).addRow(new DataTableField[second.getHeadRow().length]);
+
+    DataTable third = this.resultDatabaseFactory.getDataTable(APPLICATIONS_SQL,
+        ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+    Assertions.assertEquals(1, countTableRows(third));
+    Assertions.assertEquals(RowDiffStatus.UNAVAILABLE, third.getDataRow(0).getRowDiffStatus());
+    Assertions.assertEquals(DataTableField.FieldDiffStatus.UNAVAILABLE,
+        third.getDataRow(0).getValueByIndex(1).getDiffStatus());
+  }
+
+  /**
+   * Test method for {@link ResultDatabaseFactory#initDataModel(ModelRoot)} with texts stored in a separate table. As
+   * for a diff the old and the new model are loaded one after the other; the result of an SQL statement must be the
+   * same as without the separate text table.
+   */
+  @Test
+  public void testInitDataModelTwiceWithTextPoolTable() {
+
+    ModelRoot oldModel = createModel("Application", 20);
+    ModelRoot newModel = createModel("Application", 30);
+
+    this.resultDatabaseFactory.setTextPoolTable(false);
+    this.resultDatabaseFactory.initDataModel(oldModel);
+    this.resultDatabaseFactory.initDataModel(newModel);
+    DataTable expected = this.resultDatabaseFactory.getDataTable(NORMALIZEDLICENSES_SQL,
+        ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+
+    this.resultDatabaseFactory.setTextPoolTable(true);
+    this.resultDatabaseFactory.initDataModel(oldModel);
+    this.resultDatabaseFactory.initDataModel(newModel);
+    DataTable actual = this.resultDatabaseFactory.getDataTable(NORMALIZEDLICENSES_SQL,
+        ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+
+    Assertions.assertEquals(30, countRows("NORMALIZEDLICENSE_DATA"));
+    // three distinct license texts and one notice text per component
+    Assertions.assertEquals(3 + 30, countRows("TEXTPOOL"));
+    Assertions.assertArrayEquals(expected.getHeadRow(), actual.getHeadRow());
+    Assertions.assertEquals(30, countTableRows(actual));
+    for (int row = 0; row < 30; row++) {
+      for (int col = 0; col < expected.getHeadRow().length; col++) {
+        Assertions.assertEquals(expected.getDataRow(row).getValueByIndex(col).getValue(),
+            actual.getDataRow(row).getValueByIndex(col).getValue(), expected.getHeadRow()[col]);
+      }
+    }
+  }
+
+  /**
+   * Test method for {@link ResultDatabaseFactory#initOldDataModel(ModelRoot)}. The old model is stored in a separate
+   * schema so that the same SQL statement gives the results of the current and the old model without reloading any of
+   * them.
+   */
+  @Test
+  public void testInitOldDataModelUsesSeparateSchema() {
+
+    this.resultDatabaseFactory.setTextPoolTable(true);
+    this.resultDatabaseFactory.initDataModel(createModel("Application", 30));
+    this.resultDatabaseFactory.initOldDataModel(createModel("Application", 20));
+
+    DataTable oldTable = this.resultDatabaseFactory.getOldDataTable(NORMALIZEDLICENSES_SQL,
+        ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+    DataTable newTable = this.resultDatabaseFactory.getDataTable(NORMALIZEDLICENSES_SQL,
+        ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+
+    Assertions.assertEquals(20, countTableRows(oldTable));
+    Assertions.assertEquals(30, countTableRows(newTable));
+    Assertions.assertEquals(30, countRows("NORMALIZEDLICENSE"));
+    Assertions.assertEquals(20, countRows("OLDMODEL.NORMALIZEDLICENSE"));
+    int textColumn = Arrays.asList(oldTable.getHeadRow()).indexOf("effectiveNormalizedLicenseContent");
+    Assertions.assertEquals("Text of License0", oldTable.getDataRow(0).getValueByIndex(textColumn).getValue());
+  }
+
+  /**
+   * Counts the rows of the given {@link DataTable}.
+   *
+   * @param dataTable the table
+   * @return the number of rows
+   */
+  private int countTableRows(DataTable dataTable) {
+
+    int count = 0;
+    for (Iterator<?> it = dataTable.iterator(); it.hasNext(); it.next()) {
+      count++;
+    }
+    return count;
+  }
+
+}
@@ -0,0 +1,148 @@
+package com.devonfw.tools.solicitor.writer;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devonfw.tools.solicitor.SolicitorSetup;
+import com.devonfw.tools.solicitor.common.ReportingGroupHandler;
+import com.devonfw.tools.solicitor.config.WriterConfig;
+import com.devonfw.tools.solicitor.model.ModelRoot;
+import com.devonfw.tools.solicitor.writer.data.DataTableDiffer;
+import com.devonfw.tools.solicitor.writer.data.DataTableImpl;
+
+/**
+ * Tests of {@link WriterFacadeImpl}.
+ */
+class WriterFacadeImplTest {
+
+  /**
+   * Creates a {@link WriterConfig} with a single data table.
+   *
+   * @param target the target of the writer
+   * @param enableReportingGroups whether the writer is executed for all reporting groups
+   * @return the configuration
+   */
+  private WriterConfig createWriterConfig(String target, boolean enableReportingGroups) {
+
+    WriterConfig writerConfig = new WriterConfig(Collections.singletonMap("TABLE", "classpath:" + target + ".sql"));
+    writerConfig.setType("mock");
+    writerConfig.setTemplateSource("classpath:template");
+    writerConfig.setTarget(target + "_${reportingGroup}");
+    writerConfig.setEnableReportingGroups(enableReportingGroups);
+    return writerConfig;
+  }
+
+  /**
+   * Verifies that the report with the given target has been written.
+   *
+   * @param inOrder the verification in order
+   * @param writer the mocked writer
+   * @param target the expected target of the report
+   */
+  private void verifyReportWritten(InOrder inOrder, Writer writer, String target) {
+
+    inOrder.verify(writer).writeReport(ArgumentMatchers.eq("classpath:template"), ArgumentMatchers.eq(target),
+        ArgumentMatchers.any());
+  }
+
+  /**
+   * Test method for {@link WriterFacadeImpl#writeResult(ModelRoot, ModelRoot)} with two reporting groups. The
+   * reporting database needs to be initialized only once per reporting group and all writers need to be executed for
+   * each of their reporting groups.
+   */
+  @Test
+  public void testWriteResultInitializesDatabaseOncePerReportingGroup() {
+
+    SolicitorSetup solicitorSetup = Mockito.mock(SolicitorSetup.class);
+    Mockito.when(solicitorSetup.getReportingGroups()).thenReturn(Arrays.asList("groupA", "groupB"));
+    Mockito.when(solicitorSetup.getWriterSetups()).thenReturn(Arrays.asList(createWriterConfig("first", true),
+        createWriterConfig("second", true), createWriterConfig("third", false)));
+    ResultDatabaseFactory resultDatabaseFactory = Mockito.mock(ResultDatabaseFactory.class);
+    Mockito.when(resultDatabaseFactory.getDataTable(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+        .thenReturn(new DataTableImpl(new String[] {}));
+    Writer writer = Mockito.mock(Writer.class);
+    WriterFactory writerFactory = Mockito.mock(WriterFactory.class);
+    Mockito.when(writerFactory.writerFor("mock")).thenReturn(writer);
+    ModelRoot modelRoot = Mockito.mock(ModelRoot.class);
+
+    WriterFacadeImpl writerFacade = new WriterFacadeImpl();
+    ReflectionTestUtils.setField(writerFacade, "solicitorSetup", solicitorSetup);
+    ReflectionTestUtils.setField(writerFacade, "resultDatabaseFactory", resultDatabaseFactory);
+    ReflectionTestUtils.setField(writerFacade, "writerFactory", writerFactory);
+    ReflectionTestUtils.setField(writerFacade, "reportingGroupHandler", new ReportingGroupHandler());
+
+    writerFacade.writeResult(modelRoot, null);
+
+    // one initialization for each of the groups "groupA", "groupB" and "default"
+    Mockito.verify(resultDatabaseFactory, Mockito.times(3)).initDataModel(modelRoot);
+    InOrder inOrder = Mockito.inOrder(modelRoot, resultDatabaseFactory, writer);
+    inOrder.verify(modelRoot).setReportingGroup("groupA");
+    inOrder.verify(resultDatabaseFactory).initDataModel(modelRoot);
+    verifyReportWritten(inOrder, writer, "first_groupA");
+    verifyReportWritten(inOrder, writer, "second_groupA");
+    inOrder.verify(modelRoot).setReportingGroup("groupB");
+    inOrder.verify(resultDatabaseFactory).initDataModel(modelRoot);
+    verifyReportWritten(inOrder, writer, "first_groupB");
+    verifyReportWritten(inOrder, writer, "second_groupB");
+    inOrder.verify(modelRoot).setReportingGroup(ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+    inOrder.verify(resultDatabaseFactory).initDataModel(modelRoot);
+    verifyReportWritten(inOrder, writer, "third_");
+    Mockito.verify(writer, Mockito.times(5)).writeReport(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(),
+        ArgumentMatchers.any());
+  }
+
+  /**
+   * Test method for {@link WriterFacadeImpl#writeResult(ModelRoot, ModelRoot)} with an old model. Both models need to
+   * be loaded only once and the data tables of a writer need to be created and diffed directly before its report is
+   * written so that the data tables of only one writer are held in memory at the same time.
+   */
+  @Test
+  public void testWriteResultProcessesOneWriterAfterTheOther() {
+
+    SolicitorSetup solicitorSetup = Mockito.mock(SolicitorSetup.class);
+    Mockito.when(solicitorSetup.getWriterSetups())
+        .thenReturn(Arrays.asList(createWriterConfig("first", false), createWriterConfig("second", false)));
+    ResultDatabaseFactory resultDatabaseFactory = Mockito.mock(ResultDatabaseFactory.class);
+    Mockito.when(resultDatabaseFactory.getDataTable(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+        .thenReturn(new DataTableImpl(new String[] {}));
+    Mockito.when(resultDatabaseFactory.getOldDataTable(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+        .thenReturn(new DataTableImpl(new String[] {}));
+    DataTableDiffer dataTableDiffer = Mockito.mock(DataTableDiffer.class);
+    Mockito.when(dataTableDiffer.diff(ArgumentMatchers.any(), ArgumentMatchers.any()))
+        .thenReturn(new DataTableImpl(new String[] {}));
+    Writer writer = Mockito.mock(Writer.class);
+    WriterFactory writerFactory = Mockito.mock(WriterFactory.class);
+    Mockito.when(writerFactory.writerFor("mock")).thenReturn(writer);
+    ModelRoot modelRoot = Mockito.mock(ModelRoot.class);
+    ModelRoot oldModelRoot = Mockito.mock(ModelRoot.class);
+
+    WriterFacadeImpl writerFacade = new WriterFacadeImpl();
+    ReflectionTestUtils.setField(writerFacade, "solicitorSetup", solicitorSetup);
+    ReflectionTestUtils.setField(writerFacade, "resultDatabaseFactory", resultDatabaseFactory);
+    ReflectionTestUtils.setField(writerFacade, "writerFactory", writerFactory);
+    ReflectionTestUtils.setField(writerFacade, "dataTableDiffer", dataTableDiffer);
+    ReflectionTestUtils.setField(writerFacade, "reportingGroupHandler", new ReportingGroupHandler());
+
+    writerFacade.writeResult(modelRoot, oldModelRoot);
+
+    Mockito.verify(resultDatabaseFactory, Mockito.times(1)).initDataModel(modelRoot);
+    Mockito.verify(resultDatabaseFactory, Mockito.times(1)).initOldDataModel(oldModelRoot);
+    InOrder inOrder = Mockito.inOrder(resultDatabaseFactory, dataTableDiffer, writer);
+    inOrder.verify(resultDatabaseFactory).initDataModel(modelRoot);
+    inOrder.verify(resultDatabaseFactory).initOldDataModel(oldModelRoot);
+    for (String target : new String[] { "first", "second" }) {
+      String sql = "classpath:" + target + ".sql";
+      inOrder.verify(resultDatabaseFactory).getDataTable(sql, ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+      inOrder.verify(resultDatabaseFactory).getOldDataTable(sql, ReportingGroupHandler.DEFAULT_REPORTING_GROUP_NAME);
+      inOrder.verify(dataTableDiffer).diff(ArgumentMatchers.any(), ArgumentMatchers.any());
+      verifyReportWritten(inOrder, writer, target + "_");
+    }
+  }
+
+}
@@ -0,0 +1,110 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.writer.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.solicitor.writer.data.DataTableRow.RowDiffStatus;
+
+/**
+ * Tests for {@link DataTableDifferImpl}.
+ */
+class DataTableDifferImplTest {
+
+  private static final String[] HEADERS = new String[] { "CORR_KEY_0", "CORR_KEY_1", "VALUE" };
+
+  private DataTableDiffer differ = new DataTableDifferImpl();
+
+  private static void addRow(DataTableImpl table, String key0, String key1, String value) {
+
+    table.addRow(new DataTableField[] { new DataTableFieldImpl(key0), new DataTableFieldImpl(key1),
+    new DataTableFieldImpl(value) });
+  }
+
+  /**
+   * Test correlation via multiple correlation keys.
+   */
+  @Test
+  void testDiff() {
+
+    DataTableImpl newTable = new DataTableImpl(HEADERS);
+    addRow(newTable, "a", "x", "1");
+    addRow(newTable, "b", "y", "2");
+    addRow(newTable, "c", "z", "3");
+    addRow(newTable, "d", "w", "4");
+
+    DataTableImpl oldTable = new DataTableImpl(HEADERS);
+    addRow(oldTable, "q", "z", "3");
+    addRow(oldTable, "b", "y", "old2");
+    addRow(oldTable, "a", "x", "1");
+
+    DataTable result = this.differ.diff(newTable, oldTable);
+
+    assertEquals(RowDiffStatus.UNCHANGED, result.getDataRow(0).getRowDiffStatus());
+    assertEquals(RowDiffStatus.CHANGED, result.getDataRow(1).getRowDiffStatus());
+    assertEquals("old2", result.getDataRow(1).get("VALUE").getOldValue());
+    // correlated via CORR_KEY_1
+    assertEquals(RowDiffStatus.UNCHANGED, result.getDataRow(2).getRowDiffStatus());
+    assertEquals("q", result.getDataRow(2).get("CORR_KEY_0").getOldValue());
+    assertEquals(RowDiffStatus.NEW, result.getDataRow(3).getRowDiffStatus());
+    assertNull(result.getDataRow(3).get("VALUE").getOldValue());
+  }
+
+  /**
+   * Test that rows with identical correlation keys are correlated in the order of the tables and each old row is only
+   * used once.
+   */
+  @Test
+  void testDiffWithDuplicateKeys() {
+
+    DataTableImpl newTable = new DataTableImpl(HEADERS);
+    addRow(newTable, "a", "x", "1");
+    addRow(newTable, "a", "x", "2");
+    addRow(newTable, "a", "x", "3");
+
+    DataTableImpl oldTable = new DataTableImpl(HEADERS);
+    addRow(oldTable, "a", "x", "1");
+    addRow(oldTable, "a", "x", "2");
+
+    DataTable result = this.differ.diff(newTable, oldTable);
+
+    assertEquals("1", result.getDataRow(0).get("VALUE").getOldValue());
+    assertEquals(RowDiffStatus.UNCHANGED, result.getDataRow(0).getRowDiffStatus());
+    assertEquals("2", result.getDataRow(1).get("VALUE").getOldValue());
+    assertEquals(RowDiffStatus.UNCHANGED, result.getDataRow(1).getRowDiffStatus());
+    assertEquals(RowDiffStatus.NEW, result.getDataRow(2).getRowDiffStatus());
+  }
+
+  /**
+   * Test that calculating the diff again on a copy of an already diffed table gives the same result. This is relied on
+   * when results of SQL statements are reused for multiple writers.
+   */
+  @Test
+  void testDiffOfDiffedCopy() {
+
+    DataTableImpl newTable = new DataTableImpl(HEADERS);
+    addRow(newTable, "a", "x", "1");
+    addRow(newTable, "b", "y", "2");
+    addRow(newTable, "d", "w", "4");
+
+    DataTableImpl oldTable = new DataTableImpl(HEADERS);
+    addRow(oldTable, "b", "y", "old2");
+    addRow(oldTable, "a", "x", "1");
+
+    DataTable first = this.differ.diff(newTable, oldTable);
+    DataTable second = this.differ.diff(new DataTableImpl(first), oldTable);
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(first.getDataRow(i).getRowDiffStatus(), second.getDataRow(i).getRowDiffStatus());
+      assertEquals(first.getDataRow(i).get("VALUE").getOldValue(), second.getDataRow(i).get("VALUE").getOldValue());
+    }
+    assertEquals(RowDiffStatus.UNCHANGED, second.getDataRow(0).getRowDiffStatus());
+    assertEquals(RowDiffStatus.CHANGED, second.getDataRow(1).getRowDiffStatus());
+    assertEquals(RowDiffStatus.NEW, second.getDataRow(2).getRowDiffStatus());
+  }
+
+}
@@ -0,0 +1,49 @@
+/**
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.devonfw.tools.solicitor.writer.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import com.devonfw.tools.solicitor.writer.data.DataTableField.FieldDiffStatus;
+import com.devonfw.tools.solicitor.writer.data.DataTableRow.RowDiffStatus;
+
+/**
+ * Tests for {@link DataTableImpl}.
+ */
+class DataTableImplTest {
+
+  /**
+   * Test that the copy constructor creates a deep copy which can be modified independently of the source.
+   */
+  @Test
+  void testCopyConstructor() {
+
+    DataTableImpl source = new DataTableImpl(new String[] { "A", "B" });
+    source.addRow(new DataTableField[] { new DataTableFieldImpl("a1"), new DataTableFieldImpl("b1") });
+    source.addRow(new DataTableField[] { new DataTableFieldImpl("a2", "x"), new DataTableFieldImpl(null) });
+
+    DataTableImpl copy = new DataTableImpl(source);
+
+    assertArrayEquals(source.getHeadRow(), copy.getHeadRow());
+    assertEquals("a1", copy.getDataRow(0).get("A").getValue());
+    assertEquals(FieldDiffStatus.UNAVAILABLE, copy.getDataRow(0).get("A").getDiffStatus());
+    assertEquals("x", copy.getDataRow(1).get("A").getOldValue());
+    assertEquals(FieldDiffStatus.CHANGED, copy.getDataRow(1).get("A").getDiffStatus());
+    assertNull(copy.getDataRow(1).get("B").getValue());
+
+    copy.getDataRow(0).get("A").setOldValue("a1");
+    copy.getDataRow(0).setRowDiffStatus(RowDiffStatus.UNCHANGED);
+
+    assertNotSame(source.getDataRow(0).get("A"), copy.getDataRow(0).get("A"));
+    assertNull(source.getDataRow(0).get("A").getOldValue());
+    assertEquals(FieldDiffStatus.UNAVAILABLE, source.getDataRow(0).get("A").getDiffStatus());
+    assertEquals(RowDiffStatus.UNAVAILABLE, source.getDataRow(0).getRowDiffStatus());
+  }
+
+}